@@ -0,0 +1,214 @@
+package com.carenest.business.caregiverservice.infrastructure.repository.querydsl;
+
+import static com.carenest.business.caregiverservice.domain.model.QCaregiver.*;
+import static com.carenest.business.caregiverservice.domain.model.category.QCaregiverCategoryLocation.*;
+import static com.carenest.business.caregiverservice.domain.model.category.QCaregiverCategoryService.*;
+import static com.carenest.business.caregiverservice.domain.model.category.QCategoryLocation.*;
+import static com.carenest.business.caregiverservice.domain.model.category.QCategoryService.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.carenest.business.caregiverservice.domain.model.Caregiver;
+import com.carenest.business.caregiverservice.domain.model.GenderType;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 간병인 10만 명(지역/서비스 각 2개씩 연결) 기준 목록 조회 비교. Docker 가 필요하다.
+ * legacy*: 기존 방식 (컬렉션 fetch join + offset/limit → Hibernate 가 전체 행을 읽고 메모리에서 페이징)
+ * twoPhasePage: CaregiverRepositoryImpl.findAllCaregivers(Pageable) (id 만 DB 에서 페이징 → IN 으로 카테고리 적재)
+ * keysetPage: CaregiverRepositoryImpl.findAllCaregivers(CaregiverCursor, size) (같은 깊이를 커서로 조회)
+ * filteredIds: CaregiverRepositoryImpl.getCaregiverIdsByFilters (엔티티 없이 id 만 조회)
+ *
+ * ./gradlew :caregiver-service:jmh -Pjmh.includes=CaregiverListQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CaregiverListQueryBenchmark {
+
+	private static final int CAREGIVERS = 100_000;
+	private static final int PAGE_SIZE = 20;
+	private static final String LOCATION = "지역1";
+
+	// 0: 첫 페이지, 2000: 앞선 40,000건을 건너뛰는 깊은 페이지
+	@Param({"0", "2000"})
+	private int page;
+
+	private PostgreSQLContainer<?> postgres;
+	private EntityManagerFactory entityManagerFactory;
+	private EntityManager entityManager;
+	private JPAQueryFactory queryFactory;
+	private CaregiverRepositoryImpl repository;
+	private Pageable pageable;
+	private CaregiverCursor cursor;
+
+	@Setup
+	public void setUp() throws SQLException {
+		postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+		postgres.start();
+
+		// 이 서비스는 마이그레이션 없이 엔티티로 스키마를 만든다
+		LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setDataSource(new DriverManagerDataSource(
+			postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+		factoryBean.setPackagesToScan(Caregiver.class.getPackageName());
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+		factoryBean.afterPropertiesSet();
+		entityManagerFactory = factoryBean.getObject();
+		entityManager = entityManagerFactory.createEntityManager();
+
+		seed();
+
+		queryFactory = new JPAQueryFactory(entityManager);
+		repository = new CaregiverRepositoryImpl(queryFactory);
+		pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Order.desc("createdAt")));
+		cursor = page == 0 ? null : cursorAt(page * PAGE_SIZE);
+	}
+
+	@TearDown
+	public void tearDown() {
+		entityManager.close();
+		entityManagerFactory.close();
+		postgres.stop();
+	}
+
+	@Benchmark
+	public List<Caregiver> legacyPage() {
+		entityManager.clear();
+		JPAQuery<Caregiver> careQuery = queryFactory
+			.selectFrom(caregiver).distinct()
+			.leftJoin(caregiver.caregiverCategoryServices, caregiverCategoryService).fetchJoin()
+			.leftJoin(caregiverCategoryService.categoryService, categoryService).fetchJoin()
+			.leftJoin(caregiver.caregiverCategoryLocations, caregiverCategoryLocation).fetchJoin()
+			.leftJoin(caregiverCategoryLocation.categoryLocation, categoryLocation).fetchJoin()
+			.orderBy(caregiver.createdAt.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize());
+
+		Long total = queryFactory
+			.select(caregiver.id.countDistinct())
+			.from(caregiver)
+			.fetchOne();
+
+		return new PageImpl<>(careQuery.fetch(), pageable, total != null ? total : 0L).getContent();
+	}
+
+	@Benchmark
+	public List<Caregiver> twoPhasePage() {
+		entityManager.clear();
+		return repository.findAllCaregivers(pageable).getContent();
+	}
+
+	@Benchmark
+	public List<Caregiver> keysetPage() {
+		entityManager.clear();
+		return repository.findAllCaregivers(cursor, PAGE_SIZE).getContent();
+	}
+
+	@Benchmark
+	public List<UUID> legacyFilteredIds() {
+		entityManager.clear();
+		return queryFactory
+			.selectFrom(caregiver)
+			.leftJoin(caregiver.caregiverCategoryLocations, caregiverCategoryLocation).fetchJoin()
+			.leftJoin(caregiver.caregiverCategoryServices, caregiverCategoryService).fetchJoin()
+			.where(
+				caregiverCategoryLocation.categoryLocation.name.eq(LOCATION),
+				caregiver.gender.eq(GenderType.FEMALE),
+				caregiver.approvalStatus.eq(true)
+			)
+			.fetch()
+			.stream()
+			.map(Caregiver::getId)
+			.toList();
+	}
+
+	@Benchmark
+	public List<UUID> filteredIds() {
+		entityManager.clear();
+		return repository.getCaregiverIdsByFilters(LOCATION, GenderType.FEMALE, null, null);
+	}
+
+	private void seed() throws SQLException {
+		try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+			statement.execute("""
+				INSERT INTO p_category_location (id, name, type)
+				SELECT i, '지역' || i, 'CITY' FROM generate_series(1, 20) AS i
+				""");
+			statement.execute("""
+				INSERT INTO p_category_service (id, name, type)
+				SELECT i, '서비스' || i, 'CARE' FROM generate_series(1, 10) AS i
+				""");
+			statement.execute("""
+				INSERT INTO p_caregiver (id, user_id, description, rating, experience_years, price_per_hour,
+					price_per_day, approval_status, gender, status, created_at, updated_at, is_deleted)
+				SELECT md5('c' || i)::uuid, md5('u' || i)::uuid, repeat('소개 ', 20), (i % 50) / 10.0, i % 30,
+					10000 + i % 5000, 100000 + i % 50000, i % 10 <> 0,
+					CASE WHEN i % 2 = 0 THEN 'MALE' ELSE 'FEMALE' END, 'AVAILABLE',
+					TIMESTAMP '2024-01-01' + i * INTERVAL '1 minute',
+					TIMESTAMP '2024-01-01' + i * INTERVAL '1 minute', false
+				FROM generate_series(1, %d) AS i
+				""".formatted(CAREGIVERS));
+			statement.execute("""
+				INSERT INTO p_caregiver_category_location (caregiver_id, category_id)
+				SELECT md5('c' || i)::uuid, 1 + (i + k) % 20
+				FROM generate_series(1, %d) AS i, generate_series(0, 1) AS k
+				""".formatted(CAREGIVERS));
+			statement.execute("""
+				INSERT INTO p_caregiver_category_service (caregiver_id, category_id)
+				SELECT md5('c' || i)::uuid, 1 + (i + k) % 10
+				FROM generate_series(1, %d) AS i, generate_series(0, 1) AS k
+				""".formatted(CAREGIVERS));
+			statement.execute("ANALYZE");
+		}
+	}
+
+	// 오프셋 방식의 같은 페이지를 커서로 가리키도록 직전 행의 위치를 구한다
+	private CaregiverCursor cursorAt(int offset) throws SQLException {
+		try (Connection connection = connect();
+			 Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("""
+				 SELECT created_at, id FROM p_caregiver
+				 ORDER BY created_at DESC, id DESC
+				 OFFSET %d LIMIT 1
+				 """.formatted(offset - 1))) {
+			resultSet.next();
+			return new CaregiverCursor(resultSet.getTimestamp(1).toLocalDateTime(), resultSet.getObject(2, UUID.class));
+		}
+	}
+
+	private Connection connect() throws SQLException {
+		return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+	}
+}
@@ -0,0 +1,21 @@
+package com.carenest.business.caregiverservice.application.dto.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 검색 모델 갱신 시 발행되어 커밋 이후 인기 순위(sorted set)에 반영된다.
+ *
+ * @param rating         현재 평점, 삭제되었거나 평점이 없으면 null
+ * @param reviewCount    평점 이벤트로 받은 리뷰 수, 알 수 없으면 null (기존 값 유지)
+ * @param previousKeys   변경 전 소속 순위 키
+ * @param currentKeys    변경 후 소속 순위 키, 삭제 시 비어 있음
+ */
+public record CaregiverRankingChangedEvent(
+	UUID caregiverId,
+	Double rating,
+	Long reviewCount,
+	Set<String> previousKeys,
+	Set<String> currentKeys
+) {
+}
@@ -0,0 +1,10 @@
+package com.carenest.business.caregiverservice.application.dto.response;
+
+import java.util.List;
+
+// nextCursor 가 null 이면 마지막 페이지
+public record CaregiverCursorResponseServiceDTO(
+	List<CaregiverReadResponseServiceDTO> content,
+	String nextCursor
+) {
+}
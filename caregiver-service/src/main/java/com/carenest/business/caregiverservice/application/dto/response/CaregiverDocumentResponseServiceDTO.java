@@ -0,0 +1,17 @@
+package com.carenest.business.caregiverservice.application.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.carenest.business.caregiverservice.domain.model.DocumentStatus;
+
+public record CaregiverDocumentResponseServiceDTO(
+	UUID id,
+	String originalFilename,
+	DocumentStatus status,
+	String url,
+	String thumbnailUrl,
+	String failureReason,
+	LocalDateTime createdAt
+) {
+}
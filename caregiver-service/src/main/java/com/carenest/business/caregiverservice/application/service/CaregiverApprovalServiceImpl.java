@@ -1,6 +1,8 @@
 package com.carenest.business.caregiverservice.application.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -13,6 +15,7 @@ import com.carenest.business.caregiverservice.exception.CaregiverException;
 import com.carenest.business.caregiverservice.exception.ErrorCode;
 import com.carenest.business.caregiverservice.infrastructure.client.ReservationClient;
 import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationAcceptRequest;
+import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationBulkRequest;
 import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationRejectRequest;
 import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationResponse;
 import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverApprovalRepository;
@@ -33,6 +36,7 @@ public class CaregiverApprovalServiceImpl implements CaregiverApprovalService{
 	private final CaregiverRepository caregiverRepository;
 	private final CaregiverApprovalRepository caregiverApprovalRepository;
 	private final ReservationClient reservationClient;
+	private final CaregiverSearchService caregiverSearchService;
 
 	@Override
 	@Transactional
@@ -61,27 +65,52 @@ public class CaregiverApprovalServiceImpl implements CaregiverApprovalService{
 		// 2. 간병인 ID로 존재하는 승인/거부 조회
 		List<CaregiverApproval> approvals = caregiverApprovalRepository.findByCaregiverId(caregiver.getId());
 
+		// 3. 예약 정보를 건별이 아닌 묶음 단위로 한 번에 조회
+		Map<UUID, ReservationResponse> reservations = getReservationDetails(approvals, userId);
+
 		return approvals.stream()
-			.map(approval -> {
-				try{
-					// 예약 정보 조회
-					ReservationResponse resp = reservationClient.getReservationDetails(approval.getReservationId()).getData();
-					return new PendingApprovalResponse(
-						approval.getReservationId(),
-						approval.getCaregiverId(),
-						resp.getPatientCondition(),
-						resp.getCareAddress(),
-						resp.getServiceRequests(),
-						resp.getTotalAmount(),
-						resp.getServiceFee()
-					);
-				}catch (FeignException e){
-					log.warn("예약 정보 조회 실패: userId={}, error={}", userId, e.getMessage());
-					throw  new CaregiverException(ErrorCode.EXTERNAL_API_ERROR);
+			.filter(approval -> {
+				if (reservations.containsKey(approval.getReservationId())) {
+					return true;
 				}
+				log.warn("예약 정보 없음: reservationId={}", approval.getReservationId());
+				return false;
+			})
+			.map(approval -> {
+				ReservationResponse resp = reservations.get(approval.getReservationId());
+				return new PendingApprovalResponse(
+					approval.getReservationId(),
+					approval.getCaregiverId(),
+					resp.getPatientCondition(),
+					resp.getCareAddress(),
+					resp.getServiceRequests(),
+					resp.getTotalAmount(),
+					resp.getServiceFee()
+				);
 			}).toList();
 	}
 
+	private Map<UUID, ReservationResponse> getReservationDetails(List<CaregiverApproval> approvals, UUID userId) {
+		List<UUID> reservationIds = approvals.stream()
+			.map(CaregiverApproval::getReservationId)
+			.distinct()
+			.toList();
+
+		Map<UUID, ReservationResponse> reservations = new HashMap<>();
+		try {
+			for (int from = 0; from < reservationIds.size(); from += ReservationBulkRequest.MAX_SIZE) {
+				List<UUID> chunk = reservationIds.subList(from,
+					Math.min(from + ReservationBulkRequest.MAX_SIZE, reservationIds.size()));
+				reservations.putAll(reservationClient.getReservationDetailsBulk(
+					new ReservationBulkRequest(chunk, ReservationBulkRequest.CARE_DETAIL)).getData());
+			}
+		} catch (FeignException e) {
+			log.warn("예약 정보 조회 실패: userId={}, error={}", userId, e.getMessage());
+			throw new CaregiverException(ErrorCode.EXTERNAL_API_ERROR);
+		}
+		return reservations;
+	}
+
 	@Override
 	@Transactional
 	public void acceptCaregiverReservation(UUID reservationId, ReservationAcceptRequest request, UUID userId) {
@@ -97,6 +126,7 @@ public class CaregiverApprovalServiceImpl implements CaregiverApprovalService{
 
 			reservationClient.acceptReservation(caregiverApproval.getReservationId(),request);
 			caregiver.updateStatus(CaregiverStatus.IN_PROGRESS);
+			caregiverSearchService.sync(caregiver);
 			log.info("예약 수락 요청이 완료되었습니다.");
 
 		} catch (FeignException e){
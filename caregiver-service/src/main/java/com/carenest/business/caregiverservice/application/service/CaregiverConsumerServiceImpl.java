@@ -18,6 +18,7 @@ public class CaregiverConsumerServiceImpl implements CaregiverConsumerService {
 
 	private final CaregiverRepository caregiverRepository;
 	private final CaregiverDomainService caregiverDomainService;
+	private final CaregiverSearchService caregiverSearchService;
 
 	@Override
 	@Transactional
@@ -27,6 +28,7 @@ public class CaregiverConsumerServiceImpl implements CaregiverConsumerService {
 			.orElseThrow(() -> new CaregiverException(ErrorCode.NOT_FOUND));
 
 		caregiverDomainService.updateCaregiverRating(caregiver, message.getRating());
+		caregiverSearchService.sync(caregiver, message.getReviewCount());
 
 	}
 }
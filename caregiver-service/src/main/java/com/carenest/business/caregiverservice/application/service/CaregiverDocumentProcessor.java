@@ -0,0 +1,247 @@
+package com.carenest.business.caregiverservice.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.carenest.business.caregiverservice.config.AmazonConfig;
+import com.carenest.business.caregiverservice.domain.model.Caregiver;
+import com.carenest.business.caregiverservice.domain.model.CaregiverDocument;
+import com.carenest.business.caregiverservice.domain.model.DocumentStatus;
+import com.carenest.business.caregiverservice.infrastructure.image.ThumbnailGenerator;
+import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverDocumentRepository;
+import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverRepository;
+import com.carenest.business.caregiverservice.infrastructure.s3.AmazonS3Manager;
+import com.carenest.business.caregiverservice.infrastructure.storage.DocumentStagingStorage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제출 서류 비동기 처리기.
+ * PENDING → PROCESSING 으로 바꾼 뒤 체크섬을 계산하고, 같은 내용이 이미 올라가 있으면 그 URL 을 재사용하며
+ * 아니면 staging 객체를 공개 경로로 서버 측 복사하고 썸네일을 만든다. 완료 시 간병인의 제출 서류 목록에 URL 을 추가한다.
+ * S3 호출 동안에는 트랜잭션(DB 커넥션)을 잡지 않고, 상태 변경만 짧은 트랜잭션으로 나눠 반영한다.
+ * 상태 전이는 모두 조건부 UPDATE 이며, 임대 시각(leasedAt)이 바뀐 행에는 늦게 끝난 워커의 결과를 반영하지 않는다.
+ */
+@Slf4j
+@Component
+public class CaregiverDocumentProcessor {
+
+	private final CaregiverDocumentRepository caregiverDocumentRepository;
+	private final CaregiverRepository caregiverRepository;
+	private final DocumentStagingStorage documentStagingStorage;
+	private final AmazonS3Manager amazonS3Manager;
+	private final AmazonConfig amazonConfig;
+	private final ThumbnailGenerator thumbnailGenerator;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolTaskExecutor executor;
+	// 대기열에 올라가 있거나 처리 중인 서류. sweep 이 같은 서류를 중복 제출하지 않게 한다
+	private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+	// 제출 후 이 시간이 지나도 PENDING 이면 대기열에서 밀린 것으로 보고 다시 제출한다
+	@Value("${caregiver.document.retry-delay:PT1M}")
+	private Duration retryDelay;
+
+	// 이 시간 동안 끝나지 않은 서류는 처리하던 워커가 사라진 것으로 본다
+	@Value("${caregiver.document.lease-timeout:PT30M}")
+	private Duration leaseTimeout;
+
+	public CaregiverDocumentProcessor(CaregiverDocumentRepository caregiverDocumentRepository,
+		CaregiverRepository caregiverRepository, DocumentStagingStorage documentStagingStorage,
+		AmazonS3Manager amazonS3Manager, AmazonConfig amazonConfig, ThumbnailGenerator thumbnailGenerator,
+		TransactionTemplate transactionTemplate,
+		@Qualifier("documentProcessingExecutor") ThreadPoolTaskExecutor executor) {
+		this.caregiverDocumentRepository = caregiverDocumentRepository;
+		this.caregiverRepository = caregiverRepository;
+		this.documentStagingStorage = documentStagingStorage;
+		this.amazonS3Manager = amazonS3Manager;
+		this.amazonConfig = amazonConfig;
+		this.thumbnailGenerator = thumbnailGenerator;
+		this.transactionTemplate = transactionTemplate;
+		this.executor = executor;
+	}
+
+	public void submit(List<UUID> documentIds) {
+		for (UUID documentId : documentIds) {
+			if (!queued.add(documentId)) {
+				continue;
+			}
+			try {
+				executor.execute(() -> {
+					try {
+						process(documentId);
+					} finally {
+						queued.remove(documentId);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				// PENDING 으로 남아 있으므로 다음 sweep 에서 다시 제출된다
+				queued.remove(documentId);
+				log.warn("서류 처리 대기열 포화: documentId={}", documentId);
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${caregiver.document.sweep-interval-ms:60000}",
+		initialDelayString = "${caregiver.document.sweep-interval-ms:60000}")
+	public void sweep() {
+		LocalDateTime now = now();
+
+		// 대기열에서 밀렸거나, 제출한 인스턴스가 커밋 직후 종료되어 처리되지 않은 서류
+		resubmit(caregiverDocumentRepository.findAllByStatusAndLeasedAtBefore(DocumentStatus.PENDING,
+			now.minus(retryDelay)));
+
+		// 임대 시간 안에 끝나지 않은 서류는 처리하던 워커가 사라진 것으로 보고 PENDING 으로 되돌려 다시 처리한다
+		for (CaregiverDocument document : caregiverDocumentRepository.findAllByStatusAndLeasedAtBefore(
+			DocumentStatus.PROCESSING, now.minus(leaseTimeout))) {
+			if (queued.contains(document.getId())) {
+				continue;
+			}
+			Integer reclaimed = transactionTemplate.execute(status -> caregiverDocumentRepository.reclaim(
+				document.getId(), DocumentStatus.PROCESSING, document.getLeasedAt(), now));
+			if (reclaimed != null && reclaimed == 1) {
+				log.warn("임대 만료 서류 재처리: documentId={}", document.getId());
+				submit(List.of(document.getId()));
+			}
+		}
+	}
+
+	private void resubmit(List<CaregiverDocument> documents) {
+		List<UUID> documentIds = new ArrayList<>();
+		for (CaregiverDocument document : documents) {
+			if (queued.contains(document.getId())) {
+				continue;
+			}
+			if (documentStagingStorage.exists(document.getStagingPath())) {
+				documentIds.add(document.getId());
+			} else {
+				fail(document.getId(), DocumentStatus.PENDING, document.getLeasedAt(),
+					"임시 보관된 서류 파일을 찾을 수 없습니다.");
+			}
+		}
+		if (!documentIds.isEmpty()) {
+			log.info("미처리 서류 재제출: {}건", documentIds.size());
+			submit(documentIds);
+		}
+	}
+
+	void process(UUID documentId) {
+		// 조건부 UPDATE 로 PENDING 인 행만 가져가므로, 같은 서류를 두 워커가 동시에 처리하지 않는다
+		LocalDateTime leasedAt = now();
+		CaregiverDocument document = transactionTemplate.execute(status ->
+			caregiverDocumentRepository.claim(documentId, leasedAt) == 1
+				? caregiverDocumentRepository.findById(documentId).orElse(null)
+				: null);
+		if (document == null) {
+			return;
+		}
+
+		String stagedKey = document.getStagingPath();
+		boolean applied;
+		try {
+			String checksum = checksum(stagedKey);
+			Optional<CaregiverDocument> duplicate = caregiverDocumentRepository.findFirstByChecksumAndStatus(checksum,
+				DocumentStatus.COMPLETED);
+
+			String url;
+			String thumbnailUrl;
+			if (duplicate.isPresent()) {
+				// 같은 내용의 파일은 다시 올리지 않고 기존 객체를 가리킨다
+				url = duplicate.get().getUrl();
+				thumbnailUrl = duplicate.get().getThumbnailUrl();
+			} else {
+				String dirName = amazonConfig.getReviewPath();
+				String caregiverId = document.getCaregiverId().toString();
+				url = amazonS3Manager.copy(stagedKey,
+					amazonS3Manager.objectKey(dirName, caregiverId, document.getOriginalFilename()));
+				Optional<byte[]> thumbnail = thumbnail(stagedKey, document.getContentType());
+				thumbnailUrl = thumbnail.isEmpty() ? null : amazonS3Manager.upload(thumbnail.get(),
+					ThumbnailGenerator.CONTENT_TYPE,
+					amazonS3Manager.objectKey(dirName + "/thumbnails", caregiverId, "thumbnail.png"));
+			}
+
+			applied = complete(document, leasedAt, checksum, url, thumbnailUrl);
+		} catch (IOException | RuntimeException e) {
+			log.error("서류 처리 실패: documentId={}", documentId, e);
+			applied = fail(documentId, DocumentStatus.PROCESSING, leasedAt, e.getMessage());
+		}
+
+		// 임대가 다른 워커로 넘어갔다면 staging 객체도 그쪽이 정리한다
+		if (applied) {
+			documentStagingStorage.delete(stagedKey);
+		} else {
+			log.warn("서류 임대 만료로 처리 결과를 반영하지 않음: documentId={}", documentId);
+		}
+	}
+
+	private boolean complete(CaregiverDocument document, LocalDateTime leasedAt, String checksum, String url,
+		String thumbnailUrl) {
+		return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+			Optional<Caregiver> caregiver = caregiverRepository.findByIdForUpdate(document.getCaregiverId());
+			if (caregiver.isEmpty()) {
+				return caregiverDocumentRepository.fail(document.getId(), DocumentStatus.PROCESSING, leasedAt,
+					"간병인 정보가 존재하지 않습니다.") == 1;
+			}
+			if (caregiverDocumentRepository.complete(document.getId(), leasedAt, checksum, url, thumbnailUrl) != 1) {
+				return false;
+			}
+			caregiver.get().addSubmittedDocument(url);
+			return true;
+		}));
+	}
+
+	private boolean fail(UUID documentId, DocumentStatus expectedStatus, LocalDateTime leasedAt, String reason) {
+		Integer updated = transactionTemplate.execute(status -> caregiverDocumentRepository.fail(documentId,
+			expectedStatus, leasedAt, CaregiverDocument.truncateReason(reason)));
+		return updated != null && updated == 1;
+	}
+
+	// DB(timestamp) 정밀도에 맞춰 잘라야 조건부 UPDATE 의 임대 시각 비교가 맞는다
+	static LocalDateTime now() {
+		return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+	}
+
+	private String checksum(String stagedKey) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try (InputStream in = new DigestInputStream(documentStagingStorage.open(stagedKey), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	// 이미지가 아니면 staging 객체를 다시 읽지 않는다
+	private Optional<byte[]> thumbnail(String stagedKey, String contentType) throws IOException {
+		if (!thumbnailGenerator.supports(contentType)) {
+			return Optional.empty();
+		}
+		try (InputStream in = documentStagingStorage.open(stagedKey)) {
+			return thumbnailGenerator.generate(in);
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.carenest.business.caregiverservice.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverDocumentResponseServiceDTO;
+import com.carenest.business.common.model.UserRole;
+
+public interface CaregiverDocumentService {
+
+	List<CaregiverDocumentResponseServiceDTO> register(UUID caregiverId, List<MultipartFile> multipartFiles);
+
+	List<CaregiverDocumentResponseServiceDTO> getDocuments(UUID caregiverId, UUID userId, UserRole role);
+}
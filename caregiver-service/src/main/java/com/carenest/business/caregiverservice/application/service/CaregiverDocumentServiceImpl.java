@@ -0,0 +1,115 @@
+package com.carenest.business.caregiverservice.application.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverDocumentResponseServiceDTO;
+import com.carenest.business.caregiverservice.domain.model.Caregiver;
+import com.carenest.business.caregiverservice.domain.model.CaregiverDocument;
+import com.carenest.business.caregiverservice.exception.CaregiverException;
+import com.carenest.business.caregiverservice.exception.ErrorCode;
+import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverDocumentRepository;
+import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverRepository;
+import com.carenest.business.caregiverservice.infrastructure.storage.DocumentStagingStorage;
+import com.carenest.business.common.exception.BaseException;
+import com.carenest.business.common.exception.CommonErrorCode;
+import com.carenest.business.common.model.UserRole;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CaregiverDocumentServiceImpl implements CaregiverDocumentService {
+
+	private final CaregiverDocumentRepository caregiverDocumentRepository;
+	private final CaregiverRepository caregiverRepository;
+	private final DocumentStagingStorage documentStagingStorage;
+	private final CaregiverDocumentProcessor caregiverDocumentProcessor;
+
+	// 등록 트랜잭션에서는 staging 업로드와 PENDING 저장만 하고, 공개 위치로 옮기는 처리는 커밋된 뒤 처리기에 넘긴다
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public List<CaregiverDocumentResponseServiceDTO> register(UUID caregiverId, List<MultipartFile> multipartFiles) {
+		List<MultipartFile> files = multipartFiles.stream()
+			.filter(multipartFile -> !multipartFile.isEmpty())
+			.toList();
+		if (files.isEmpty()) {
+			return List.of();
+		}
+
+		List<String> stagedKeys;
+		try {
+			stagedKeys = documentStagingStorage.stage(caregiverId, files);
+		} catch (IOException e) {
+			log.error("서류 임시 저장 실패: ", e);
+			throw new CaregiverException(ErrorCode.UPLOAD_IMAGE_FAILED);
+		}
+
+		List<UUID> documentIds = new ArrayList<>();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					caregiverDocumentProcessor.submit(documentIds);
+				} else {
+					stagedKeys.forEach(documentStagingStorage::delete);
+				}
+			}
+		});
+
+		LocalDateTime leasedAt = CaregiverDocumentProcessor.now();
+		List<CaregiverDocumentResponseServiceDTO> responses = new ArrayList<>();
+		for (int i = 0; i < files.size(); i++) {
+			MultipartFile multipartFile = files.get(i);
+			CaregiverDocument document = caregiverDocumentRepository.save(CaregiverDocument.builder()
+				.caregiverId(caregiverId)
+				.originalFilename(multipartFile.getOriginalFilename())
+				.contentType(multipartFile.getContentType())
+				.size(multipartFile.getSize())
+				.stagingPath(stagedKeys.get(i))
+				.leasedAt(leasedAt)
+				.build());
+			documentIds.add(document.getId());
+			responses.add(toResponse(document));
+		}
+		return responses;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<CaregiverDocumentResponseServiceDTO> getDocuments(UUID caregiverId, UUID userId, UserRole role) {
+		Caregiver caregiver = caregiverRepository.findById(caregiverId)
+			.orElseThrow(() -> new CaregiverException(ErrorCode.NOT_FOUND));
+		if (role != UserRole.ADMIN && !caregiver.getUserId().equals(userId)) {
+			throw new BaseException(CommonErrorCode.FORBIDDEN);
+		}
+
+		return caregiverDocumentRepository.findAllByCaregiverIdOrderByCreatedAtAsc(caregiverId).stream()
+			.map(this::toResponse)
+			.toList();
+	}
+
+	private CaregiverDocumentResponseServiceDTO toResponse(CaregiverDocument document) {
+		return new CaregiverDocumentResponseServiceDTO(
+			document.getId(),
+			document.getOriginalFilename(),
+			document.getStatus(),
+			document.getUrl(),
+			document.getThumbnailUrl(),
+			document.getFailureReason(),
+			document.getCreatedAt()
+		);
+	}
+}
@@ -0,0 +1,11 @@
+package com.carenest.business.caregiverservice.application.service;
+
+import com.carenest.business.caregiverservice.application.dto.event.CaregiverRankingChangedEvent;
+import com.carenest.business.caregiverservice.application.dto.response.BulkCaregiverTop10Response;
+
+public interface CaregiverRankingService {
+
+	BulkCaregiverTop10Response getTopCaregivers(Long locationId, Long serviceId);
+
+	void handleRankingChanged(CaregiverRankingChangedEvent event);
+}
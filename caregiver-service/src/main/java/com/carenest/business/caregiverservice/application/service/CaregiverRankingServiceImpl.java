@@ -0,0 +1,146 @@
+package com.carenest.business.caregiverservice.application.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.carenest.business.caregiverservice.application.dto.event.CaregiverRankingChangedEvent;
+import com.carenest.business.caregiverservice.application.dto.response.BulkCaregiverTop10Response;
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverGetTop10ResponseServiceDTO;
+import com.carenest.business.caregiverservice.domain.model.Caregiver;
+import com.carenest.business.caregiverservice.domain.model.CaregiverSearch;
+import com.carenest.business.caregiverservice.exception.CaregiverException;
+import com.carenest.business.caregiverservice.exception.ErrorCode;
+import com.carenest.business.caregiverservice.infrastructure.redis.CaregiverRankingRepository;
+import com.carenest.business.caregiverservice.infrastructure.redis.CaregiverRankingRepository.RankedCaregiver;
+import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverRepository;
+import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverSearchRepository;
+import com.carenest.business.caregiverservice.util.RefreshAheadCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 간병인 순위.
+ * 평점 이벤트로 유지되는 전체/지역별/서비스별 sorted set 에서 상위 N명을 읽고 간병인 정보는 findAllById 한 번으로 채운다.
+ * 결과는 로컬 refresh-ahead 캐시에 두어 만료 전에 백그라운드에서 갱신하고, 미스 시 동시 요청은 한 번의 로드로 합친다.
+ */
+@Slf4j
+@Service
+public class CaregiverRankingServiceImpl implements CaregiverRankingService {
+
+	private final CaregiverRankingRepository rankingRepository;
+	private final CaregiverRepository caregiverRepository;
+	private final CaregiverSearchRepository caregiverSearchRepository;
+	private final RefreshAheadCache<String, BulkCaregiverTop10Response> cache;
+	private final int size;
+
+	public CaregiverRankingServiceImpl(
+		CaregiverRankingRepository rankingRepository,
+		CaregiverRepository caregiverRepository,
+		CaregiverSearchRepository caregiverSearchRepository,
+		@Qualifier("rankingRefreshExecutor") ThreadPoolTaskExecutor rankingRefreshExecutor,
+		@Value("${caregiver.ranking.size:10}") int size,
+		@Value("${caregiver.ranking.refresh-after:60s}") Duration refreshAfter,
+		@Value("${caregiver.ranking.expire-after:120s}") Duration expireAfter
+	) {
+		this.rankingRepository = rankingRepository;
+		this.caregiverRepository = caregiverRepository;
+		this.caregiverSearchRepository = caregiverSearchRepository;
+		this.size = size;
+		this.cache = new RefreshAheadCache<>(this::load, rankingRefreshExecutor, refreshAfter, expireAfter);
+	}
+
+	@Override
+	public BulkCaregiverTop10Response getTopCaregivers(Long locationId, Long serviceId) {
+		if (locationId != null && serviceId != null) {
+			throw new CaregiverException(ErrorCode.INVALID_RANKING_CATEGORY);
+		}
+		String key = locationId != null ? CaregiverRankingRepository.locationKey(locationId)
+			: serviceId != null ? CaregiverRankingRepository.serviceKey(serviceId)
+			: CaregiverRankingRepository.allKey();
+		return cache.get(key);
+	}
+
+	// 커밋된 변경만 순위에 반영한다. Redis 오류로 원래 요청(또는 메시지 처리)을 실패시키지 않는다
+	@Override
+	@TransactionalEventListener
+	public void handleRankingChanged(CaregiverRankingChangedEvent event) {
+		try {
+			Set<String> staleKeys = new HashSet<>(event.previousKeys());
+			staleKeys.removeAll(event.currentKeys());
+			rankingRepository.remove(event.caregiverId(), staleKeys);
+
+			if (!event.currentKeys().isEmpty()) {
+				long reviewCount = event.reviewCount() != null ? event.reviewCount()
+					: rankingRepository.reviewCountOf(event.caregiverId());
+				rankingRepository.put(event.caregiverId(), event.rating(), reviewCount, event.currentKeys());
+			}
+		} catch (RuntimeException e) {
+			log.warn("인기 간병인 순위 반영 실패: caregiverId={}, error={}", event.caregiverId(), e.getMessage());
+		}
+	}
+
+	private BulkCaregiverTop10Response load(String key) {
+		if (!rankingRepository.isInitialized()) {
+			rebuild();
+		}
+
+		List<RankedCaregiver> ranked = rankingRepository.top(key, size);
+		Map<UUID, Caregiver> caregivers = caregiverRepository.findAllById(
+				ranked.stream().map(RankedCaregiver::caregiverId).toList())
+			.stream()
+			.collect(Collectors.toMap(Caregiver::getId, Function.identity()));
+
+		// 삭제되어 조회되지 않는 간병인은 건너뛰고 순위 순서를 유지한다
+		List<CaregiverGetTop10ResponseServiceDTO> result = ranked.stream()
+			.filter(rank -> caregivers.containsKey(rank.caregiverId()))
+			.map(rank -> {
+				Caregiver caregiver = caregivers.get(rank.caregiverId());
+				return new CaregiverGetTop10ResponseServiceDTO(
+					caregiver.getId(),
+					caregiver.getUserId(),
+					caregiver.getDescription(),
+					rank.rating(),
+					rank.reviewCount(),
+					caregiver.getExperienceYears(),
+					caregiver.getPricePerHour(),
+					caregiver.getPricePerDay(),
+					caregiver.getGender()
+				);
+			})
+			.toList();
+
+		return new BulkCaregiverTop10Response(result);
+	}
+
+	/**
+	 * Redis 에 순위가 없을 때(최초 기동, 초기화 등) 검색 모델의 평점으로 다시 채운다.
+	 * 리뷰 수는 검색 모델에 없으므로 0으로 두고 다음 평점 이벤트에서 채워진다.
+	 */
+	private void rebuild() {
+		Map<String, Set<ZSetOperations.TypedTuple<String>>> rankings = new HashMap<>();
+		for (CaregiverSearch search : caregiverSearchRepository.findAllByRatingIsNotNull()) {
+			ZSetOperations.TypedTuple<String> tuple = CaregiverRankingRepository.tuple(
+				search.getCaregiverId(), Objects.requireNonNull(search.getRating()), 0L);
+			for (String key : CaregiverRankingRepository.keysOf(search.getLocationIds(), search.getServiceIds())) {
+				rankings.computeIfAbsent(key, k -> new HashSet<>()).add(tuple);
+			}
+		}
+		rankingRepository.putAll(rankings);
+		log.info("인기 간병인 순위 재구성 완료: keys={}", rankings.size());
+	}
+}
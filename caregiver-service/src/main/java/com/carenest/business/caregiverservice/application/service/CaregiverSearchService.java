@@ -0,0 +1,20 @@
+package com.carenest.business.caregiverservice.application.service;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverSearchResponseServiceDTO;
+import com.carenest.business.caregiverservice.domain.model.Caregiver;
+
+public interface CaregiverSearchService {
+
+	Page<CaregiverSearchResponseServiceDTO> search(String location, String service, Pageable pageable);
+
+	void sync(Caregiver caregiver);
+
+	void sync(Caregiver caregiver, Long reviewCount);
+
+	void remove(UUID caregiverId);
+}
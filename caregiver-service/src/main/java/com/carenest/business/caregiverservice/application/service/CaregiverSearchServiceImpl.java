@@ -0,0 +1,102 @@
+package com.carenest.business.caregiverservice.application.service;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.carenest.business.caregiverservice.application.dto.event.CaregiverRankingChangedEvent;
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverSearchResponseServiceDTO;
+import com.carenest.business.caregiverservice.config.CacheConfig;
+import com.carenest.business.caregiverservice.domain.model.Caregiver;
+import com.carenest.business.caregiverservice.domain.model.CaregiverSearch;
+import com.carenest.business.caregiverservice.infrastructure.redis.CaregiverRankingRepository;
+import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverSearchRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CaregiverSearchServiceImpl implements CaregiverSearchService {
+
+	private final CaregiverSearchRepository caregiverSearchRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final CacheManager cacheManager;
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<CaregiverSearchResponseServiceDTO> search(String location, String service, Pageable pageable) {
+		return caregiverSearchRepository.search(location, service, pageable)
+			.map(search -> new CaregiverSearchResponseServiceDTO(
+				search.getCaregiverId(),
+				search.getDescription(),
+				search.getRating(),
+				search.getExperienceYears(),
+				search.getPricePerHour(),
+				search.getPricePerDay(),
+				search.getGender()
+			));
+	}
+
+	// 간병인 변경과 같은 트랜잭션에서 반영해야 원본과 검색 모델이 어긋나지 않는다
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void sync(Caregiver caregiver) {
+		sync(caregiver, null);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void sync(Caregiver caregiver, Long reviewCount) {
+		CaregiverSearch search = caregiverSearchRepository.findById(caregiver.getId()).orElse(null);
+		Set<String> previousKeys = search == null || search.getRating() == null ? Set.of() : rankingKeys(search);
+		Double previousRating = search == null ? null : search.getRating();
+
+		if (search == null) {
+			search = caregiverSearchRepository.save(CaregiverSearch.from(caregiver));
+		} else {
+			search.refresh(caregiver);
+		}
+
+		evictDetail(caregiver.getId());
+
+		Set<String> currentKeys = search.getRating() == null ? Set.of() : rankingKeys(search);
+		// 순위에 영향이 있는 변경(소속 카테고리, 평점, 리뷰 수)만 커밋 후 반영
+		if (!previousKeys.equals(currentKeys) || !Objects.equals(previousRating, search.getRating())
+			|| reviewCount != null) {
+			eventPublisher.publishEvent(new CaregiverRankingChangedEvent(
+				caregiver.getId(), search.getRating(), reviewCount, previousKeys, currentKeys));
+		}
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void remove(UUID caregiverId) {
+		evictDetail(caregiverId);
+		caregiverSearchRepository.findById(caregiverId).ifPresent(search -> {
+			caregiverSearchRepository.delete(search);
+			eventPublisher.publishEvent(new CaregiverRankingChangedEvent(
+				caregiverId, null, null, rankingKeys(search), Set.of()));
+		});
+	}
+
+	// 모든 간병인 변경이 이 서비스를 거치므로 상세 캐시도 여기서 무효화한다 (트랜잭션 커밋 후 반영)
+	private void evictDetail(UUID caregiverId) {
+		Cache cache = cacheManager.getCache(CacheConfig.CAREGIVER_DETAIL);
+		if (cache != null) {
+			cache.evict(caregiverId);
+		}
+	}
+
+	private Set<String> rankingKeys(CaregiverSearch search) {
+		return CaregiverRankingRepository.keysOf(search.getLocationIds(), search.getServiceIds());
+	}
+}
@@ -10,6 +10,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.carenest.business.caregiverservice.application.dto.request.CaregiverCreateRequestServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.BulkCaregiverTop10Response;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverCreateResponseServiceDTO;
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverCursorResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverReadResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverSearchResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverUpdateResponseServiceDTO;
@@ -35,7 +36,9 @@ public interface CaregiverService {
 
 	Page<CaregiverReadResponseServiceDTO> getCaregiverAll(Pageable pageable);
 
-	BulkCaregiverTop10Response getTop10Caregiver();
+	CaregiverCursorResponseServiceDTO getCaregiverAll(String cursor, int size);
+
+	BulkCaregiverTop10Response getTop10Caregiver(Long locationId, Long serviceId);
 
 	CaregiverReadResponseServiceDTO getCaregiverDetailUser(UUID caregiverId);
 
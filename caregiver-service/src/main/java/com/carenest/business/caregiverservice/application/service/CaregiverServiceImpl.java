@@ -1,14 +1,14 @@
 package com.carenest.business.caregiverservice.application.service;
 
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,11 +17,11 @@ import com.carenest.business.caregiverservice.application.dto.mapper.CaregiverAp
 import com.carenest.business.caregiverservice.application.dto.request.CaregiverCreateRequestServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.BulkCaregiverTop10Response;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverCreateResponseServiceDTO;
-import com.carenest.business.caregiverservice.application.dto.response.CaregiverGetTop10ResponseServiceDTO;
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverCursorResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverReadResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverSearchResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverUpdateResponseServiceDTO;
-import com.carenest.business.caregiverservice.config.AmazonConfig;
+import com.carenest.business.caregiverservice.config.CacheConfig;
 import com.carenest.business.caregiverservice.domain.model.Caregiver;
 import com.carenest.business.caregiverservice.domain.model.GenderType;
 import com.carenest.business.caregiverservice.domain.model.category.CategoryLocation;
@@ -29,15 +29,11 @@ import com.carenest.business.caregiverservice.domain.model.category.CategoryServ
 import com.carenest.business.caregiverservice.domain.service.CaregiverDomainService;
 import com.carenest.business.caregiverservice.exception.CaregiverException;
 import com.carenest.business.caregiverservice.exception.ErrorCode;
-import com.carenest.business.caregiverservice.infrastructure.client.ReviewClient;
 import com.carenest.business.caregiverservice.infrastructure.client.UserClient;
-import com.carenest.business.caregiverservice.infrastructure.client.dto.CaregiverTopRatingDto;
 import com.carenest.business.caregiverservice.infrastructure.repository.CaregiverRepository;
 import com.carenest.business.caregiverservice.infrastructure.repository.CategoryLocationRepository;
 import com.carenest.business.caregiverservice.infrastructure.repository.CategoryServiceRepository;
-import com.carenest.business.caregiverservice.infrastructure.repository.UuidRepository;
-import com.carenest.business.caregiverservice.infrastructure.s3.AmazonS3Manager;
-import com.carenest.business.caregiverservice.infrastructure.s3.Uuid;
+import com.carenest.business.caregiverservice.infrastructure.repository.querydsl.CaregiverCursor;
 import com.carenest.business.caregiverservice.presentation.dto.request.CaregiverUpdateRequestDTO;
 import com.carenest.business.common.exception.BaseException;
 import com.carenest.business.common.exception.CommonErrorCode;
@@ -54,12 +50,11 @@ public class CaregiverServiceImpl implements CaregiverService {
 	private final CaregiverRepository caregiverRepository;
 	private final CategoryServiceRepository categoryServiceRepository;
 	private final CategoryLocationRepository categoryLocationRepository;
-	private final UuidRepository uuidRepository;
 	private final CaregiverDomainService caregiverDomainService;
-	private final AmazonS3Manager amazonS3Manager;
-	private final AmazonConfig amazonConfig;
-	private final ReviewClient reviewClient;
 	private final UserClient userClient;
+	private final CaregiverSearchService caregiverSearchService;
+	private final CaregiverRankingService caregiverRankingService;
+	private final CaregiverDocumentService caregiverDocumentService;
 
 
 	@Qualifier("caregiverApplicationMapper")
@@ -84,26 +79,6 @@ public class CaregiverServiceImpl implements CaregiverService {
 			throw new CaregiverException(ErrorCode.ALREADY_REGISTERED_COMPANY);
 		}
 
-		// S3 이미지 추가
-		List<String> uploadUrls = new ArrayList<>();
-		if (multipartFiles != null && !multipartFiles.isEmpty()) {
-			try {
-				// 예: S3 업로드 시 사용할 디렉토리와 고유 식별자 생성
-				String dirName = amazonConfig.getReviewPath();
-				Uuid saveUuid = uuidRepository.save(Uuid.builder().uuid(UUID.randomUUID().toString()).build());
-				// 인프라 어댑터를 통해 파일 업로드 및 URL 리스트 반환
-				uploadUrls = amazonS3Manager.upload(multipartFiles, dirName, saveUuid);
-
-			} catch (IOException e) {
-				// 업로드 실패에 대한 예외 처리
-				log.error("업로드 실패: ",e);
-				throw new CaregiverException(ErrorCode.UPLOAD_IMAGE_FAILED);
-			}
-		}
-		if (uploadUrls != null && !uploadUrls.isEmpty()) {
-			requestServiceDTO = requestServiceDTO.withImageUrls(uploadUrls);
-		}
-
 		// 카테고리 서비스/지역 검증
 		List<CategoryService> categoryServices = categoryServiceRepository.findAllById(
 			requestServiceDTO.categoryServiceIds());
@@ -118,9 +93,15 @@ public class CaregiverServiceImpl implements CaregiverService {
 		}
 
 		Caregiver caregiver = caregiverDomainService.createCaregiverWithCategories(requestServiceDTO, categoryServices,
-			categoryLocations,uploadUrls, userId);
+			categoryLocations, List.of(), userId);
 
 		Caregiver saveCaregiver = caregiverRepository.save(caregiver);
+		caregiverSearchService.sync(saveCaregiver);
+
+		// 서류는 PENDING 으로만 접수하고 업로드/썸네일/체크섬은 커밋 이후 비동기로 처리한다
+		if (multipartFiles != null && !multipartFiles.isEmpty()) {
+			caregiverDocumentService.register(saveCaregiver.getId(), multipartFiles);
+		}
 
 		return applicationMapper.toCreateResponseServiceDTO(saveCaregiver.getId());
 	}
@@ -176,6 +157,7 @@ public class CaregiverServiceImpl implements CaregiverService {
 				null;
 
 		caregiverDomainService.updateCaregiverCategories(caregiver, categoryServices, categoryLocations);
+		caregiverSearchService.sync(caregiver);
 
 		// 응답 변환
 		List<String> categoryServiceNames = caregiver.getCaregiverCategoryServices()
@@ -202,23 +184,14 @@ public class CaregiverServiceImpl implements CaregiverService {
 			.orElseThrow(() -> new CaregiverException(ErrorCode.NOT_FOUND));
 
 		caregiverDomainService.deleteCaregiverWithAssociations(caregiverId, caregiver);
+		caregiverSearchService.remove(caregiver.getId());
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<CaregiverSearchResponseServiceDTO> searchCaregiver(String location, String service, Pageable pageable) {
-		Page<Caregiver> caregivers = caregiverRepository.searchByConditions(location, service, pageable);
-
-
-		return caregivers.map(caregiver -> new CaregiverSearchResponseServiceDTO(
-			caregiver.getId(),
-			caregiver.getDescription(),
-			caregiver.getRating(),
-			caregiver.getExperienceYears(),
-			caregiver.getPricePerHour(),
-			caregiver.getPricePerDay(),
-			caregiver.getGender()
-		));
+		// 카테고리 컬렉션 조인 없이 비정규화된 검색 모델 한 테이블에서 조회
+		return caregiverSearchService.search(location, service, pageable);
 	}
 
 	@Override
@@ -228,6 +201,7 @@ public class CaregiverServiceImpl implements CaregiverService {
 			new CaregiverException(ErrorCode.NOT_FOUND));
 
 		caregiverDomainService.caregiverApprovalStatusCheck(caregiver,approvalStatusCheck);
+		caregiverSearchService.sync(caregiver);
 	}
 
 	@Override
@@ -240,7 +214,27 @@ public class CaregiverServiceImpl implements CaregiverService {
 
 		Page<Caregiver> caregivers = caregiverRepository.findAllCaregivers(pageable);
 
-		return caregivers.map(caregiver -> new CaregiverReadResponseServiceDTO(
+		return caregivers.map(this::toReadResponse);
+	}
+
+	@Override
+	public CaregiverCursorResponseServiceDTO getCaregiverAll(String cursor, int size) {
+		CaregiverCursor caregiverCursor;
+		try {
+			caregiverCursor = cursor == null ? null : CaregiverCursor.decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new CaregiverException(ErrorCode.INVALID_CURSOR);
+		}
+
+		Slice<Caregiver> caregivers = caregiverRepository.findAllCaregivers(caregiverCursor, size);
+		List<Caregiver> content = caregivers.getContent();
+		String nextCursor = caregivers.hasNext() ? CaregiverCursor.of(content.get(content.size() - 1)).encode() : null;
+
+		return new CaregiverCursorResponseServiceDTO(content.stream().map(this::toReadResponse).toList(), nextCursor);
+	}
+
+	private CaregiverReadResponseServiceDTO toReadResponse(Caregiver caregiver) {
+		return new CaregiverReadResponseServiceDTO(
 			caregiver.getId(),
 			caregiver.getUserId(),
 			caregiver.getDescription(),
@@ -258,65 +252,34 @@ public class CaregiverServiceImpl implements CaregiverService {
 				.stream()
 				.map(cl -> cl.getCategoryLocation().getName())
 				.toList()
-		));
+		);
 	}
 
 
 	@Override
-	@Cacheable(cacheNames = "popularCaregiver", key = "getMethodName()")
-	@Transactional(readOnly = true)
-	public BulkCaregiverTop10Response getTop10Caregiver() {
-		try{
-			// 1. Feign Client 호출
-			List<CaregiverTopRatingDto> ratingDtos = reviewClient.getTop10Caregivers().getBody();
-
-			// 2. DTO 가공
-			List<CaregiverGetTop10ResponseServiceDTO> result = ratingDtos.stream()
-				.map(dto -> {
-					UUID caregiverId = dto.getCaregiverId();
-					Caregiver caregiver = caregiverRepository.findById(caregiverId)
-						.orElseThrow(() -> new CaregiverException(ErrorCode.NOT_FOUND));
-
-					return new CaregiverGetTop10ResponseServiceDTO(
-						caregiver.getId(),
-						caregiver.getUserId(),
-						caregiver.getDescription(),
-						dto.getAverageRating(),
-						dto.getReviewCount(),
-						caregiver.getExperienceYears(),
-						caregiver.getPricePerHour(),
-						caregiver.getPricePerDay(),
-						caregiver.getGender()
-
-					);
-				})
-				.toList();
-
-			return new BulkCaregiverTop10Response(result);
-
-		}catch (FeignException e){
-			log.error("리뷰 서비스 호출 실패: status={}, message={}", e.status(), e.getMessage());
-			throw new CaregiverException(ErrorCode.EXTERNAL_API_ERROR);
-		}
+	public BulkCaregiverTop10Response getTop10Caregiver(Long locationId, Long serviceId) {
+		// 평점 이벤트로 유지되는 순위에서 조회 (리뷰 서비스 호출 및 간병인 건별 조회 없음)
+		return caregiverRankingService.getTopCaregivers(locationId, serviceId);
 	}
 
 	@Override
+	@Cacheable(cacheNames = CacheConfig.CAREGIVER_DETAIL, key = "#caregiverId")
 	@Transactional
 	public CaregiverReadResponseServiceDTO getCaregiverDetailUser(UUID caregiverId) {
 		// 1. N+1 문제로 fetchJoin 으로 가져옴
 		Caregiver caregiver = caregiverRepository.findCaregiverWithCategoriesById(caregiverId)
 			.orElseThrow(() -> new CaregiverException(ErrorCode.NOT_FOUND));
 
-		// 2. DTO 이름으로 변환하기 위해
+		// 2. DTO 이름으로 변환하기 위해 (캐시 역직렬화가 가능하도록 불변 리스트 대신 ArrayList 사용)
 		List<String> categoryServiceNames = caregiver.getCaregiverCategoryServices()
 			.stream()
 			.map(n -> n.getCategoryService().getName())
-			.toList();
+			.collect(Collectors.toList());
 
 		List<String> categoryLocationNames = caregiver.getCaregiverCategoryLocations()
 			.stream()
 			.map(n -> n.getCategoryLocation().getName())
-			.toList();
+			.collect(Collectors.toList());
 
 
 		return new CaregiverReadResponseServiceDTO(caregiver.getId(), caregiver.getUserId(), caregiver.getDescription(),
@@ -327,9 +290,7 @@ public class CaregiverServiceImpl implements CaregiverService {
 
 	@Override
 	public List<UUID> getCaregiverIdsByFilters(String location, GenderType gender, Integer experienceYears, Double rating) {
-		List<Caregiver> caregivers = caregiverRepository.getCaregiverIdsByFilters(location, gender, experienceYears, rating);
-
-		return caregivers.stream().map(Caregiver::getId).toList();
+		return caregiverRepository.getCaregiverIdsByFilters(location, gender, experienceYears, rating);
 	}
 
 }
@@ -2,6 +2,7 @@ package com.carenest.business.caregiverservice.config;
 
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,32 +10,74 @@ import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
+import com.carenest.business.caregiverservice.infrastructure.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+	public static final String CAREGIVER_DETAIL = "caregiverDetail";
 
 	@Bean
-	public RedisCacheManager cacheManager(
+	public TwoLevelCacheManager cacheManager(
 		RedisConnectionFactory connectionFactory,
-		RedisSerializer<Object> redisSerializer
+		RedisSerializer<Object> redisSerializer,
+		StringRedisTemplate stringRedisTemplate,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${caregiver.cache.serializer:json}") String serializerFormat,
+		@Value("${caregiver.cache.remote-ttl:120s}") Duration remoteTtl,
+		@Value("${caregiver.cache.local-ttl:30s}") Duration localTtl,
+		@Value("${caregiver.cache.local-max-size:10000}") long localMaxSize
 	) {
 		RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration
 			.defaultCacheConfig()
 			.disableCachingNullValues()
-			.entryTtl(Duration.ofSeconds(120))
-			.computePrefixWith(CacheKeyPrefix.simple())
+			.entryTtl(remoteTtl)
+			.computePrefixWith(keyPrefix(serializerFormat))
 			.serializeValuesWith(
 				RedisSerializationContext.SerializationPair.fromSerializer(redisSerializer)
 			);
 
-
-		return RedisCacheManager
+		RedisCacheManager remoteCacheManager = RedisCacheManager
 			.builder(connectionFactory)
 			.cacheDefaults(defaultCacheConfig)
+			.enableStatistics()
 			.build();
+		remoteCacheManager.afterPropertiesSet();
+
+		TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(remoteCacheManager, stringRedisTemplate,
+			objectMapper, meterRegistry, localMaxSize, localTtl);
+		// 무효화는 커밋 이후에 반영해 커밋 전 값을 다른 요청이 다시 캐시하지 않도록 한다
+		cacheManager.setTransactionAware(true);
+		return cacheManager;
+	}
+
+	@Bean
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		TwoLevelCacheManager cacheManager
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+		return container;
+	}
+
+	// 직렬화 형식이 바뀌면 기존 항목을 읽지 않도록 형식별로 키 공간을 나눈다 (json 은 기존 키 유지)
+	private CacheKeyPrefix keyPrefix(String serializerFormat) {
+		if (RedisConfig.JSON.equals(serializerFormat)) {
+			return CacheKeyPrefix.simple();
+		}
+		return cacheName -> cacheName + CacheKeyPrefix.SEPARATOR + serializerFormat + CacheKeyPrefix.SEPARATOR;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.carenest.business.caregiverservice.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 간병인 검색 읽기 모델(p_caregiver_search)의 GIN 인덱스를 만들고, 비어 있으면 원본 테이블에서 채운다.
+ * 이 서비스는 마이그레이션 도구 없이 스키마를 관리하므로 JPA 로 표현할 수 없는 인덱스를 기동 시점에 보장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaregiverSearchSchemaInitializer implements ApplicationRunner {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		jdbcTemplate.execute("""
+			CREATE TABLE IF NOT EXISTS p_caregiver_search (
+				caregiver_id UUID PRIMARY KEY,
+				location_ids BIGINT[] NOT NULL,
+				service_ids BIGINT[] NOT NULL,
+				description VARCHAR(1000),
+				rating DOUBLE PRECISION,
+				experience_years INTEGER,
+				price_per_hour INTEGER,
+				price_per_day INTEGER,
+				approval_status BOOLEAN NOT NULL,
+				gender VARCHAR(255) NOT NULL,
+				status VARCHAR(255) NOT NULL,
+				created_at TIMESTAMP,
+				updated_at TIMESTAMP
+			)
+			""");
+		jdbcTemplate.execute(
+			"CREATE INDEX IF NOT EXISTS idx_caregiver_search_location_ids ON p_caregiver_search USING gin (location_ids)");
+		jdbcTemplate.execute(
+			"CREATE INDEX IF NOT EXISTS idx_caregiver_search_service_ids ON p_caregiver_search USING gin (service_ids)");
+		// 조건 없는 검색의 기본 정렬(created_at)을 검색 가능 상태만 담은 부분 인덱스로 처리
+		jdbcTemplate.execute("""
+			CREATE INDEX IF NOT EXISTS idx_caregiver_search_available_created
+			ON p_caregiver_search (created_at DESC)
+			WHERE approval_status = true AND status = 'AVAILABLE'
+			""");
+
+		Boolean populated = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM p_caregiver_search)", Boolean.class);
+		if (Boolean.TRUE.equals(populated)) {
+			return;
+		}
+
+		int rows = jdbcTemplate.update("""
+			INSERT INTO p_caregiver_search (caregiver_id, location_ids, service_ids, description, rating,
+				experience_years, price_per_hour, price_per_day, approval_status, gender, status, created_at, updated_at)
+			SELECT c.id,
+				ARRAY(SELECT DISTINCT l.category_id FROM p_caregiver_category_location l WHERE l.caregiver_id = c.id),
+				ARRAY(SELECT DISTINCT s.category_id FROM p_caregiver_category_service s WHERE s.caregiver_id = c.id),
+				c.description, c.rating, c.experience_years, c.price_per_hour, c.price_per_day,
+				COALESCE(c.approval_status, false), c.gender, c.status, c.created_at, c.updated_at
+			FROM p_caregiver c
+			WHERE c.is_deleted = false
+			ON CONFLICT (caregiver_id) DO NOTHING
+			""");
+		log.info("간병인 검색 모델 초기 적재 완료: {}건", rows);
+	}
+}
@@ -0,0 +1,23 @@
+package com.carenest.business.caregiverservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DocumentProcessingConfig {
+
+	// 제출 서류 업로드/썸네일/체크섬 처리 전용 실행기, 큐가 가득 차면 PENDING 으로 남겨 재기동 시 복구한다
+	@Bean
+	public ThreadPoolTaskExecutor documentProcessingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(500);
+		executor.setThreadNamePrefix("document-processing-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+}
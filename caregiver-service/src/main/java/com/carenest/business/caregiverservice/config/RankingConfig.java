@@ -0,0 +1,21 @@
+package com.carenest.business.caregiverservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RankingConfig {
+
+	// 인기 간병인 순위의 미리 갱신(refresh-ahead) 및 캐시 미스 로드 전용 실행기
+	@Bean
+	public ThreadPoolTaskExecutor rankingRefreshExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("ranking-refresh-");
+		executor.initialize();
+		return executor;
+	}
+}
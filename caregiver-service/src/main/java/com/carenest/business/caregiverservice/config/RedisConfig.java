@@ -1,5 +1,6 @@
 package com.carenest.business.caregiverservice.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -12,10 +13,15 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import com.carenest.business.caregiverservice.application.dto.response.BulkCaregiverTop10Response;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 @Configuration
 public class RedisConfig {
+
+	public static final String JSON = "json";
+	public static final String CBOR = "cbor";
+
 	@Bean
 	public ObjectMapper objectMapper() {
 		ObjectMapper objectMapper = new ObjectMapper();
@@ -24,10 +30,22 @@ public class RedisConfig {
 		return objectMapper;
 	}
 
+	/**
+	 * 캐시 값 직렬화기. caregiver.cache.serializer 로 형식을 고른다.
+	 * - json: 타입 정보가 포함된 JSON (기본값, 기존 형식)
+	 * - cbor: 같은 타입 정보를 유지하는 바이너리 형식으로, 크기와 역직렬화 비용이 더 작다
+	 */
 	@Bean
 	@Primary
-	public RedisSerializer<Object> redisSerializer() {
-		return new GenericJackson2JsonRedisSerializer();
+	public RedisSerializer<Object> redisSerializer(@Value("${caregiver.cache.serializer:json}") String format) {
+		return switch (format) {
+			case JSON -> new GenericJackson2JsonRedisSerializer();
+			case CBOR -> GenericJackson2JsonRedisSerializer.builder()
+				.objectMapper(CBORMapper.builder().addModule(new JavaTimeModule()).build())
+				.defaultTyping(true)
+				.build();
+			default -> throw new IllegalArgumentException("지원하지 않는 캐시 직렬화 형식입니다: " + format);
+		};
 	}
 
 	@Bean
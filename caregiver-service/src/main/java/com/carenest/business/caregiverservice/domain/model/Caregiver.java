@@ -25,6 +25,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -42,7 +43,10 @@ import lombok.Setter;
 @AllArgsConstructor
 @SQLRestriction("is_deleted = false")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "p_caregiver")
+@Table(name = "p_caregiver", indexes = {
+	// 전체 목록 키셋 페이징 (created_at desc, id desc)
+	@Index(name = "idx_caregiver_created_at_id", columnList = "created_at DESC, id DESC")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Caregiver extends BaseEntity {
 
@@ -111,4 +115,10 @@ public class Caregiver extends BaseEntity {
 	public void updateStatus(CaregiverStatus status) {
 		this.status = status;
 	}
+
+	public void addSubmittedDocument(String url) {
+		if (!this.submittedDocuments.contains(url)) {
+			this.submittedDocuments.add(url);
+		}
+	}
 }
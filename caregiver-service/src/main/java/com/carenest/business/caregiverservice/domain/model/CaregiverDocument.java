@@ -0,0 +1,89 @@
+package com.carenest.business.caregiverservice.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.carenest.business.common.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 간병인 등록 시 제출된 서류 한 건의 비동기 처리 상태.
+ * 등록 트랜잭션에서는 원본을 S3 staging 경로에 올리고 PENDING 으로만 저장하며, 공개 복사/썸네일/체크섬은 처리기가 커밋 이후에 수행한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_caregiver_document", indexes = {
+	@Index(name = "idx_caregiver_document_caregiver", columnList = "caregiver_id"),
+	@Index(name = "idx_caregiver_document_checksum", columnList = "checksum"),
+	@Index(name = "idx_caregiver_document_status_leased", columnList = "status, leased_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class CaregiverDocument extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	private UUID id;
+
+	@Column(name = "caregiver_id", nullable = false)
+	private UUID caregiverId;
+
+	@Column
+	private String originalFilename;
+
+	@Column
+	private String contentType;
+
+	@Column(nullable = false)
+	private Long size;
+
+	// 처리 전까지 원본을 보관하는 S3 staging 객체 키
+	@Column(length = 1000)
+	private String stagingPath;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	@Builder.Default
+	private DocumentStatus status = DocumentStatus.PENDING;
+
+	// SHA-256 (hex), 동일 내용 재업로드 방지에 사용
+	@Column(length = 64)
+	private String checksum;
+
+	@Column(length = 1000)
+	private String url;
+
+	@Column(length = 1000)
+	private String thumbnailUrl;
+
+	@Column(length = 500)
+	private String failureReason;
+
+	// 마지막으로 소유권을 얻은 시각. 상태 전이의 조건으로도 쓰여, 임대가 넘어간 뒤의 늦은 반영을 막는다
+	@Column
+	private LocalDateTime leasedAt;
+
+	// 실패 사유는 컬럼 길이에 맞춰 자른다
+	public static String truncateReason(String reason) {
+		return reason == null || reason.length() <= 500 ? reason : reason.substring(0, 500);
+	}
+}
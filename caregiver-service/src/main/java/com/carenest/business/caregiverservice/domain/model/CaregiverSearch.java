@@ -0,0 +1,98 @@
+package com.carenest.business.caregiverservice.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 간병인 검색 전용 읽기 모델.
+ * 지역/서비스 카테고리를 ID 배열(GIN 인덱스)로 비정규화해 두어
+ * 검색 시 컬렉션 fetch join 없이 한 테이블만 조회하고 정확한 count 를 얻는다.
+ * 간병인 쓰기 및 평점 이벤트 처리와 같은 트랜잭션에서 갱신된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_caregiver_search")
+public class CaregiverSearch {
+
+	@Id
+	@Column(name = "caregiver_id")
+	private UUID caregiverId;
+
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(name = "location_ids", nullable = false, columnDefinition = "bigint[]")
+	private Long[] locationIds;
+
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(name = "service_ids", nullable = false, columnDefinition = "bigint[]")
+	private Long[] serviceIds;
+
+	@Column(length = 1000)
+	private String description;
+	@Column
+	private Double rating;
+	@Column
+	private Integer experienceYears;
+	@Column
+	private Integer pricePerHour;
+	@Column
+	private Integer pricePerDay;
+	@Column(nullable = false)
+	private Boolean approvalStatus;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private GenderType gender;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private CaregiverStatus status;
+
+	@Column
+	private LocalDateTime createdAt;
+	@Column
+	private LocalDateTime updatedAt;
+
+	public static CaregiverSearch from(Caregiver caregiver) {
+		CaregiverSearch search = new CaregiverSearch();
+		search.caregiverId = caregiver.getId();
+		search.refresh(caregiver);
+		return search;
+	}
+
+	public void refresh(Caregiver caregiver) {
+		// 카테고리 엔티티는 LAZY 프록시지만 ID 조회만 하므로 추가 쿼리가 발생하지 않는다
+		this.locationIds = caregiver.getCaregiverCategoryLocations().stream()
+			.map(location -> location.getCategoryLocation().getId())
+			.distinct()
+			.toArray(Long[]::new);
+		this.serviceIds = caregiver.getCaregiverCategoryServices().stream()
+			.map(service -> service.getCategoryService().getId())
+			.distinct()
+			.toArray(Long[]::new);
+		this.description = caregiver.getDescription();
+		this.rating = caregiver.getRating();
+		this.experienceYears = caregiver.getExperienceYears();
+		this.pricePerHour = caregiver.getPricePerHour();
+		this.pricePerDay = caregiver.getPricePerDay();
+		this.approvalStatus = Boolean.TRUE.equals(caregiver.getApprovalStatus());
+		this.gender = caregiver.getGender();
+		this.status = caregiver.getStatus();
+		this.createdAt = caregiver.getCreatedAt();
+		// 원본의 @LastModifiedDate 는 flush 시점에 채워지므로 동기화 시각을 수정 시각으로 쓴다
+		this.updatedAt = LocalDateTime.now();
+	}
+}
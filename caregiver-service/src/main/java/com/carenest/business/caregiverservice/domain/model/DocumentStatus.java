@@ -0,0 +1,8 @@
+package com.carenest.business.caregiverservice.domain.model;
+
+public enum DocumentStatus {
+	PENDING,        // 접수됨 (처리 대기)
+	PROCESSING,     // 업로드/썸네일/체크섬 처리 중
+	COMPLETED,      // 처리 완료, 간병인 제출 서류에 반영됨
+	FAILED          // 처리 실패
+}
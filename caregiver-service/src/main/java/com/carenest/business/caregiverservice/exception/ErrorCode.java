@@ -12,6 +12,8 @@ public enum ErrorCode {
 	NOT_FOUND("C-001", "해당 간병인을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 	NO_PERMISSION("C-002", "간병인 권한이 없습니다.", HttpStatus.FORBIDDEN),
 	ALREADY_REGISTERED_COMPANY("C-003", "이미 등록된 간병인 입니다.", HttpStatus.CONFLICT),
+	INVALID_RANKING_CATEGORY("C-005", "지역과 서비스 중 하나만 지정할 수 있습니다.", HttpStatus.BAD_REQUEST),
+	INVALID_CURSOR("C-006", "잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
 
 	NOT_FOUND_SERVICES("CS-001", "해당 서비스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 	NOT_FOUND_LOCATION("CL-001", "해당 지역을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
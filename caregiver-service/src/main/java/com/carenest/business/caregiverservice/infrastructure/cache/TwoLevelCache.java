@@ -0,0 +1,127 @@
+package com.carenest.business.caregiverservice.infrastructure.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+/**
+ * 로컬 Caffeine(L1) 앞단 + Redis(L2) 공유 캐시.
+ * 조회는 L1 → L2 순서로 하고 L2 에서 찾은 값은 L1 에 올린다.
+ * 쓰기/삭제는 L2 에 먼저 반영한 뒤 L1 을 갱신하고, 다른 인스턴스의 L1 을 지우도록 무효화 메시지를 보낸다.
+ */
+public class TwoLevelCache implements Cache {
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+	private final RedisCache remote;
+	// 무효화할 키 (null 이면 전체) 를 다른 인스턴스에 알린다
+	private final Consumer<String> invalidationPublisher;
+
+	public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+		RedisCache remote, Consumer<String> invalidationPublisher) {
+		this.name = name;
+		this.local = local;
+		this.remote = remote;
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = localKey(key);
+		Object value = local.getIfPresent(localKey);
+		if (value != null) {
+			return new SimpleValueWrapper(value);
+		}
+
+		ValueWrapper wrapper = remote.get(key);
+		if (wrapper != null && wrapper.get() != null) {
+			local.put(localKey, wrapper.get());
+		}
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper == null ? null : wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다: " + type.getName());
+		}
+		return (T)value;
+	}
+
+	// L1 계산은 키별로 원자적이므로 같은 인스턴스의 동시 미스는 한 번만 L2/원본을 조회한다
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return (T)local.get(localKey(key), k -> remote.get(key, valueLoader));
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remote.put(key, value);
+		if (value != null) {
+			local.put(localKey(key), value);
+		} else {
+			local.invalidate(localKey(key));
+		}
+		invalidationPublisher.accept(localKey(key));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = remote.putIfAbsent(key, value);
+		Object current = existing == null ? value : existing.get();
+		if (current != null) {
+			local.put(localKey(key), current);
+		}
+		if (existing == null) {
+			invalidationPublisher.accept(localKey(key));
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		local.invalidate(localKey(key));
+		invalidationPublisher.accept(localKey(key));
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		local.invalidateAll();
+		invalidationPublisher.accept(null);
+	}
+
+	/**
+	 * 다른 인스턴스의 무효화 메시지를 받아 L1 만 비운다.
+	 */
+	void evictLocal(String localKey) {
+		if (localKey == null) {
+			local.invalidateAll();
+		} else {
+			local.invalidate(localKey);
+		}
+	}
+
+	// RedisCache 의 기본 키 변환과 같은 문자열 표현을 L1 키와 무효화 메시지에 사용한다
+	private String localKey(Object key) {
+		return String.valueOf(key);
+	}
+}
@@ -0,0 +1,118 @@
+package com.carenest.business.caregiverservice.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 이름별로 {@link TwoLevelCache} 를 만들어 주는 캐시 매니저.
+ * 인스턴스 간 L1 무효화는 Redis pub/sub 채널로 주고받고, 자신이 보낸 메시지는 무시한다.
+ * 각 캐시는 생성 시점에 tier(l1/l2) 태그로 hit/miss/eviction 메트릭을 등록해 Prometheus 로 노출된다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "caregiver:cache:invalidation";
+
+	private final String instanceId = UUID.randomUUID().toString();
+	private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+	private final RedisCacheManager remoteCacheManager;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final long localMaxSize;
+	private final Duration localTtl;
+
+	public TwoLevelCacheManager(RedisCacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper, MeterRegistry meterRegistry, long localMaxSize, Duration localTtl) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.localMaxSize = localMaxSize;
+		this.localTtl = localTtl;
+	}
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		return List.of();
+	}
+
+	@Override
+	protected Cache getMissingCache(String name) {
+		return caches.computeIfAbsent(name, this::createCache);
+	}
+
+	private TwoLevelCache createCache(String name) {
+		RedisCache remote = (RedisCache)remoteCacheManager.getCache(name);
+		// L2 보다 짧게 두어 무효화 메시지가 유실돼도 오래된 값이 오래 남지 않게 한다
+		com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(localTtl)
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+		new RedisCacheMetrics(remote, Tags.of("tier", "l2")).bindTo(meterRegistry);
+
+		return new TwoLevelCache(name, local, remote, key -> publish(name, key));
+	}
+
+	private void publish(String cacheName, String key) {
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+				objectMapper.writeValueAsString(new CacheInvalidation(instanceId, cacheName, key)));
+		} catch (JsonProcessingException | RuntimeException e) {
+			// 전파 실패 시에도 다른 인스턴스의 L1 은 TTL 이 지나면 정리된다
+			log.warn("캐시 무효화 전파 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			CacheInvalidation invalidation = objectMapper.readValue(message.getBody(), CacheInvalidation.class);
+			if (instanceId.equals(invalidation.origin())) {
+				return;
+			}
+			TwoLevelCache cache = caches.get(invalidation.cacheName());
+			if (cache != null) {
+				cache.evictLocal(invalidation.key());
+				Counter.builder("cache.invalidations")
+					.tags("cache", invalidation.cacheName(), "tier", "l1")
+					.register(meterRegistry)
+					.increment();
+			}
+		} catch (Exception e) {
+			log.warn("캐시 무효화 메시지 처리 실패: error={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * @param key 무효화할 L1 키, null 이면 캐시 전체
+	 */
+	public record CacheInvalidation(String origin, String cacheName, String key) {
+	}
+}
@@ -1,5 +1,6 @@
 package com.carenest.business.caregiverservice.infrastructure.client;
 
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.cloud.openfeign.FeignClient;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.carenest.business.caregiverservice.config.FeignConfig;
 import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationAcceptRequest;
+import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationBulkRequest;
 import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationRejectRequest;
 import com.carenest.business.caregiverservice.infrastructure.client.dto.reservation.ReservationResponse;
 import com.carenest.business.common.response.ResponseDto;
@@ -22,6 +24,9 @@ public interface ReservationClient {
 	@GetMapping("/api/v1/internal/reservations/{reservationId}")
 	ResponseDto<ReservationResponse> getReservationDetails(@PathVariable UUID reservationId);
 
+	@PostMapping("/api/v1/internal/reservations/bulk")
+	ResponseDto<Map<UUID, ReservationResponse>> getReservationDetailsBulk(@RequestBody ReservationBulkRequest request);
+
 	@PostMapping("/api/v1/internal/reservations/{reservationId}/accept")
 	ResponseDto<ReservationResponse> acceptReservation(@PathVariable UUID reservationId,
 		@RequestBody @Valid ReservationAcceptRequest request);
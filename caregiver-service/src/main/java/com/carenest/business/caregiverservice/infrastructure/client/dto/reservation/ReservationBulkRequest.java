@@ -0,0 +1,26 @@
+package com.carenest.business.caregiverservice.infrastructure.client.dto.reservation;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBulkRequest {
+
+	// reservation-service 가 한 번에 받는 최대 ID 수
+	public static final int MAX_SIZE = 200;
+
+	// 간병 상세 정보(patientCondition, careAddress, serviceRequests, totalAmount, serviceFee)만 조회
+	public static final String CARE_DETAIL = "CARE_DETAIL";
+
+	private List<UUID> reservationIds;
+
+	private String projection;
+}
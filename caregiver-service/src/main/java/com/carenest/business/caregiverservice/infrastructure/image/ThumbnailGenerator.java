@@ -0,0 +1,97 @@
+package com.carenest.business.caregiverservice.infrastructure.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 서류의 미리보기용 PNG 썸네일을 만든다. 이미지가 아니거나 읽을 수 없는 형식이면 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+
+	public static final String CONTENT_TYPE = "image/png";
+
+	@Value("${caregiver.document.thumbnail-width:200}")
+	private int thumbnailWidth;
+
+	// 디코딩을 허용하는 최대 픽셀 수 (가로 x 세로)
+	@Value("${caregiver.document.thumbnail-max-pixels:50000000}")
+	private long maxPixels;
+
+	public boolean supports(String contentType) {
+		return contentType != null && contentType.startsWith("image/");
+	}
+
+	// 파일 캐시 대신 메모리 캐시 스트림으로 읽어 임시 파일을 만들지 않는다
+	public Optional<byte[]> generate(InputStream in) throws IOException {
+		BufferedImage source;
+		try (ImageInputStream input = new MemoryCacheImageInputStream(in)) {
+			source = decode(input);
+		}
+		if (source == null) {
+			return Optional.empty();
+		}
+
+		// 원본이 더 작으면 확대하지 않고 비율만 유지한다
+		int width = Math.min(thumbnailWidth, source.getWidth());
+		int height = Math.max(1, (int)Math.round((double)source.getHeight() * width / source.getWidth()));
+		BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = thumbnail.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(thumbnail, "png", out);
+		return Optional.of(out.toByteArray());
+	}
+
+	/**
+	 * 헤더의 해상도부터 확인해, 작은 파일이 거대한 해상도를 선언한 경우 디코딩하지 않는다.
+	 * 허용 범위 안이면 썸네일 폭에 맞춰 픽셀을 건너뛰며 읽어 디코딩 결과도 썸네일 크기에 가깝게 유지한다.
+	 */
+	private BufferedImage decode(ImageInputStream input) throws IOException {
+		Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+		if (!readers.hasNext()) {
+			return null;
+		}
+		ImageReader reader = readers.next();
+		try {
+			reader.setInput(input, true, true);
+			int sourceWidth = reader.getWidth(0);
+			int sourceHeight = reader.getHeight(0);
+			if ((long)sourceWidth * sourceHeight > maxPixels) {
+				log.warn("썸네일 생성 생략: 해상도 초과 ({}x{})", sourceWidth, sourceHeight);
+				return null;
+			}
+
+			ImageReadParam param = reader.getDefaultReadParam();
+			int step = Math.max(1, sourceWidth / thumbnailWidth);
+			param.setSourceSubsampling(step, step, 0, 0);
+			return reader.read(0, param);
+		} finally {
+			reader.dispose();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.carenest.business.caregiverservice.infrastructure.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 간병인 인기 순위를 Redis sorted set 으로 보관한다.
+ * 전체/지역별/서비스별로 키를 나눠 두고, 점수에는 평점(소수 4자리)과 리뷰 수를 함께 담아
+ * "평점 내림차순, 같으면 리뷰 수 내림차순" 정렬을 ZREVRANGE 한 번으로 얻는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaregiverRankingRepository {
+
+	private static final String PREFIX = "caregiver:ranking:";
+	private static final String INITIALIZED_KEY = PREFIX + "initialized";
+	// 리뷰 수를 점수 하위 자리에 담기 위한 배율 (평점 5.0 기준 최대 5e10 으로 double 정밀도 안에 들어간다)
+	private static final double COUNT_RANGE = 1_000_000d;
+	private static final double RATING_SCALE = 10_000d;
+
+	private final StringRedisTemplate redisTemplate;
+
+	public static String allKey() {
+		return PREFIX + "all";
+	}
+
+	public static String locationKey(Long locationId) {
+		return PREFIX + "location:" + locationId;
+	}
+
+	public static String serviceKey(Long serviceId) {
+		return PREFIX + "service:" + serviceId;
+	}
+
+	public static Set<String> keysOf(Long[] locationIds, Long[] serviceIds) {
+		Set<String> keys = new LinkedHashSet<>();
+		keys.add(allKey());
+		for (Long locationId : locationIds) {
+			keys.add(locationKey(locationId));
+		}
+		for (Long serviceId : serviceIds) {
+			keys.add(serviceKey(serviceId));
+		}
+		return keys;
+	}
+
+	public void put(UUID caregiverId, double rating, long reviewCount, Collection<String> keys) {
+		double score = score(rating, reviewCount);
+		for (String key : keys) {
+			redisTemplate.opsForZSet().add(key, caregiverId.toString(), score);
+		}
+	}
+
+	public void remove(UUID caregiverId, Collection<String> keys) {
+		for (String key : keys) {
+			redisTemplate.opsForZSet().remove(key, caregiverId.toString());
+		}
+	}
+
+	/**
+	 * 전체 순위에 기록된 리뷰 수. 카테고리만 바뀌어 리뷰 수를 모를 때 기존 값을 유지하는 데 쓴다.
+	 */
+	public long reviewCountOf(UUID caregiverId) {
+		Double score = redisTemplate.opsForZSet().score(allKey(), caregiverId.toString());
+		return score == null ? 0L : reviewCount(score);
+	}
+
+	public List<RankedCaregiver> top(String key, int size) {
+		Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+			.reverseRangeWithScores(key, 0, size - 1);
+		List<RankedCaregiver> ranked = new ArrayList<>();
+		if (tuples == null) {
+			return ranked;
+		}
+		for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+			double score = tuple.getScore() == null ? 0d : tuple.getScore();
+			ranked.add(new RankedCaregiver(UUID.fromString(tuple.getValue()), rating(score), reviewCount(score)));
+		}
+		return ranked;
+	}
+
+	public boolean isInitialized() {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(INITIALIZED_KEY));
+	}
+
+	/**
+	 * 키별로 모은 순위를 한 번에 적재하고 초기화 표시를 남긴다.
+	 */
+	public void putAll(Map<String, Set<ZSetOperations.TypedTuple<String>>> rankings) {
+		rankings.forEach((key, tuples) -> redisTemplate.opsForZSet().add(key, tuples));
+		redisTemplate.opsForValue().set(INITIALIZED_KEY, "1");
+	}
+
+	public static ZSetOperations.TypedTuple<String> tuple(UUID caregiverId, double rating, long reviewCount) {
+		return new DefaultTypedTuple<>(caregiverId.toString(), score(rating, reviewCount));
+	}
+
+	private static double score(double rating, long reviewCount) {
+		return Math.round(rating * RATING_SCALE) * COUNT_RANGE + Math.min(reviewCount, (long)COUNT_RANGE - 1);
+	}
+
+	private static double rating(double score) {
+		return Math.floor(score / COUNT_RANGE) / RATING_SCALE;
+	}
+
+	private static long reviewCount(double score) {
+		return (long)(score % COUNT_RANGE);
+	}
+
+	public record RankedCaregiver(UUID caregiverId, double rating, long reviewCount) {
+	}
+}
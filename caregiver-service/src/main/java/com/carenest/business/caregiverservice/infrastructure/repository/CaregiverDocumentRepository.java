@@ -0,0 +1,61 @@
+package com.carenest.business.caregiverservice.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.carenest.business.caregiverservice.domain.model.CaregiverDocument;
+import com.carenest.business.caregiverservice.domain.model.DocumentStatus;
+
+/**
+ * 상태 전이는 모두 조건부 UPDATE 로 수행한다. 반환값이 0 이면 다른 워커가 먼저 바꾼 것이므로 반영하지 않는다.
+ */
+public interface CaregiverDocumentRepository extends JpaRepository<CaregiverDocument, UUID> {
+
+	List<CaregiverDocument> findAllByCaregiverIdOrderByCreatedAtAsc(UUID caregiverId);
+
+	List<CaregiverDocument> findAllByStatusAndLeasedAtBefore(DocumentStatus status, LocalDateTime leasedAt);
+
+	Optional<CaregiverDocument> findFirstByChecksumAndStatus(String checksum, DocumentStatus status);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update CaregiverDocument d "
+		+ "set d.status = com.carenest.business.caregiverservice.domain.model.DocumentStatus.PROCESSING, "
+		+ "d.leasedAt = :leasedAt "
+		+ "where d.id = :id "
+		+ "and d.status = com.carenest.business.caregiverservice.domain.model.DocumentStatus.PENDING")
+	int claim(@Param("id") UUID id, @Param("leasedAt") LocalDateTime leasedAt);
+
+	// 임대가 만료된 처리 중 서류를 다시 PENDING 으로 되돌린다
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update CaregiverDocument d "
+		+ "set d.status = com.carenest.business.caregiverservice.domain.model.DocumentStatus.PENDING, "
+		+ "d.leasedAt = :leasedAt "
+		+ "where d.id = :id and d.status = :status and d.leasedAt = :expectedLeasedAt")
+	int reclaim(@Param("id") UUID id, @Param("status") DocumentStatus status,
+		@Param("expectedLeasedAt") LocalDateTime expectedLeasedAt, @Param("leasedAt") LocalDateTime leasedAt);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update CaregiverDocument d "
+		+ "set d.status = com.carenest.business.caregiverservice.domain.model.DocumentStatus.COMPLETED, "
+		+ "d.checksum = :checksum, d.url = :url, d.thumbnailUrl = :thumbnailUrl, d.stagingPath = null "
+		+ "where d.id = :id and d.leasedAt = :leasedAt "
+		+ "and d.status = com.carenest.business.caregiverservice.domain.model.DocumentStatus.PROCESSING")
+	int complete(@Param("id") UUID id, @Param("leasedAt") LocalDateTime leasedAt, @Param("checksum") String checksum,
+		@Param("url") String url, @Param("thumbnailUrl") String thumbnailUrl);
+
+	// 읽은 시점의 상태와 임대 시각이 그대로일 때만 실패 처리한다. COMPLETED 는 덮어쓰지 않는다
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update CaregiverDocument d "
+		+ "set d.status = com.carenest.business.caregiverservice.domain.model.DocumentStatus.FAILED, "
+		+ "d.failureReason = :reason, d.stagingPath = null "
+		+ "where d.id = :id and d.status = :status and d.leasedAt = :leasedAt")
+	int fail(@Param("id") UUID id, @Param("status") DocumentStatus status, @Param("leasedAt") LocalDateTime leasedAt,
+		@Param("reason") String reason);
+}
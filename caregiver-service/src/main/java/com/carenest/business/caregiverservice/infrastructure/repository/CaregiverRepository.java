@@ -4,8 +4,13 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.carenest.business.caregiverservice.domain.model.Caregiver;
+
+import jakarta.persistence.LockModeType;
 import com.carenest.business.caregiverservice.infrastructure.repository.querydsl.CaregiverCustomRepository;
 
 public interface CaregiverRepository extends JpaRepository<Caregiver, UUID>, CaregiverCustomRepository {
@@ -15,4 +20,9 @@ public interface CaregiverRepository extends JpaRepository<Caregiver, UUID>, Car
 	Optional<Caregiver> findByUserId(UUID userId);
 
 	Optional<Caregiver> findByIdAndUserId(UUID id, UUID userId);
+
+	// 제출 서류(ElementCollection)는 갱신 시 전체를 다시 쓰므로 동시 반영을 직렬화한다
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select c from Caregiver c where c.id = :id")
+	Optional<Caregiver> findByIdForUpdate(@Param("id") UUID id);
 }
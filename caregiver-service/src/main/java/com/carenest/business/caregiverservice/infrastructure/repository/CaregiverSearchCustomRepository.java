@@ -0,0 +1,11 @@
+package com.carenest.business.caregiverservice.infrastructure.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.carenest.business.caregiverservice.domain.model.CaregiverSearch;
+
+public interface CaregiverSearchCustomRepository {
+
+	Page<CaregiverSearch> search(String location, String service, Pageable pageable);
+}
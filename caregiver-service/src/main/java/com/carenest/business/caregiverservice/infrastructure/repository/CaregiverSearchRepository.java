@@ -0,0 +1,13 @@
+package com.carenest.business.caregiverservice.infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.carenest.business.caregiverservice.domain.model.CaregiverSearch;
+
+public interface CaregiverSearchRepository extends JpaRepository<CaregiverSearch, UUID>, CaregiverSearchCustomRepository {
+
+	List<CaregiverSearch> findAllByRatingIsNotNull();
+}
@@ -0,0 +1,85 @@
+package com.carenest.business.caregiverservice.infrastructure.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.carenest.business.caregiverservice.domain.model.CaregiverSearch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+public class CaregiverSearchRepositoryImpl implements CaregiverSearchCustomRepository {
+
+	// 정렬 가능한 속성만 컬럼으로 매핑 (임의 문자열이 SQL 에 들어가지 않도록)
+	private static final Map<String, String> SORT_COLUMNS = Map.of(
+		"createdAt", "created_at",
+		"updatedAt", "updated_at",
+		"rating", "rating",
+		"experienceYears", "experience_years",
+		"pricePerHour", "price_per_hour",
+		"pricePerDay", "price_per_day"
+	);
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Page<CaregiverSearch> search(String location, String service, Pageable pageable) {
+		String where = where(location, service);
+
+		Query contentQuery = entityManager.createNativeQuery(
+			"SELECT s.* FROM p_caregiver_search s" + where + orderBy(pageable.getSort())
+				+ " LIMIT :limit OFFSET :offset", CaregiverSearch.class);
+		bind(contentQuery, location, service);
+		contentQuery.setParameter("limit", pageable.getPageSize());
+		contentQuery.setParameter("offset", pageable.getOffset());
+		List<CaregiverSearch> content = contentQuery.getResultList();
+
+		// 한 간병인당 한 행이므로 조인 없이 정확한 건수가 나온다
+		Query countQuery = entityManager.createNativeQuery("SELECT count(*) FROM p_caregiver_search s" + where);
+		bind(countQuery, location, service);
+		long total = ((Number)countQuery.getSingleResult()).longValue();
+
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	private String where(String location, String service) {
+		StringBuilder where = new StringBuilder(" WHERE s.approval_status = true AND s.status = 'AVAILABLE'");
+		// 카테고리 이름은 고유하지 않을 수 있어 이름에 해당하는 ID 배열과의 겹침(&&)으로 GIN 인덱스를 탄다
+		if (location != null) {
+			where.append(" AND s.location_ids && ARRAY(SELECT l.id FROM p_category_location l WHERE l.name = :location)");
+		}
+		if (service != null) {
+			where.append(" AND s.service_ids && ARRAY(SELECT c.id FROM p_category_service c WHERE c.name = :service)");
+		}
+		return where.toString();
+	}
+
+	private void bind(Query query, String location, String service) {
+		if (location != null) {
+			query.setParameter("location", location);
+		}
+		if (service != null) {
+			query.setParameter("service", service);
+		}
+	}
+
+	private String orderBy(Sort sort) {
+		StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+		for (Sort.Order order : sort) {
+			String column = SORT_COLUMNS.get(order.getProperty());
+			if (column != null) {
+				orderBy.append("s.").append(column).append(order.isAscending() ? " ASC" : " DESC").append(" NULLS LAST, ");
+			}
+		}
+		// 동일 값이 많아도 페이지 경계가 흔들리지 않도록 PK 로 마무리
+		return orderBy.append("s.caregiver_id").toString();
+	}
+}
@@ -0,0 +1,40 @@
+package com.carenest.business.caregiverservice.infrastructure.repository.querydsl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.carenest.business.caregiverservice.domain.model.Caregiver;
+
+/**
+ * 간병인 목록 키셋 페이징 위치. (createdAt desc, id desc) 순서에서 마지막으로 읽은 행을 가리키며,
+ * 클라이언트에는 불투명한 문자열로 주고받는다.
+ */
+public record CaregiverCursor(LocalDateTime createdAt, UUID id) {
+
+	private static final String DELIMITER = "|";
+
+	public static CaregiverCursor of(Caregiver caregiver) {
+		return new CaregiverCursor(caregiver.getCreatedAt(), caregiver.getId());
+	}
+
+	/**
+	 * @throws IllegalArgumentException 형식이 잘못된 커서
+	 */
+	public static CaregiverCursor decode(String value) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+			int index = decoded.indexOf(DELIMITER);
+			return new CaregiverCursor(LocalDateTime.parse(decoded.substring(0, index)),
+				UUID.fromString(decoded.substring(index + 1)));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다: " + value, e);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString((createdAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -6,18 +6,20 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.carenest.business.caregiverservice.domain.model.Caregiver;
 import com.carenest.business.caregiverservice.domain.model.GenderType;
 
 public interface CaregiverCustomRepository {
-	Page<Caregiver> searchByConditions(String location, String service, Pageable pageable);
-
 	Optional<Caregiver> findCaregiverWithCategories(UUID userId);
 
 	Page<Caregiver> findAllCaregivers(Pageable pageable);
 
+	// cursor 가 null 이면 첫 페이지
+	Slice<Caregiver> findAllCaregivers(CaregiverCursor cursor, int size);
+
 	Optional<Caregiver> findCaregiverWithCategoriesById(UUID caregiverId);
 
-	List<Caregiver> getCaregiverIdsByFilters(String location, GenderType gender, Integer experienceYears, Double rating);
+	List<UUID> getCaregiverIdsByFilters(String location, GenderType gender, Integer experienceYears, Double rating);
 }
@@ -6,22 +6,31 @@ import static com.carenest.business.caregiverservice.domain.model.category.QCare
 import static com.carenest.business.caregiverservice.domain.model.category.QCategoryLocation.*;
 import static com.carenest.business.caregiverservice.domain.model.category.QCategoryService.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 
-import com.carenest.business.caregiverservice.domain.model.CaregiverStatus;
 import com.carenest.business.caregiverservice.domain.model.GenderType;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 
 import com.carenest.business.caregiverservice.domain.model.Caregiver;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -31,45 +40,6 @@ import lombok.RequiredArgsConstructor;
 public class CaregiverRepositoryImpl implements CaregiverCustomRepository {
 	private final JPAQueryFactory jpaQueryFactory;
 
-	@Override
-	public Page<Caregiver> searchByConditions(String location, String service, Pageable pageable) {
-
-		JPAQuery<Caregiver> careQuery = jpaQueryFactory
-			.selectFrom(caregiver)
-			.leftJoin(caregiver.caregiverCategoryLocations, caregiverCategoryLocation).fetchJoin()
-			.leftJoin(caregiver.caregiverCategoryServices, caregiverCategoryService).fetchJoin()
-			.where(
-				location != null ? caregiverCategoryLocation.categoryLocation.name.eq(location) : null,
-				service != null ? caregiverCategoryService.categoryService.name.eq(service) : null,
-				caregiver.approvalStatus.eq(true),
-				caregiver.status.eq(CaregiverStatus.AVAILABLE)
-			)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize());
-
-		// 정렬
-		for (Sort.Order o : pageable.getSort()) {
-			PathBuilder pathBuilder = new PathBuilder(caregiver.getType(), caregiver.getMetadata());
-			careQuery.orderBy(
-				new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, pathBuilder.get(o.getProperty())));
-		}
-
-		List<Caregiver> caregivers = careQuery.fetch();
-		JPAQuery<Long> caregiverCountQuery = jpaQueryFactory
-			.select(caregiver.count())
-			.from(caregiver)
-			.leftJoin(caregiver.caregiverCategoryServices, caregiverCategoryService)
-			.leftJoin(caregiver.caregiverCategoryLocations, caregiverCategoryLocation)
-			.where(
-				location != null ? caregiverCategoryLocation.categoryLocation.name.eq(location) : null,
-				service != null ? caregiverCategoryService.categoryService.name.eq(service) : null,
-				caregiver.approvalStatus.eq(true),
-				caregiver.status.eq(CaregiverStatus.AVAILABLE)
-			);
-
-		return new PageImpl<>(caregivers, pageable, caregiverCountQuery.fetchOne());
-	}
-
 	@Override
 	public Optional<Caregiver> findCaregiverWithCategories(UUID userId) {
 		Caregiver result = jpaQueryFactory
@@ -82,29 +52,41 @@ public class CaregiverRepositoryImpl implements CaregiverCustomRepository {
 		return Optional.ofNullable(result);
 	}
 
+	// 컬렉션 fetch join 과 offset/limit 을 함께 쓰면 Hibernate 가 전체 행을 읽고 메모리에서 자르므로,
+	// 1) 페이지에 해당하는 id 만 DB 에서 자르고 2) 그 id 들의 카테고리를 IN 조회로 한 번에 불러온다
 	@Override
 	public Page<Caregiver> findAllCaregivers(Pageable pageable) {
-		JPAQuery careQuery = jpaQueryFactory
-			.selectFrom(caregiver).distinct()
-			.leftJoin(caregiver.caregiverCategoryServices, caregiverCategoryService).fetchJoin()
-			.leftJoin(caregiverCategoryService.categoryService, categoryService).fetchJoin()
-			.leftJoin(caregiver.caregiverCategoryLocations, caregiverCategoryLocation).fetchJoin()
-			.leftJoin(caregiverCategoryLocation.categoryLocation, categoryLocation).fetchJoin()
+		List<UUID> ids = jpaQueryFactory
+			.select(caregiver.id)
+			.from(caregiver)
+			.orderBy(orderSpecifiers(pageable.getSort()))
 			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize());
-
-		for (Sort.Order o : pageable.getSort()) {
-			PathBuilder pathBuilder = new PathBuilder(caregiver.getType(), caregiver.getMetadata());
-			careQuery.orderBy(
-				new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, pathBuilder.get(o.getProperty())));
-		}
+			.limit(pageable.getPageSize())
+			.fetch();
 
-		List<Caregiver> caregivers = careQuery.fetch();
-		JPAQuery<Long> caregiverCountQuery = jpaQueryFactory
-			.select(caregiver.id.countDistinct())
+		JPAQuery<Long> countQuery = jpaQueryFactory
+			.select(caregiver.count())
 			.from(caregiver);
 
-		return new PageImpl<>(caregivers, pageable, caregiverCountQuery.fetchOne());
+		return PageableExecutionUtils.getPage(findAllWithCategories(ids), pageable, countQuery::fetchOne);
+	}
+
+	// 깊은 페이지에서도 앞선 행을 건너뛰지 않도록 (created_at, id) 인덱스를 커서 위치부터 읽는다
+	@Override
+	public Slice<Caregiver> findAllCaregivers(CaregiverCursor cursor, int size) {
+		List<UUID> ids = jpaQueryFactory
+			.select(caregiver.id)
+			.from(caregiver)
+			.where(after(cursor))
+			.orderBy(caregiver.createdAt.desc(), caregiver.id.desc())
+			.limit(size + 1)
+			.fetch();
+
+		boolean hasNext = ids.size() > size;
+		if (hasNext) {
+			ids = ids.subList(0, size);
+		}
+		return new SliceImpl<>(findAllWithCategories(ids), PageRequest.ofSize(size), hasNext);
 	}
 
 	@Override
@@ -121,22 +103,79 @@ public class CaregiverRepositoryImpl implements CaregiverCustomRepository {
 		return Optional.ofNullable(result);
 	}
 
+	// 호출 측은 id 만 쓰므로 엔티티와 카테고리를 불러오지 않는다
 	@Override
-	public List<Caregiver> getCaregiverIdsByFilters(String location, GenderType gender, Integer experienceYears,
+	public List<UUID> getCaregiverIdsByFilters(String location, GenderType gender, Integer experienceYears,
 		Double rating) {
 
-		List<Caregiver> caregivers = jpaQueryFactory
-			.selectFrom(caregiver)
-			.leftJoin(caregiver.caregiverCategoryLocations, caregiverCategoryLocation).fetchJoin()
-			.leftJoin(caregiver.caregiverCategoryServices, caregiverCategoryService).fetchJoin()
+		return jpaQueryFactory
+			.select(caregiver.id)
+			.from(caregiver)
 			.where(
-				location != null ? caregiverCategoryLocation.categoryLocation.name.eq(location) : null,
+				hasLocation(location),
 				gender != null ? caregiver.gender.eq(gender) : null,
 				experienceYears != null ? caregiver.experienceYears.loe(experienceYears) : null,
 				rating != null ? caregiver.rating.loe(rating) : null,
 				caregiver.approvalStatus.eq(true)
 			)
 			.fetch();
-		return caregivers;
+	}
+
+	// 2단계: 페이지에 포함된 간병인만 카테고리와 함께 불러오고 1단계의 정렬 순서를 유지한다
+	private List<Caregiver> findAllWithCategories(List<UUID> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, Caregiver> caregivers = jpaQueryFactory
+			.selectFrom(caregiver).distinct()
+			.leftJoin(caregiver.caregiverCategoryServices, caregiverCategoryService).fetchJoin()
+			.leftJoin(caregiverCategoryService.categoryService, categoryService).fetchJoin()
+			.leftJoin(caregiver.caregiverCategoryLocations, caregiverCategoryLocation).fetchJoin()
+			.leftJoin(caregiverCategoryLocation.categoryLocation, categoryLocation).fetchJoin()
+			.where(caregiver.id.in(ids))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(Caregiver::getId, Function.identity()));
+
+		return ids.stream()
+			.map(caregivers::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	// 카테고리 조건은 조인 대신 EXISTS 로 걸어 id 페이지에 중복 행이 생기지 않게 한다
+	private BooleanExpression hasLocation(String location) {
+		if (location == null) {
+			return null;
+		}
+		return JPAExpressions.selectOne()
+			.from(caregiverCategoryLocation)
+			.where(
+				caregiverCategoryLocation.caregiver.eq(caregiver),
+				caregiverCategoryLocation.categoryLocation.name.eq(location)
+			)
+			.exists();
+	}
+
+	// created_at <= ? 를 따로 두어야 (created_at, id) 인덱스의 범위 조건으로 쓰인다
+	private BooleanExpression after(CaregiverCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return caregiver.createdAt.loe(cursor.createdAt())
+			.and(caregiver.createdAt.lt(cursor.createdAt()).or(caregiver.id.lt(cursor.id())));
+	}
+
+	// 같은 값이 많은 정렬 기준에서도 페이지 경계가 흔들리지 않도록 id 를 마지막 정렬 기준으로 둔다
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+		PathBuilder<Caregiver> pathBuilder = new PathBuilder<>(caregiver.getType(), caregiver.getMetadata());
+		List<OrderSpecifier<?>> orders = new ArrayList<>();
+		for (Sort.Order o : sort) {
+			orders.add(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, pathBuilder.get(o.getProperty())));
+		}
+		orders.add(caregiver.id.desc());
+		return orders.toArray(OrderSpecifier[]::new);
 	}
 }
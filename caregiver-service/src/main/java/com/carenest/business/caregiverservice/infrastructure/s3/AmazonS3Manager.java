@@ -1,75 +1,225 @@
 package com.carenest.business.caregiverservice.infrastructure.s3;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
 import com.carenest.business.caregiverservice.config.AmazonConfig;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * MultipartFile 을 로컬 파일로 옮기지 않고 InputStream 그대로 S3 에 올린다.
+ * 크기를 미리 알려 주므로 SDK 가 전체를 메모리에 버퍼링하지 않고,
+ * 임계값 이상은 멀티파트 업로드로 나눠 올리며, 여러 파일은 TransferManager 스레드에서 동시에 올린다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AmazonS3Manager {
 
+	// 재시도를 위해 SDK 가 mark/reset 으로 보관하는 스트림 앞부분의 최대 크기
+	private static final int READ_LIMIT = 1024 * 1024 + 1;
+
 	private final AmazonS3Client amazonS3Client;
 	private final AmazonConfig amazonConfig;
 
-	// MultipartFile 리스트를 전달받아 S3에 업로드
-	public List<String> upload(List<MultipartFile> multipartFiles, String dirName, Uuid uuid) throws IOException {
-		List<String> uploadImageUrls = new ArrayList<>();
-		for (MultipartFile multipartFile : multipartFiles) {
-			File uploadFile = convert(multipartFile)
-				.orElseThrow(() -> new IllegalArgumentException("MultipartFile -> File 전환 실패"));
-			String uploadImageUrl = upload(uploadFile, dirName, uuid.getUuid());
-			uploadImageUrls.add(uploadImageUrl);
+	@Value("${cloud.aws.s3.upload.multipart-threshold:16MB}")
+	private DataSize multipartThreshold;
+
+	@Value("${cloud.aws.s3.upload.part-size:8MB}")
+	private DataSize partSize;
+
+	@Value("${cloud.aws.s3.upload.threads:4}")
+	private int uploadThreads;
+
+	private TransferManager transferManager;
+
+	@PostConstruct
+	public void init() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		transferManager = TransferManagerBuilder.standard()
+			.withS3Client(amazonS3Client)
+			.withMultipartUploadThreshold(multipartThreshold.toBytes())
+			.withMinimumUploadPartSize(partSize.toBytes())
+			.withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads, runnable -> {
+				Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}))
+			.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// S3 클라이언트는 별도 빈이므로 스레드 풀만 정리한다
+		transferManager.shutdownNow(false);
+	}
+
+	/**
+	 * 제출 서류를 비공개 staging 경로에 올리고 객체 키를 돌려준다. 공개 위치로는 처리기가 서버 측 복사로 옮긴다.
+	 */
+	public List<String> stage(List<MultipartFile> multipartFiles, String dirName, String ownerId) throws IOException {
+		List<InputStream> streams = new ArrayList<>();
+		List<Upload> uploads = new ArrayList<>();
+		List<String> keys = new ArrayList<>();
+		try {
+			for (MultipartFile multipartFile : multipartFiles) {
+				String key = objectKey(dirName, ownerId, multipartFile.getOriginalFilename());
+				InputStream inputStream = multipartFile.getInputStream();
+				streams.add(inputStream);
+				uploads.add(transferManager.upload(putRequest(key, multipartFile, inputStream)));
+				keys.add(key);
+			}
+			for (Upload upload : uploads) {
+				upload.waitForCompletion();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cleanUp(uploads, keys);
+			throw new IOException("S3 업로드가 중단되었습니다.", e);
+		} catch (AmazonClientException e) {
+			cleanUp(uploads, keys);
+			throw new IOException("S3 업로드에 실패했습니다.", e);
+		} catch (IOException e) {
+			cleanUp(uploads, keys);
+			throw e;
+		} finally {
+			for (InputStream stream : streams) {
+				closeQuietly(stream);
+			}
+		}
+		return keys;
+	}
+
+	// 호출한 쪽에서 닫아야 한다 (닫기 전까지 HTTP 커넥션을 점유)
+	public InputStream openStream(String key) throws IOException {
+		try {
+			return amazonS3Client.getObject(amazonConfig.getBucket(), key).getObjectContent();
+		} catch (AmazonClientException e) {
+			throw new IOException("S3 객체를 읽을 수 없습니다: " + key, e);
 		}
-		return uploadImageUrls; // 업로드된 파일들의 S3 URL 주소 리스트 반환
 	}
 
-	private String upload(File uploadFile, String dirName, String uuid) {
-		String fileName = dirName + "/" + uuid + uploadFile.getName();
-		String uploadImageUrl = putS3(uploadFile, fileName);
-		removeNewFile(uploadFile);  // 로컬에 생성된 File 삭제 (MultipartFile -> File 전환 하며 로컬에 파일 생성됨)
-		return uploadImageUrl;      // 업로드된 파일의 S3 URL 주소 반환
+	public boolean exists(String key) {
+		return amazonS3Client.doesObjectExist(amazonConfig.getBucket(), key);
 	}
 
-	private String putS3(File uploadFile, String fileName) {
-		amazonS3Client.putObject(
-			new PutObjectRequest(amazonConfig.getBucket(), fileName, uploadFile)
-				.withCannedAcl(CannedAccessControlList.PublicRead) // PublicRead 권한으로 업로드 됨
-		);
-		return amazonS3Client.getUrl(amazonConfig.getBucket(), fileName).toString();
+	/**
+	 * 같은 버킷 안에서 서버 측 복사로 공개 객체를 만든다. 내용을 다시 내려받거나 올리지 않는다.
+	 */
+	public String copy(String sourceKey, String targetKey) throws IOException {
+		CopyObjectRequest request = new CopyObjectRequest(amazonConfig.getBucket(), sourceKey,
+			amazonConfig.getBucket(), targetKey)
+			.withCannedAccessControlList(CannedAccessControlList.PublicRead);
+		try {
+			transferManager.copy(request).waitForCompletion();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("S3 복사가 중단되었습니다.", e);
+		} catch (AmazonClientException e) {
+			throw new IOException("S3 복사에 실패했습니다.", e);
+		}
+		return amazonS3Client.getUrl(amazonConfig.getBucket(), targetKey).toString();
+	}
+
+	public void delete(String key) {
+		try {
+			amazonS3Client.deleteObject(amazonConfig.getBucket(), key);
+		} catch (AmazonClientException e) {
+			log.warn("S3 객체 삭제 실패: key={}, error={}", key, e.getMessage());
+		}
 	}
 
-	private void removeNewFile(File targetFile) {
-		if (targetFile.delete()) {
-			log.info("파일이 삭제되었습니다.");
-		} else {
-			log.info("파일이 삭제되지 못했습니다.");
+	// 썸네일처럼 이미 메모리에 만들어진 작은 객체를 올린다
+	public String upload(byte[] content, String contentType, String key) throws IOException {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(content.length);
+		metadata.setContentType(contentType);
+		PutObjectRequest request = new PutObjectRequest(amazonConfig.getBucket(), key,
+			new ByteArrayInputStream(content), metadata)
+			.withCannedAcl(CannedAccessControlList.PublicRead);
+		return await(transferManager.upload(request), key);
+	}
+
+	private String await(Upload upload, String key) throws IOException {
+		try {
+			upload.waitForCompletion();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cleanUp(List.of(upload), List.of(key));
+			throw new IOException("S3 업로드가 중단되었습니다.", e);
+		} catch (AmazonClientException e) {
+			cleanUp(List.of(upload), List.of(key));
+			throw new IOException("S3 업로드에 실패했습니다.", e);
 		}
+		return amazonS3Client.getUrl(amazonConfig.getBucket(), key).toString();
 	}
 
-	private Optional<File> convert(MultipartFile file) throws IOException {
-		File convertFile = new File(Objects.requireNonNull(file.getOriginalFilename()));
-		if (convertFile.createNewFile()) {
-			try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-				fos.write(file.getBytes());
+	private PutObjectRequest putRequest(String key, MultipartFile multipartFile, InputStream inputStream) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(multipartFile.getSize());
+		if (multipartFile.getContentType() != null) {
+			metadata.setContentType(multipartFile.getContentType());
+		}
+
+		// staging 객체는 공개하지 않는다
+		PutObjectRequest request = new PutObjectRequest(amazonConfig.getBucket(), key, inputStream, metadata);
+		request.getRequestClientOptions().setReadLimit(READ_LIMIT);
+		return request;
+	}
+
+	// 같은 요청에 원본 파일명이 겹쳐도 덮어쓰지 않도록 파일마다 고유 이름을 쓰고 확장자만 유지한다
+	public String objectKey(String dirName, String uuid, String originalFilename) {
+		String extension = StringUtils.getFilenameExtension(originalFilename);
+		String fileName = UUID.randomUUID() + (extension == null ? "" : "." + extension.toLowerCase());
+		return dirName + "/" + uuid + "/" + fileName;
+	}
+
+	// 일부만 올라간 상태로 남지 않도록 진행 중인 업로드는 중단하고 완료된 객체는 지운다
+	private void cleanUp(List<Upload> uploads, List<String> keys) {
+		for (int i = 0; i < uploads.size(); i++) {
+			Upload upload = uploads.get(i);
+			try {
+				if (upload.isDone()) {
+					amazonS3Client.deleteObject(amazonConfig.getBucket(), keys.get(i));
+				} else {
+					upload.abort();
+				}
+			} catch (AmazonClientException e) {
+				log.warn("업로드 정리 실패: key={}, error={}", keys.get(i), e.getMessage());
 			}
-			return Optional.of(convertFile);
 		}
-		return Optional.empty();
 	}
-}
\ No newline at end of file
+
+	private void closeQuietly(InputStream stream) {
+		try {
+			stream.close();
+		} catch (IOException e) {
+			log.debug("업로드 스트림 닫기 실패: {}", e.getMessage());
+		}
+	}
+}
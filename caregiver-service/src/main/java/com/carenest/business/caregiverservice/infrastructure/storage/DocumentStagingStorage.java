@@ -0,0 +1,59 @@
+package com.carenest.business.caregiverservice.infrastructure.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.amazonaws.AmazonClientException;
+import com.carenest.business.caregiverservice.infrastructure.s3.AmazonS3Manager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 처리 전까지 제출 서류 원본을 보관하는 S3 staging 경로.
+ * 요청 스레드는 multipart 스트림을 로컬 디스크를 거치지 않고 그대로 올리고, 처리기는 어느 인스턴스에서든 같은 객체를 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentStagingStorage {
+
+	private final AmazonS3Manager amazonS3Manager;
+
+	@Value("${caregiver.document.staging-prefix:staging/documents}")
+	private String stagingPrefix;
+
+	// 파일 순서대로 staging 객체 키를 돌려준다. 하나라도 실패하면 이미 올라간 객체는 지운다
+	public List<String> stage(UUID caregiverId, List<MultipartFile> multipartFiles) throws IOException {
+		return amazonS3Manager.stage(multipartFiles, stagingPrefix, caregiverId.toString());
+	}
+
+	public InputStream open(String key) throws IOException {
+		return amazonS3Manager.openStream(key);
+	}
+
+	public boolean exists(String key) {
+		if (key == null) {
+			return false;
+		}
+		try {
+			return amazonS3Manager.exists(key);
+		} catch (AmazonClientException e) {
+			// 확인하지 못했으면 실패 처리하지 않고 다음 sweep 에서 다시 본다
+			log.warn("staging 객체 확인 실패: key={}, error={}", key, e.getMessage());
+			return true;
+		}
+	}
+
+	public void delete(String key) {
+		if (key != null) {
+			amazonS3Manager.delete(key);
+		}
+	}
+}
@@ -21,14 +21,17 @@ import org.springframework.web.multipart.MultipartFile;
 import com.carenest.business.caregiverservice.application.dto.request.CaregiverCreateRequestServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.BulkCaregiverTop10Response;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverCreateResponseServiceDTO;
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverDocumentResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverReadResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverSearchResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverUpdateResponseServiceDTO;
+import com.carenest.business.caregiverservice.application.service.CaregiverDocumentService;
 import com.carenest.business.caregiverservice.application.service.CaregiverService;
 import com.carenest.business.caregiverservice.presentation.dto.mapper.CaregiverPresentationMapper;
 import com.carenest.business.caregiverservice.presentation.dto.request.CaregiverCreateRequestDTO;
 import com.carenest.business.caregiverservice.presentation.dto.request.CaregiverUpdateRequestDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverCreateResponseDTO;
+import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverDocumentResponseDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverReadResponseDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverSearchResponseDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverUpdateResponseDTO;
@@ -54,6 +57,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CaregiverController {
 
 	private final CaregiverService caregiverService;
+	private final CaregiverDocumentService caregiverDocumentService;
 
 	@Qualifier("caregiverPresentationMapper")
 	private final CaregiverPresentationMapper presentationMapper;
@@ -70,7 +74,7 @@ public class CaregiverController {
 		CaregiverCreateRequestServiceDTO requestServiceDTO = presentationMapper.toCreateServiceDto(createRequestDTO);
 		CaregiverCreateResponseServiceDTO responseDTO = caregiverService.createCaregiver(requestServiceDTO,
 			multipartFiles, authUserInfo.getUserId());
-		return ResponseDto.success("서비스 등록 요청이 접수되었습니다. 관리자 승인 후 활성화됩니다.",
+		return ResponseDto.success("서비스 등록 요청이 접수되었습니다. 제출 서류는 순차적으로 처리되며, 관리자 승인 후 활성화됩니다.",
 			presentationMapper.toCreateResponseDto(responseDTO));
 	}
 
@@ -89,6 +93,16 @@ public class CaregiverController {
 		return ResponseDto.success(presentationMapper.toReadResponseDto(responseDTO));
 	}
 
+	@Operation(summary = "간병인 제출 서류 처리 현황 조회", description = "등록 시 제출한 서류의 업로드/썸네일 처리 상태를 조회합니다. 본인 또는 관리자만 조회할 수 있습니다.")
+	@GetMapping("/{caregiverId}/documents")
+	public ResponseDto<List<CaregiverDocumentResponseDTO>> getCaregiverDocuments(
+		@Parameter(description = "간병인 ID") @PathVariable UUID caregiverId,
+		@AuthUser AuthUserInfo authUserInfo) {
+		List<CaregiverDocumentResponseServiceDTO> responseDTOs = caregiverDocumentService.getDocuments(caregiverId,
+			authUserInfo.getUserId(), authUserInfo.getRole());
+		return ResponseDto.success(presentationMapper.toDocumentResponseDto(responseDTOs));
+	}
+
 	@Operation(summary = "간병인 정보 수정", description = "간병인이 자신의 정보를 수정합니다.")
 	@PatchMapping
 	public ResponseDto<CaregiverUpdateResponseDTO> updateCaregiver(
@@ -125,10 +139,12 @@ public class CaregiverController {
 		return ResponseDto.success("간병인 검색을 완료했습니다.", presentationMapper.toSearchResponseDto(responseServiceDTO));
 	}
 
-	@Operation(summary = "평점 상위 간병인 조회", description = "평점 기준 상위 10명의 간병인 목록을 조회합니다.")
+	@Operation(summary = "평점 상위 간병인 조회", description = "평점 기준 상위 10명의 간병인 목록을 조회합니다. 지역 또는 서비스 ID 로 범위를 좁힐 수 있습니다.")
 	@GetMapping("/rating/top")
-	public ResponseDto<BulkCaregiverTop10Response> getTop10Caregiver() {
-		BulkCaregiverTop10Response responseServiceDTO = caregiverService.getTop10Caregiver();
+	public ResponseDto<BulkCaregiverTop10Response> getTop10Caregiver(
+		@Parameter(description = "지역 카테고리 ID") @RequestParam(required = false) Long locationId,
+		@Parameter(description = "서비스 카테고리 ID") @RequestParam(required = false) Long serviceId) {
+		BulkCaregiverTop10Response responseServiceDTO = caregiverService.getTop10Caregiver(locationId, serviceId);
 		return ResponseDto.success(responseServiceDTO);
 	}
 }
\ No newline at end of file
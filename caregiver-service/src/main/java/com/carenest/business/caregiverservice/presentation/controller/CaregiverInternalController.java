@@ -9,10 +9,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverCursorResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverReadResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.service.CaregiverService;
 import com.carenest.business.caregiverservice.domain.model.GenderType;
 import com.carenest.business.caregiverservice.presentation.dto.mapper.CaregiverPresentationMapper;
+import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverCursorResponseDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverReadResponseDTO;
 import com.carenest.business.caregiverservice.util.PageableUtils;
 import com.carenest.business.common.annotation.AuthUser;
@@ -34,6 +36,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/internal/v1/caregivers")
 public class CaregiverInternalController {
 
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final CaregiverService caregiverService;
 
 	@Qualifier("caregiverPresentationMapper")
@@ -78,6 +82,21 @@ public class CaregiverInternalController {
 		return ResponseDto.success(presentationMapper.toReadAllResponseDto(responseDTO));
 	}
 
+	@Operation(summary = "간병인 전체 목록 커서 조회", description = "관리자가 전체 간병인 목록을 최신 등록순으로 커서 단위로 조회합니다. 응답의 nextCursor 로 다음 페이지를 요청합니다.")
+	@GetMapping("/cursor")
+	public ResponseDto<CaregiverCursorResponseDTO> getCaregiverAllByCursor(
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size,
+		@AuthUser AuthUserInfo authUserInfo
+	){
+		if (!authUserInfo.getRole().equals(UserRole.ADMIN)) {
+			throw new BaseException(CommonErrorCode.FORBIDDEN);
+		}
+		CaregiverCursorResponseServiceDTO responseDTO = caregiverService.getCaregiverAll(cursor,
+			Math.max(1, Math.min(size, MAX_CURSOR_SIZE)));
+		return ResponseDto.success(presentationMapper.toCursorResponseDto(responseDTO));
+	}
+
 	@Operation(summary = "필터 기반 간병인 ID 리스트 조회", description = "조건에 맞는 간병인 ID 목록을 필터링하여 조회합니다.")
 	@GetMapping("/search")
 	public List<UUID> getCaregiverIdsByFilters(
@@ -7,12 +7,16 @@ import org.springframework.data.domain.Page;
 
 import com.carenest.business.caregiverservice.application.dto.request.CaregiverCreateRequestServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverCreateResponseServiceDTO;
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverCursorResponseServiceDTO;
+import com.carenest.business.caregiverservice.application.dto.response.CaregiverDocumentResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverGetTop10ResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverReadResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverSearchResponseServiceDTO;
 import com.carenest.business.caregiverservice.application.dto.response.CaregiverUpdateResponseServiceDTO;
 import com.carenest.business.caregiverservice.presentation.dto.request.CaregiverCreateRequestDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverCreateResponseDTO;
+import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverCursorResponseDTO;
+import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverDocumentResponseDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverGetTop10ResponseDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverReadResponseDTO;
 import com.carenest.business.caregiverservice.presentation.dto.response.CaregiverSearchResponseDTO;
@@ -45,5 +49,9 @@ public interface CaregiverPresentationMapper {
 		return responseDTO.map(this::toReadResponseDto);
 	}
 
+	CaregiverCursorResponseDTO toCursorResponseDto(CaregiverCursorResponseServiceDTO responseDTO);
+
 	List<CaregiverGetTop10ResponseDTO> toGetTop10CaregiverDto(List<CaregiverGetTop10ResponseServiceDTO> responseServiceDTO);
+
+	List<CaregiverDocumentResponseDTO> toDocumentResponseDto(List<CaregiverDocumentResponseServiceDTO> responseServiceDTOs);
 }
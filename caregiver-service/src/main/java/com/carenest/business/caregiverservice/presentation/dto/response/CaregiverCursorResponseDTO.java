@@ -0,0 +1,9 @@
+package com.carenest.business.caregiverservice.presentation.dto.response;
+
+import java.util.List;
+
+public record CaregiverCursorResponseDTO(
+	List<CaregiverReadResponseDTO> content,
+	String nextCursor
+) {
+}
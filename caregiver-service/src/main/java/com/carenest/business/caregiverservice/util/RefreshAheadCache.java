@@ -0,0 +1,89 @@
+package com.carenest.business.caregiverservice.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 전에 백그라운드에서 미리 갱신하는 로컬 캐시.
+ * - refreshAfter 가 지난 값은 그대로 돌려주면서 한 번만 비동기 갱신을 건다.
+ * - expireAfter 가 지났거나 값이 없으면 호출자가 기다리되, 같은 키의 동시 요청은 하나의 로드로 합친다(single-flight).
+ * - 백그라운드 갱신이 실패하면 만료 전까지 기존 값을 계속 사용한다.
+ */
+@Slf4j
+public class RefreshAheadCache<K, V> {
+
+	private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Function<K, V> loader;
+	private final Executor executor;
+	private final long refreshAfterNanos;
+	private final long expireAfterNanos;
+
+	public RefreshAheadCache(Function<K, V> loader, Executor executor, Duration refreshAfter, Duration expireAfter) {
+		if (refreshAfter.compareTo(expireAfter) >= 0) {
+			throw new IllegalArgumentException("refreshAfter 는 expireAfter 보다 짧아야 합니다.");
+		}
+		this.loader = loader;
+		this.executor = executor;
+		this.refreshAfterNanos = refreshAfter.toNanos();
+		this.expireAfterNanos = expireAfter.toNanos();
+	}
+
+	public V get(K key) {
+		Entry<V> entry = entries.get(key);
+		long now = System.nanoTime();
+		if (entry != null && now - entry.loadedAt() < expireAfterNanos) {
+			if (now - entry.loadedAt() >= refreshAfterNanos) {
+				load(key);
+			}
+			return entry.value();
+		}
+
+		try {
+			return load(key).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+	private CompletableFuture<V> load(K key) {
+		CompletableFuture<V> created = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+		if (running != null) {
+			return running;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					V value = loader.apply(key);
+					entries.put(key, new Entry<>(value, System.nanoTime()));
+					inFlight.remove(key, created);
+					created.complete(value);
+				} catch (Throwable t) {
+					log.warn("캐시 갱신 실패: key={}, error={}", key, t.getMessage());
+					inFlight.remove(key, created);
+					created.completeExceptionally(t);
+				}
+			});
+		} catch (RuntimeException e) {
+			// 실행기가 포화되어 거절한 경우에도 대기 중인 요청이 풀려나도록 한다
+			inFlight.remove(key, created);
+			created.completeExceptionally(e);
+		}
+		return created;
+	}
+
+	private record Entry<V>(V value, long loadedAt) {
+	}
+}
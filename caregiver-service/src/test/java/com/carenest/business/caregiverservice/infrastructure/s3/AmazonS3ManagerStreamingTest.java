@@ -0,0 +1,209 @@
+package com.carenest.business.caregiverservice.infrastructure.s3;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.carenest.business.caregiverservice.config.AmazonConfig;
+
+/**
+ * S3 호환 MinIO 에 실제로 올려 보며, 힙 최대치보다 큰 총량을 업로드해도
+ * 파일 전체를 메모리에 올리지 않고(getBytes 미사용) 힙 사용량이 제한되는지 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AmazonS3ManagerStreamingTest {
+
+	private static final String BUCKET = "caregiver-test";
+
+	@Container
+	private static final GenericContainer<?> MINIO = new GenericContainer<>("minio/minio:RELEASE.2024-11-07T00-52-20Z")
+		.withCommand("server", "/data")
+		.withEnv("MINIO_ROOT_USER", "minioadmin")
+		.withEnv("MINIO_ROOT_PASSWORD", "minioadmin")
+		.withExposedPorts(9000)
+		.waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+	private static AmazonS3Client amazonS3Client;
+	private AmazonS3Manager amazonS3Manager;
+
+	@BeforeAll
+	static void setUpBucket() {
+		amazonS3Client = (AmazonS3Client)AmazonS3ClientBuilder.standard()
+			.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+				"http://" + MINIO.getHost() + ":" + MINIO.getMappedPort(9000), "us-east-1"))
+			.withPathStyleAccessEnabled(true)
+			.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("minioadmin", "minioadmin")))
+			.build();
+		amazonS3Client.createBucket(BUCKET);
+	}
+
+	@BeforeEach
+	void setUp() {
+		AmazonConfig amazonConfig = mock(AmazonConfig.class);
+		when(amazonConfig.getBucket()).thenReturn(BUCKET);
+
+		amazonS3Manager = new AmazonS3Manager(amazonS3Client, amazonConfig);
+		ReflectionTestUtils.setField(amazonS3Manager, "multipartThreshold", DataSize.ofMegabytes(16));
+		ReflectionTestUtils.setField(amazonS3Manager, "partSize", DataSize.ofMegabytes(8));
+		ReflectionTestUtils.setField(amazonS3Manager, "uploadThreads", 4);
+		amazonS3Manager.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		amazonS3Manager.shutdown();
+	}
+
+	@Test
+	void stage_streamsFilesLargerThanHeapWithBoundedMemory() throws Exception {
+		long maxHeap = Runtime.getRuntime().maxMemory();
+		long fileSize = maxHeap / 2;
+		// 같은 원본 파일명 3개, 총량은 최대 힙의 1.5배
+		List<MultipartFile> files = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			files.add(new GeneratedMultipartFile("document.pdf", fileSize));
+		}
+
+		HeapSampler sampler = new HeapSampler();
+		sampler.start();
+		List<String> keys = amazonS3Manager.stage(files, "staging/documents", "caregiver");
+		long peakHeap = sampler.stop();
+
+		assertEquals(3, new HashSet<>(keys).size(), "같은 파일명이어도 객체 키가 겹치면 안 됨");
+		for (String key : keys) {
+			assertEquals(fileSize, amazonS3Client.getObjectMetadata(BUCKET, key).getContentLength());
+		}
+		// 파일 하나라도 통째로 버퍼링했다면 힙 사용량이 파일 크기를 넘는다
+		assertTrue(peakHeap < fileSize, () -> "힙 사용량이 파일 하나 크기를 넘음: " + peakHeap);
+	}
+
+	/**
+	 * 내용을 필요할 때 만들어 내는 MultipartFile. getBytes 를 호출하면 실패해 버퍼링 경로를 막는다.
+	 */
+	private record GeneratedMultipartFile(String originalFilename, long size) implements MultipartFile {
+
+		@Override
+		public String getName() {
+			return "files";
+		}
+
+		@Override
+		public String getOriginalFilename() {
+			return originalFilename;
+		}
+
+		@Override
+		public String getContentType() {
+			return "application/pdf";
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		@Override
+		public long getSize() {
+			return size;
+		}
+
+		@Override
+		public byte[] getBytes() {
+			throw new UnsupportedOperationException("파일 전체를 메모리에 올리면 안 됩니다.");
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new InputStream() {
+				private long remaining = size;
+
+				@Override
+				public int read() {
+					if (remaining <= 0) {
+						return -1;
+					}
+					remaining--;
+					return (int)(remaining & 0x7F);
+				}
+
+				@Override
+				public int read(byte[] buffer, int offset, int length) {
+					if (remaining <= 0) {
+						return -1;
+					}
+					int count = (int)Math.min(length, remaining);
+					for (int i = 0; i < count; i++) {
+						buffer[offset + i] = (byte)((remaining - i) & 0x7F);
+					}
+					remaining -= count;
+					return count;
+				}
+			};
+		}
+
+		@Override
+		public void transferTo(File dest) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void transferTo(Path dest) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static final class HeapSampler {
+		private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		private final AtomicBoolean running = new AtomicBoolean(true);
+		private final AtomicLong peak = new AtomicLong();
+		private Thread thread;
+
+		void start() {
+			thread = new Thread(() -> {
+				while (running.get()) {
+					peak.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+					try {
+						Thread.sleep(5);
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			});
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		long stop() throws InterruptedException {
+			running.set(false);
+			thread.join();
+			return peak.get();
+		}
+	}
+}
@@ -13,11 +13,13 @@ import lombok.NoArgsConstructor;
 public class CaregiverRatingEvent extends BaseEvent {
 	private UUID caregiverId;
 	private Double rating;
+	private Long reviewCount;
 
 	@Builder
-	public CaregiverRatingEvent(UUID caregiverId, Double rating) {
+	public CaregiverRatingEvent(UUID caregiverId, Double rating, Long reviewCount) {
 		super("REVIEW_RATING_UPDATE");
 		this.caregiverId = caregiverId;
 		this.rating = rating;
+		this.reviewCount = reviewCount;
 	}
 }
@@ -5,20 +5,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
 @Getter
 @NoArgsConstructor
 public class NotificationEvent extends BaseEvent {
     private UUID receiverId;
+    // 같은 내용을 여러 수신자에게 보내는 경우 한 이벤트로 묶어서 발행 (없으면 receiverId 단건)
+    private List<UUID> receiverIds;
     private String notificationType;
     private String content;
 
     @Builder
-    public NotificationEvent(UUID receiverId, String notificationType, String content) {
+    public NotificationEvent(UUID receiverId, List<UUID> receiverIds, String notificationType, String content) {
         super("NOTIFICATION");
-        this.receiverId = receiverId;
+        this.receiverIds = receiverIds;
+        this.receiverId = receiverId != null || receiverIds == null || receiverIds.isEmpty() ?
+                receiverId : receiverIds.get(0);
         this.notificationType = notificationType;
         this.content = content;
     }
-}
\ No newline at end of file
+}
@@ -15,6 +15,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -105,17 +106,22 @@ public class NotificationConsumer {
             containerFactory = "kafkaListenerContainerFactory"
     )
     public void handleNotificationEvent(NotificationEvent event) {
-        try {
-            log.info("일반 알림 이벤트 수신: receiverId={}, type={}", event.getReceiverId(), event.getNotificationType());
+        List<UUID> receiverIds = event.getReceiverIds() != null && !event.getReceiverIds().isEmpty() ?
+                event.getReceiverIds() : List.of(event.getReceiverId());
 
-            notificationService.createNotificationWithType(
-                    new NotificationCreateRequestDto(event.getReceiverId(), event.getContent()),
-                    NotificationType.valueOf(event.getNotificationType()) // ENUM 매핑 주의
-            );
+        log.info("일반 알림 이벤트 수신: receiverIds={}, type={}", receiverIds, event.getNotificationType());
 
-            log.info("일반 알림 저장 완료: receiverId={}", event.getReceiverId());
-        } catch (Exception e) {
-            log.error("일반 알림 처리 실패: {}", e.getMessage(), e);
+        for (UUID receiverId : receiverIds) {
+            try {
+                notificationService.createNotificationWithType(
+                        new NotificationCreateRequestDto(receiverId, event.getContent()),
+                        NotificationType.valueOf(event.getNotificationType()) // ENUM 매핑 주의
+                );
+
+                log.info("일반 알림 저장 완료: receiverId={}", receiverId);
+            } catch (Exception e) {
+                log.error("일반 알림 처리 실패: receiverId={}, error={}", receiverId, e.getMessage(), e);
+            }
         }
     }
 
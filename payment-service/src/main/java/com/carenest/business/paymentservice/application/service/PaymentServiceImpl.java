@@ -3,6 +3,7 @@ package com.carenest.business.paymentservice.application.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import com.carenest.business.paymentservice.exception.PaymentException;
 import com.carenest.business.paymentservice.exception.PaymentNotFoundException;
 import com.carenest.business.paymentservice.infrastructure.client.ReservationInternalClient;
 import com.carenest.business.paymentservice.infrastructure.client.UserInternalClient;
+import com.carenest.business.paymentservice.infrastructure.client.dto.request.ReservationBulkRequestDto;
 import com.carenest.business.paymentservice.infrastructure.client.dto.response.ReservationDetailsResponseDto;
 import com.carenest.business.paymentservice.infrastructure.client.dto.response.UserInfoResponseDTO;
 import com.carenest.business.paymentservice.infrastructure.external.PaymentGatewayService;
@@ -165,27 +167,7 @@ public class PaymentServiceImpl implements PaymentService {
 
         Page<Payment> payments = paymentRepository.findByCreatedAtBetween(startDate, endDate, pageable);
 
-        return payments.map(payment -> {
-            PaymentListResponse response = new PaymentListResponse(payment);
-
-            // 사용자 및 예약 정보 설정
-            try {
-                ReservationDetailsResponseDto reservationDetails = getReservationDetails(payment.getReservationId());
-                UserInfoResponseDTO caregiverDetails = getUserDetails(payment.getCaregiverId());
-
-                response.setCaregiverName(caregiverDetails.getName());
-                if (reservationDetails != null) {
-                    response.setServicePeriod(formatServicePeriod(
-                            reservationDetails.getStartedAt(),
-                            reservationDetails.getEndedAt()
-                    ));
-                }
-            } catch (Exception e) {
-                log.warn("결제 목록 조회 중 사용자/예약 정보 가져오기 실패: {}", e.getMessage());
-            }
-
-            return response;
-        });
+        return transformPaymentsToResponse(payments);
     }
 
     @Override
@@ -592,13 +574,21 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     private Page<PaymentListResponse> transformPaymentsToResponse(Page<Payment> payments) {
+        // 페이지 내 예약 일정은 건별 호출 대신 한 번에 조회
+        Map<UUID, ReservationDetailsResponseDto> reservations = getReservationSchedules(
+                payments.getContent().stream()
+                        .map(Payment::getReservationId)
+                        .distinct()
+                        .toList()
+        );
+
         return payments.map(payment -> {
             PaymentListResponse response = new PaymentListResponse(payment);
 
             // 사용자 및 예약 정보 설정
             try {
                 UserInfoResponseDTO caregiverDetails = getUserDetails(payment.getCaregiverId());
-                ReservationDetailsResponseDto reservationDetails = getReservationDetails(payment.getReservationId());
+                ReservationDetailsResponseDto reservationDetails = reservations.get(payment.getReservationId());
 
                 if (caregiverDetails != null) {
                     response.setCaregiverName(caregiverDetails.getName());
@@ -638,6 +628,21 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
+    private Map<UUID, ReservationDetailsResponseDto> getReservationSchedules(List<UUID> reservationIds) {
+        Map<UUID, ReservationDetailsResponseDto> reservations = new HashMap<>();
+        for (int from = 0; from < reservationIds.size(); from += ReservationBulkRequestDto.MAX_SIZE) {
+            List<UUID> chunk = reservationIds.subList(from,
+                    Math.min(from + ReservationBulkRequestDto.MAX_SIZE, reservationIds.size()));
+            try {
+                // reservationInternalClient를 통해 예약 정보 일괄 조회
+                reservations.putAll(reservationInternalClient.getReservationSchedules(chunk));
+            } catch (Exception e) {
+                log.warn("예약 정보 일괄 조회 실패: size={}, error={}", chunk.size(), e.getMessage());
+            }
+        }
+        return reservations;
+    }
+
     private String formatServicePeriod(LocalDateTime start, LocalDateTime end) {
         if (start == null || end == null) {
             return "기간 정보 없음";
@@ -2,10 +2,16 @@ package com.carenest.business.paymentservice.infrastructure.client;
 
 import com.carenest.business.common.response.ResponseDto;
 import com.carenest.business.paymentservice.infrastructure.client.dto.response.ReservationDetailsResponseDto;
+import com.carenest.business.paymentservice.infrastructure.client.dto.request.ReservationBulkRequestDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @FeignClient(name = "reservation-service", path = "/api/v1/internal")
@@ -21,4 +27,16 @@ public interface ReservationInternalClient {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    @PostMapping("/reservations/bulk")
+    ResponseDto<Map<UUID, ReservationDetailsResponseDto>> getReservationInfoBulk(@RequestBody ReservationBulkRequestDto request);
+
+    default Map<UUID, ReservationDetailsResponseDto> getReservationSchedules(List<UUID> reservationIds) {
+        ResponseDto<Map<UUID, ReservationDetailsResponseDto>> response = getReservationInfoBulk(
+                new ReservationBulkRequestDto(reservationIds, ReservationBulkRequestDto.SCHEDULE));
+        if (response != null && response.getData() != null) {
+            return response.getData();
+        }
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,23 @@
+package com.carenest.business.paymentservice.infrastructure.client.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBulkRequestDto {
+
+    // reservation-service 가 한 번에 받는 최대 ID 수
+    public static final int MAX_SIZE = 200;
+
+    // 일정 정보(startedAt, endedAt, status)만 조회
+    public static final String SCHEDULE = "SCHEDULE";
+
+    private List<UUID> reservationIds;
+    private String projection;
+}
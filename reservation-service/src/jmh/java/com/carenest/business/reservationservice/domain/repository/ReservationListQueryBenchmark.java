@@ -0,0 +1,151 @@
+package com.carenest.business.reservationservice.domain.repository;
+
+import com.carenest.business.reservationservice.domain.model.QReservation;
+import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.presentation.dto.mapper.ReservationMapper;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationSummaryResponse;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.ReflectionUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태별 예약 목록 한 페이지(COUNT + 페이지 조회) 비교. Docker 가 필요하다.
+ * entityPage: 기존 방식 (엔티티 전체 컬럼 조회 → 영속성 컨텍스트 적재 → ReservationMapper.toDto)
+ * projectionPage: ReservationRepositoryCustomImpl.findSummariesByStatus (목록 컬럼만 생성자 projection)
+ *
+ * 페이지당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인한다.
+ * ./gradlew :reservation-service:jmh -Pjmh.includes=ReservationListQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationListQueryBenchmark {
+
+    private static final ReservationStatus STATUS = ReservationStatus.COMPLETED;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private ReservationRepositoryCustomImpl repository;
+    private ReservationMapper reservationMapper;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+        seed();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        factoryBean.setPackagesToScan(Reservation.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+
+        repository = new ReservationRepositoryCustomImpl();
+        Field field = ReflectionUtils.findField(ReservationRepositoryCustomImpl.class, "entityManager");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, repository, entityManager);
+
+        reservationMapper = new ReservationMapper();
+        pageable = PageRequest.of(0, pageSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<ReservationResponse> entityPage() {
+        entityManager.clear();
+        QReservation reservation = QReservation.reservation;
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+
+        Long total = queryFactory
+                .select(reservation.count())
+                .from(reservation)
+                .where(reservation.status.eq(STATUS))
+                .fetchOne();
+
+        List<Reservation> results = queryFactory
+                .selectFrom(reservation)
+                .where(reservation.status.eq(STATUS))
+                .orderBy(reservation.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(results, pageable, total != null ? total : 0L)
+                .map(reservationMapper::toDto)
+                .getContent();
+    }
+
+    @Benchmark
+    public List<ReservationSummaryResponse> projectionPage() {
+        entityManager.clear();
+        return repository.findSummariesByStatus(STATUS, pageable).getContent();
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO p_reservations (reservation_id, guardian_id, guardian_name, caregiver_id, caregiver_name,
+                        patient_name, patient_age, patient_gender, patient_condition, care_address, started_at, ended_at,
+                        service_type, service_requests, total_amount, service_fee, status, caregiver_note, created_at,
+                        payment_id, payment_status)
+                    SELECT md5('r' || i)::uuid, md5('g' || (i % 2000))::uuid, '보호자' || i, md5('c' || (i % 500))::uuid,
+                        '간병인' || i, '환자' || i, 70, 'MALE', repeat('상태 ', 20), repeat('주소 ', 20),
+                        TIMESTAMP '2025-01-01' + (i / 500) * INTERVAL '1 day',
+                        TIMESTAMP '2025-01-01' + (i / 500) * INTERVAL '1 day' + INTERVAL '4 hours',
+                        'HOUR', repeat('요청 ', 20), 60000, 5000, 'COMPLETED', repeat('메모 ', 20),
+                        TIMESTAMP '2024-12-01' + i * INTERVAL '1 minute', md5('p' || i)::uuid, 'PAID'
+                    FROM generate_series(1, 20000) AS i
+                    """);
+            statement.execute("ANALYZE p_reservations");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.carenest.business.reservationservice.infrastructure.kafka;
+
+import com.carenest.business.common.event.payment.PaymentCompletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 완료 이벤트 디코딩 처리량 비교.
+ * mapDecoding: 기존 방식 (JsonDeserializer → LinkedHashMap → UUID.fromString)
+ * typedDecoding: EventJsonDeserializer (타입별 공유 ObjectReader + Blackbird)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PaymentEventDecodingBenchmark {
+
+    private static final String TOPIC = "payment-completed";
+
+    private byte[] payload;
+    private JsonDeserializer<Object> mapDeserializer;
+    private EventJsonDeserializer<PaymentCompletedEvent> typedDeserializer;
+
+    @Setup
+    public void setUp() throws Exception {
+        PaymentCompletedEvent event = PaymentCompletedEvent.builder()
+                .paymentId(UUID.randomUUID())
+                .reservationId(UUID.randomUUID())
+                .guardianId(UUID.randomUUID())
+                .caregiverId(UUID.randomUUID())
+                .amount(new BigDecimal("150000"))
+                .paymentMethod("CARD")
+                .approvalNumber("A-20250101-0001")
+                .build();
+        payload = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsBytes(event);
+
+        mapDeserializer = new JsonDeserializer<>(Object.class, false);
+        mapDeserializer.addTrustedPackages("com.carenest.business.*");
+        typedDeserializer = new EventJsonDeserializer<>(PaymentCompletedEvent.class);
+    }
+
+    @Benchmark
+    public UUID mapDecoding() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> map = (Map<String, Object>) mapDeserializer.deserialize(TOPIC, payload);
+        UUID reservationId = UUID.fromString(map.get("reservationId").toString());
+        UUID paymentId = UUID.fromString(map.get("paymentId").toString());
+        return reservationId.getMostSignificantBits() > paymentId.getMostSignificantBits() ? reservationId : paymentId;
+    }
+
+    @Benchmark
+    public UUID typedDecoding() {
+        PaymentCompletedEvent event = typedDeserializer.deserialize(TOPIC, payload);
+        UUID reservationId = event.getReservationId();
+        UUID paymentId = event.getPaymentId();
+        return reservationId.getMostSignificantBits() > paymentId.getMostSignificantBits() ? reservationId : paymentId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.carenest.business.reservationservice.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 결제 취소 이벤트 한 건에서 예약에 반영할 정보.
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentCancellation {
+
+    private UUID reservationId;
+    private UUID paymentId;
+    private String cancelReason;
+}
@@ -0,0 +1,47 @@
+package com.carenest.business.reservationservice.application.dto.request;
+
+import com.carenest.business.reservationservice.exception.InvalidReservationCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * (createdAt, reservationId) 기준 keyset 페이지네이션 커서.
+ * 클라이언트에는 내부 구조를 드러내지 않도록 Base64 URL-safe 문자열로만 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationCursor {
+
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createdAt;
+    private UUID reservationId;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + reservationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new ReservationCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    UUID.fromString(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidReservationCursorException();
+        }
+    }
+}
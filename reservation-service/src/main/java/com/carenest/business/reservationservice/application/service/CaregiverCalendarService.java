@@ -0,0 +1,24 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.presentation.dto.response.CaregiverAvailabilityBulkResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.CaregiverAvailabilityResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface CaregiverCalendarService {
+
+    CaregiverAvailabilityResponse getAvailability(UUID caregiverId, LocalDate from, LocalDate to);
+
+    /**
+     * 요청 구간에 사용 중인 슬롯이 있는 간병인과 없는 간병인을 한 번의 조회로 나눈다.
+     */
+    CaregiverAvailabilityBulkResponse getAvailabilities(List<UUID> caregiverIds, LocalDateTime startedAt, LocalDateTime endedAt);
+
+    /**
+     * 예약 이력으로 드러나지 않는 변경(예: 예약 기간 수정 전의 기존 기간)을 현재 트랜잭션의 재계산 대상에 추가한다.
+     */
+    void markChanged(UUID caregiverId, LocalDateTime startedAt, LocalDateTime endedAt);
+}
@@ -0,0 +1,223 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.domain.availability.AvailabilitySlots;
+import com.carenest.business.reservationservice.domain.availability.BookedInterval;
+import com.carenest.business.reservationservice.domain.event.ReservationChangedEvent;
+import com.carenest.business.reservationservice.domain.model.CaregiverAvailabilityDay;
+import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.repository.CaregiverAvailabilityDayRepository;
+import com.carenest.business.reservationservice.domain.repository.ReservationRepository;
+import com.carenest.business.reservationservice.domain.service.CaregiverAvailabilityServiceImpl;
+import com.carenest.business.reservationservice.exception.InvalidAvailabilityRangeException;
+import com.carenest.business.reservationservice.presentation.dto.response.CaregiverAvailabilityBulkResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.CaregiverAvailabilityResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 간병인 가용성 읽기 모델(p_caregiver_availability) 조회 및 유지.
+ * 상태 전이로 예약 이력이 기록되면(ReservationChangedEvent) 해당 예약의 간병인/날짜를 트랜잭션에 모아 두었다가
+ * 커밋 직전에 간병인별 advisory lock 을 잡고 그 날짜들만 활성 예약에서 다시 계산한다.
+ * 같은 트랜잭션 안에서 반영되므로 예약 상태와 어긋나지 않고, 간병인 순서로 잠가 트랜잭션 간 교착을 피한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CaregiverCalendarServiceImpl implements CaregiverCalendarService {
+
+    private static final int LOCK_KEY = 0x52434131; // "RCA1"
+
+    private final ReservationRepository reservationRepository;
+    private final CaregiverAvailabilityDayRepository availabilityDayRepository;
+
+    // 한 번에 조회할 수 있는 최대 일수
+    @Value("${reservation.calendar.max-days:62}")
+    private int maxDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CaregiverAvailabilityResponse getAvailability(UUID caregiverId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        Map<LocalDate, Long> busySlots = new HashMap<>();
+        for (CaregiverAvailabilityDay day : availabilityDayRepository
+                .findByCaregiverIdAndSlotDateBetweenOrderBySlotDate(caregiverId, from, to)) {
+            busySlots.put(day.getSlotDate(), day.getBusySlots());
+        }
+
+        List<CaregiverAvailabilityResponse.Day> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            days.add(new CaregiverAvailabilityResponse.Day(date, busySlots.getOrDefault(date, 0L)));
+        }
+        return new CaregiverAvailabilityResponse(caregiverId, from, to, AvailabilitySlots.SLOT_MINUTES, days);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CaregiverAvailabilityBulkResponse getAvailabilities(List<UUID> caregiverIds, LocalDateTime startedAt, LocalDateTime endedAt) {
+        if (!endedAt.isAfter(startedAt)) {
+            throw new InvalidAvailabilityRangeException();
+        }
+        List<LocalDate> requestedDays = AvailabilitySlots.days(startedAt, endedAt);
+        validateRange(requestedDays.get(0), requestedDays.get(requestedDays.size() - 1));
+
+        Set<UUID> busyIds = new HashSet<>();
+        for (CaregiverAvailabilityDay day : availabilityDayRepository.findByCaregiverIdInAndSlotDateBetween(
+                new HashSet<>(caregiverIds), requestedDays.get(0), requestedDays.get(requestedDays.size() - 1))) {
+            if (AvailabilitySlots.overlaps(day.getBusySlots(), AvailabilitySlots.mask(day.getSlotDate(), startedAt, endedAt))) {
+                busyIds.add(day.getCaregiverId());
+            }
+        }
+
+        List<UUID> available = new ArrayList<>();
+        List<UUID> busy = new ArrayList<>();
+        for (UUID caregiverId : new LinkedHashSet<>(caregiverIds)) {
+            (busyIds.contains(caregiverId) ? busy : available).add(caregiverId);
+        }
+        return new CaregiverAvailabilityBulkResponse(available, busy);
+    }
+
+    @Override
+    public void markChanged(UUID caregiverId, LocalDateTime startedAt, LocalDateTime endedAt) {
+        PendingChanges changes = pendingChanges();
+        if (changes == null) {
+            recalculate(caregiverId, new TreeSet<>(AvailabilitySlots.days(startedAt, endedAt)));
+            return;
+        }
+        changes.addDays(caregiverId, AvailabilitySlots.days(startedAt, endedAt));
+    }
+
+    /**
+     * 이력이 기록되는 모든 상태 전이에서 발행되므로 생성/수정/수락/취소/자동 완료/만료가 모두 반영된다.
+     */
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        PendingChanges changes = pendingChanges();
+        if (changes == null) {
+            PendingChanges immediate = new PendingChanges();
+            immediate.reservationIds.addAll(event.getReservationIds());
+            applyChanges(immediate);
+            return;
+        }
+        changes.reservationIds.addAll(event.getReservationIds());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new InvalidAvailabilityRangeException();
+        }
+    }
+
+    private PendingChanges pendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            PendingChanges created = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    applyChanges(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CaregiverCalendarServiceImpl.this);
+                }
+            });
+            changes = created;
+        }
+        return changes;
+    }
+
+    private void applyChanges(PendingChanges changes) {
+        if (!changes.reservationIds.isEmpty()) {
+            // 같은 트랜잭션에서 전이된 예약이므로 영속성 컨텍스트의 최신 상태(기간)를 사용한다
+            for (Reservation reservation : reservationRepository.findAllById(changes.reservationIds)) {
+                changes.addDays(reservation.getCaregiverId(),
+                        AvailabilitySlots.days(reservation.getStartedAt(), reservation.getEndedAt()));
+            }
+        }
+        changes.daysByCaregiver.forEach(this::recalculate);
+    }
+
+    private void recalculate(UUID caregiverId, SortedSet<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        availabilityDayRepository.lockCaregiver(LOCK_KEY, caregiverId.toString());
+
+        LocalDate first = days.first();
+        LocalDate last = days.last();
+        Map<LocalDate, Long> recalculated = new HashMap<>();
+        for (BookedInterval interval : reservationRepository.findBookedIntervalsBetween(
+                caregiverId, CaregiverAvailabilityServiceImpl.ACTIVE_STATUSES,
+                first.atStartOfDay(), last.plusDays(1).atStartOfDay())) {
+            for (LocalDate day : AvailabilitySlots.days(interval.getStartedAt(), interval.getEndedAt())) {
+                if (days.contains(day)) {
+                    recalculated.merge(day, AvailabilitySlots.mask(day, interval.getStartedAt(), interval.getEndedAt()),
+                            (a, b) -> a | b);
+                }
+            }
+        }
+
+        Map<LocalDate, Long> current = new HashMap<>();
+        for (CaregiverAvailabilityDay day : availabilityDayRepository
+                .findByCaregiverIdAndSlotDateBetweenOrderBySlotDate(caregiverId, first, last)) {
+            current.put(day.getSlotDate(), day.getBusySlots());
+        }
+
+        // 바뀐 날짜만 쓰고, 비게 된 날짜는 행을 지운다
+        LocalDateTime now = LocalDateTime.now();
+        List<LocalDate> emptied = new ArrayList<>();
+        for (LocalDate day : days) {
+            long busySlots = recalculated.getOrDefault(day, 0L);
+            Long previous = current.get(day);
+            if (busySlots == 0L) {
+                if (previous != null) {
+                    emptied.add(day);
+                }
+            } else if (previous == null || previous != busySlots) {
+                availabilityDayRepository.upsert(caregiverId, day, busySlots, now);
+            }
+        }
+        if (!emptied.isEmpty()) {
+            availabilityDayRepository.deleteDays(caregiverId, emptied);
+        }
+        log.debug("간병인 가용성 재계산: caregiverId={}, days={}", caregiverId, days.size());
+    }
+
+    private static final class PendingChanges {
+        private final Set<UUID> reservationIds = new HashSet<>();
+        // 간병인 ID 순서로 잠그기 위해 정렬된 맵 사용
+        private final Map<UUID, SortedSet<LocalDate>> daysByCaregiver = new TreeMap<>();
+
+        private void addDays(UUID caregiverId, List<LocalDate> days) {
+            daysByCaregiver.computeIfAbsent(caregiverId, id -> new TreeSet<>()).addAll(days);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.exception.ReservationConflictException;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 예약 상태 전이를 트랜잭션 단위로 실행하고, 낙관적 잠금 충돌(버전 불일치 또는 조건부 UPDATE 0건)이면
+ * 새 트랜잭션에서 다시 읽어 제한된 횟수만큼 재시도한다.
+ * 재시도 시 최신 상태로 검증을 다시 하므로 이미 다른 요청이 전이시킨 예약은 상태 예외로 끝나고
+ * 상태 변경 이벤트가 중복 발행되지 않는다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reservation.concurrency.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${reservation.concurrency.backoff:PT0.02S}")
+    private Duration backoff;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        // 바깥 트랜잭션에 참여하면 충돌 시 그 트랜잭션이 rollback-only 가 되므로 재시도 없이 한 번만 실행
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("동시 수정 충돌 재시도 한도 초과: operation={}, attempts={}", operation, attempt);
+                    throw new ReservationConflictException();
+                }
+                log.info("동시 수정 충돌로 재시도: operation={}, attempt={}", operation, attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        // 같은 예약을 두고 경쟁하는 요청이 같은 시점에 다시 부딪히지 않도록 지터를 준다
+        long baseMillis = backoff.toMillis() * attempt;
+        long sleepMillis = baseMillis + ThreadLocalRandom.current().nextLong(baseMillis + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReservationConflictException();
+        }
+    }
+}
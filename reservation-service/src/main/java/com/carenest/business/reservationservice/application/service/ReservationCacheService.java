@@ -0,0 +1,17 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface ReservationCacheService {
+
+    /**
+     * 캐시에 현재 버전의 예약 정보가 있으면 반환하고, 없으면 loader 로 조회해 캐시에 적재한다.
+     */
+    ReservationResponse get(UUID reservationId, Function<UUID, ReservationResponse> loader);
+
+    void invalidate(Collection<UUID> reservationIds);
+}
@@ -0,0 +1,182 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.domain.event.ReservationChangedEvent;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 예약 상세(ReservationResponse) 2단 캐시.
+ * 로컬 Caffeine 캐시 앞단에 Redis 를 공유 캐시로 두고, 두 캐시 모두 Redis 의 예약별 버전 번호와 함께 저장한다.
+ * 이력이 기록되는 상태 전이가 커밋되면 버전을 올리므로, 조회 시 버전이 다른 항목은 어느 인스턴스에서도 사용되지 않는다.
+ * Redis 장애 시에는 캐시를 건너뛰고 DB 에서 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationCacheServiceImpl implements ReservationCacheService {
+
+    private static final String VERSION_KEY_PREFIX = "reservation:version:";
+    private static final String RESPONSE_KEY_PREFIX = "reservation:response:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reservation.cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${reservation.cache.local-ttl:PT1M}")
+    private Duration localTtl;
+
+    @Value("${reservation.cache.shared-ttl:PT10M}")
+    private Duration sharedTtl;
+
+    // 버전 키는 값보다 오래 유지해야 만료 후 번호가 되돌아가도 예전 항목이 남아 있지 않다
+    @Value("${reservation.cache.version-ttl:P1D}")
+    private Duration versionTtl;
+
+    private Cache<UUID, CachedReservation> localCache;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    @Override
+    public ReservationResponse get(UUID reservationId, Function<UUID, ReservationResponse> loader) {
+        if (!enabled) {
+            return loader.apply(reservationId);
+        }
+
+        CachedReservation local = localCache.getIfPresent(reservationId);
+        long version;
+        CachedReservation shared = null;
+        try {
+            if (local != null) {
+                version = parseVersion(stringRedisTemplate.opsForValue().get(versionKey(reservationId)));
+                if (local.getVersion() == version) {
+                    return local.getResponse();
+                }
+            } else {
+                // 로컬에 없으면 버전과 공유 캐시 값을 한 번에 조회
+                List<String> values = stringRedisTemplate.opsForValue()
+                        .multiGet(List.of(versionKey(reservationId), responseKey(reservationId)));
+                version = parseVersion(values.get(0));
+                shared = readShared(values.get(1));
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 캐시 조회 실패, DB 조회로 대체: reservationId={}, error={}", reservationId, e.getMessage());
+            return loader.apply(reservationId);
+        }
+
+        if (shared != null && shared.getVersion() == version) {
+            localCache.put(reservationId, shared);
+            return shared.getResponse();
+        }
+
+        ReservationResponse response = loader.apply(reservationId);
+        CachedReservation loaded = new CachedReservation(version, response);
+        localCache.put(reservationId, loaded);
+        writeShared(reservationId, loaded);
+        return response;
+    }
+
+    @Override
+    public void invalidate(Collection<UUID> reservationIds) {
+        localCache.invalidateAll(reservationIds);
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (UUID reservationId : reservationIds) {
+                    redis.incr(versionKey(reservationId));
+                    redis.expire(versionKey(reservationId), versionTtl.toSeconds());
+                    redis.del(responseKey(reservationId));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("예약 캐시 무효화 실패: reservationIds={}, error={}", reservationIds, e.getMessage());
+        }
+    }
+
+    /**
+     * 이력이 기록된 상태 전이가 커밋된 뒤 캐시 버전을 올린다.
+     * 커밋 전에 올리면 다른 요청이 아직 커밋되지 않은 이전 상태를 새 버전으로 적재할 수 있다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        invalidate(event.getReservationIds());
+    }
+
+    private CachedReservation readShared(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CachedReservation.class);
+        } catch (JsonProcessingException e) {
+            log.warn("예약 캐시 항목 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(UUID reservationId, CachedReservation cached) {
+        try {
+            stringRedisTemplate.opsForValue().set(
+                    responseKey(reservationId), objectMapper.writeValueAsString(cached), sharedTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("예약 캐시 저장 실패: reservationId={}, error={}", reservationId, e.getMessage());
+        }
+    }
+
+    private static long parseVersion(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private static String versionKey(UUID reservationId) {
+        return VERSION_KEY_PREFIX + reservationId;
+    }
+
+    private static String responseKey(UUID reservationId) {
+        return RESPONSE_KEY_PREFIX + reservationId;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedReservation {
+        private long version;
+        private ReservationResponse response;
+    }
+}
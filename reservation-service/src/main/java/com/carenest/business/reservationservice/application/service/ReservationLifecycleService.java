@@ -0,0 +1,22 @@
+package com.carenest.business.reservationservice.application.service;
+
+import java.time.LocalDateTime;
+
+public interface ReservationLifecycleService {
+
+    /**
+     * 스윕 파티션 하나에서 종료 시각이 지난 확정 예약을 최대 batchSize 건 완료 처리한다.
+     * 다른 인스턴스가 같은 파티션을 처리 중이면 0 을 반환한다.
+     */
+    int completeEndedReservations(int partition, int partitions, LocalDateTime now, int batchSize);
+
+    /**
+     * 스윕 파티션 하나에서 deadline 이전에 생성된 미결제 예약을 최대 batchSize 건 만료(취소) 처리한다.
+     * 다른 인스턴스가 같은 파티션을 처리 중이면 0 을 반환한다.
+     */
+    int expireUnpaidReservations(int partition, int partitions, LocalDateTime deadline, int batchSize);
+
+    long countCompletionBacklog(LocalDateTime now);
+
+    long countExpiryBacklog(LocalDateTime deadline);
+}
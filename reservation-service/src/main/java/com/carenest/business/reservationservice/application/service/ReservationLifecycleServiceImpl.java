@@ -0,0 +1,122 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.domain.repository.ReservationRepository;
+import com.carenest.business.reservationservice.domain.service.CaregiverAvailabilityService;
+import com.carenest.business.reservationservice.domain.service.ReservationDomainService;
+import com.carenest.business.reservationservice.infrastructure.kafka.ReservationEventProducer;
+import com.carenest.business.reservationservice.infrastructure.notification.NotificationDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 자동 완료/만료 처리.
+ * 한 번의 호출이 한 트랜잭션으로, 파티션 advisory lock 획득 → 대상 행 잠금 조회 → 상태 전이 →
+ * 이력/이벤트 일괄 기록을 수행한다. 상태 전이 조건은 {@link ReservationDomainService} 규칙을 따른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationLifecycleServiceImpl implements ReservationLifecycleService {
+
+    // pg_try_advisory_xact_lock(key, partition) 의 key. 작업 종류별로 구분한다
+    private static final int COMPLETE_LOCK_KEY = 0x52534331; // "RSC1"
+    private static final int EXPIRE_LOCK_KEY = 0x52534531;   // "RSE1"
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationDomainService reservationDomainService;
+    private final CaregiverAvailabilityService caregiverAvailabilityService;
+    private final ReservationEventProducer reservationEventProducer;
+    private final NotificationDispatcher notificationDispatcher;
+
+    @Override
+    @Transactional
+    public int completeEndedReservations(int partition, int partitions, LocalDateTime now, int batchSize) {
+        if (!reservationRepository.tryAdvisoryXactLock(COMPLETE_LOCK_KEY, partition)) {
+            log.debug("예약 자동 완료 파티션 처리 중인 인스턴스 있음: partition={}", partition);
+            return 0;
+        }
+
+        List<Reservation> reservations = reservationRepository
+                .findEndedForUpdate(ReservationStatus.CONFIRMED.name(), now, partition, partitions, batchSize)
+                .stream()
+                .filter(reservation -> reservationDomainService.canCompleteReservation(reservation, now))
+                .toList();
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        reservations.forEach(Reservation::completeService);
+        applyTransitions(reservations, ReservationStatus.CONFIRMED);
+
+        for (Reservation reservation : reservations) {
+            notificationDispatcher.dispatch(
+                    "RESERVATION_STATUS_CHANGED",
+                    String.format("서비스가 완료되었습니다. 예약번호: %s", reservation.getReservationId()),
+                    reservation.getGuardianId(),
+                    reservation.getCaregiverId()
+            );
+        }
+
+        log.info("예약 자동 완료: partition={}, count={}", partition, reservations.size());
+        return reservations.size();
+    }
+
+    @Override
+    @Transactional
+    public int expireUnpaidReservations(int partition, int partitions, LocalDateTime deadline, int batchSize) {
+        if (!reservationRepository.tryAdvisoryXactLock(EXPIRE_LOCK_KEY, partition)) {
+            log.debug("미결제 예약 만료 파티션 처리 중인 인스턴스 있음: partition={}", partition);
+            return 0;
+        }
+
+        List<Reservation> reservations = reservationRepository
+                .findCreatedBeforeForUpdate(ReservationStatus.PENDING_PAYMENT.name(), deadline, partition, partitions, batchSize)
+                .stream()
+                .filter(reservation -> reservationDomainService.isPaymentExpired(reservation, deadline))
+                .toList();
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        reservations.forEach(Reservation::expireUnpaid);
+        applyTransitions(reservations, ReservationStatus.PENDING_PAYMENT);
+
+        for (Reservation reservation : reservations) {
+            notificationDispatcher.dispatch(
+                    "RESERVATION_CANCELLED",
+                    String.format("결제 기한이 지나 예약이 자동으로 취소되었습니다. 예약번호: %s",
+                            reservation.getReservationId()),
+                    reservation.getGuardianId()
+            );
+        }
+
+        log.info("미결제 예약 만료: partition={}, count={}", partition, reservations.size());
+        return reservations.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countCompletionBacklog(LocalDateTime now) {
+        return reservationRepository.countByStatusAndEndedAtBefore(ReservationStatus.CONFIRMED, now);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countExpiryBacklog(LocalDateTime deadline) {
+        return reservationRepository.countByStatusAndCreatedAtBefore(ReservationStatus.PENDING_PAYMENT, deadline);
+    }
+
+    private void applyTransitions(List<Reservation> reservations, ReservationStatus previousStatus) {
+        // 변경 감지로 커밋 시 UPDATE 가 JDBC 배치로 묶이고, 이력과 이벤트도 한 번에 기록
+        reservationDomainService.createReservationHistories(reservations, previousStatus);
+        reservationEventProducer.sendReservationStatusChangedEvents(reservations, previousStatus);
+        reservations.forEach(caregiverAvailabilityService::track);
+    }
+}
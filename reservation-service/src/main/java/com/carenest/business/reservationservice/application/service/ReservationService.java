@@ -1,14 +1,25 @@
 package com.carenest.business.reservationservice.application.service;
 
+import com.carenest.business.common.model.UserRole;
+import com.carenest.business.reservationservice.application.dto.request.PaymentCancellation;
+import com.carenest.business.reservationservice.application.dto.request.PaymentCompletion;
 import com.carenest.business.reservationservice.application.dto.request.ReservationCreateRequest;
 import com.carenest.business.reservationservice.application.dto.request.ReservationSearchRequest;
 import com.carenest.business.reservationservice.application.dto.request.ReservationUpdateRequest;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.domain.repository.ReservationProjection;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationCursorResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationHistoryResponse;
 import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ReservationService {
@@ -16,11 +27,15 @@ public interface ReservationService {
 
     ReservationResponse getReservation(UUID reservationId);
 
-    Page<ReservationResponse> getReservations(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    Map<UUID, ReservationResponse> getReservationsByIds(Collection<UUID> reservationIds, ReservationProjection projection);
 
-    Page<ReservationResponse> searchReservations(ReservationSearchRequest request, Pageable pageable);
+    Page<ReservationSummaryResponse> getReservations(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
-    Page<ReservationResponse> getUserReservations(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    Page<ReservationSummaryResponse> searchReservations(ReservationSearchRequest request, Pageable pageable);
+
+    ReservationCursorResponse searchReservationsByCursor(ReservationSearchRequest request, String cursor, int size, boolean includeCount);
+
+    Page<ReservationSummaryResponse> getUserReservations(UUID userId, UserRole role, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
     ReservationResponse updateReservation(UUID reservationId, ReservationUpdateRequest request);
 
@@ -30,13 +45,19 @@ public interface ReservationService {
 
     ReservationResponse cancelReservation(UUID reservationId, String cancelReason, String cancellationNote);
 
-    Page<ReservationResponse> getReservationHistory(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    Page<ReservationSummaryResponse> getReservationHistory(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    Page<ReservationSummaryResponse> getUserReservationHistory(UUID userId, UserRole role, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
-    Page<ReservationResponse> getUserReservationHistory(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    Slice<ReservationHistoryResponse> getReservationTimeline(UUID reservationId, Pageable pageable);
 
-    Page<ReservationResponse> getReservationsByStatus(ReservationStatus status, Pageable pageable);
+    Page<ReservationSummaryResponse> getReservationsByStatus(ReservationStatus status, Pageable pageable);
 
     ReservationResponse completeReservation(UUID reservationId);
 
     ReservationResponse linkPayment(UUID reservationId, UUID paymentId);
+
+    int linkPayments(List<PaymentCompletion> completions);
+
+    int cancelReservationsForPayments(List<PaymentCancellation> cancellations);
 }
\ No newline at end of file
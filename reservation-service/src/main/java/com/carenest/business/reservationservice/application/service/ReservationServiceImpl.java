@@ -1,56 +1,85 @@
 package com.carenest.business.reservationservice.application.service;
 
+import com.carenest.business.common.model.UserRole;
+import com.carenest.business.reservationservice.application.dto.request.PaymentCancellation;
+import com.carenest.business.reservationservice.application.dto.request.PaymentCompletion;
 import com.carenest.business.reservationservice.application.dto.request.ReservationCreateRequest;
+import com.carenest.business.reservationservice.application.dto.request.ReservationCursor;
 import com.carenest.business.reservationservice.application.dto.request.ReservationSearchRequest;
 import com.carenest.business.reservationservice.application.dto.request.ReservationUpdateRequest;
 import com.carenest.business.reservationservice.domain.model.PaymentStatus;
 import com.carenest.business.reservationservice.domain.model.Reservation;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.domain.model.ReservationHistory;
+import com.carenest.business.reservationservice.domain.repository.ReservationHistoryRepository;
+import com.carenest.business.reservationservice.domain.repository.ReservationProjection;
 import com.carenest.business.reservationservice.domain.repository.ReservationRepository;
+import com.carenest.business.reservationservice.domain.service.CaregiverAvailabilityService;
 import com.carenest.business.reservationservice.domain.service.ReservationDomainService;
 import com.carenest.business.reservationservice.exception.*;
-import com.carenest.business.reservationservice.infrastructure.client.dto.response.CaregiverDetailResponseDto;
-import com.carenest.business.reservationservice.infrastructure.kafka.NotificationEventProducer;
 import com.carenest.business.reservationservice.infrastructure.kafka.ReservationEventProducer;
-import com.carenest.business.reservationservice.infrastructure.service.ExternalServiceClient;
+import com.carenest.business.reservationservice.infrastructure.notification.NotificationDispatcher;
 import com.carenest.business.reservationservice.presentation.dto.mapper.ReservationMapper;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationCursorResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationHistoryResponse;
 import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationSummaryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService {
 
+    // PostgreSQL exclusion_violation (ex_reservations_caregiver_booked_period)
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+
+    // 커서 페이지 최대 크기 및 근사 건수 상한
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final long APPROXIMATE_COUNT_LIMIT = 1000L;
+
+    // 예약에 반영하지 못한 결제의 환불 사유
+    private static final String UNPAYABLE_RESERVATION_REFUND_REASON = "만료 또는 취소된 예약에 대한 결제 환불";
+    private static final String DUPLICATE_PAYMENT_REFUND_REASON = "이미 다른 결제가 처리된 예약에 대한 중복 결제 환불";
+
     private final ReservationRepository reservationRepository;
+    private final ReservationHistoryRepository reservationHistoryRepository;
     private final ReservationDomainService reservationDomainService;
+    private final CaregiverAvailabilityService caregiverAvailabilityService;
+    private final ReservationCacheService reservationCacheService;
+    private final ReservationValidationService reservationValidationService;
     private final ReservationMapper reservationMapper;
-    private final ExternalServiceClient externalServiceClient;
     private final ReservationEventProducer reservationEventProducer;
-    private final NotificationEventProducer notificationEventProducer;
+    private final NotificationDispatcher notificationDispatcher;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final CaregiverCalendarService caregiverCalendarService;
 
     @Override
     @Transactional
     public ReservationResponse createReservation(ReservationCreateRequest request, UUID guardianId) {
         log.info("예약 생성 시작: guardianId={}, caregiverId={}", guardianId, request.getCaregiverId());
 
-        // 간병인 정보를 조회해서 가격 검증
-        try {
-            CaregiverDetailResponseDto caregiverDetail = externalServiceClient.getCaregiverDetail(request.getCaregiverId());
-            log.info("간병인 정보 조회 성공: caregiverId={}, 일일가격={}, 시간당가격={}",
-                    caregiverDetail.getId(), caregiverDetail.getPricePerDay(), caregiverDetail.getPricePerHour());
-        } catch (Exception e) {
-            log.warn("간병인 정보 조회 실패. 기본 정보로 진행합니다.", e);
-        }
-
         Reservation reservation = new Reservation(
                 guardianId,
                 request.getGuardianName(),
@@ -69,46 +98,68 @@ public class ReservationServiceImpl implements ReservationService {
                 request.getServiceFee()
         );
 
-        if (!reservationDomainService.validateReservationTime(reservation)) {
-            throw new InvalidReservationTimeException();
-        }
+        // 시간/요금/일정 중복 검증 (간병인 요금 조회와 중복 확인은 동시에 실행)
+        reservationValidationService.validateForCreate(reservation);
 
-        Reservation savedReservation = reservationRepository.save(reservation);
-        reservationDomainService.createReservationHistory(savedReservation);
+        // 이후 저장과 이력/이벤트 기록만 순차로 처리
+        Reservation savedReservation = saveWithBookingExclusion(reservation);
+        reservationDomainService.createReservationHistory(savedReservation, null);
+        caregiverAvailabilityService.track(savedReservation);
 
-        // 보호자에게 예약 생성 알림 전송
-        try {
-            externalServiceClient.sendReservationCreatedNotification(
-                    savedReservation.getGuardianId(),
-                    String.format("예약이 생성되었습니다. 예약번호: %s", savedReservation.getReservationId())
-            );
-        } catch (Exception e) {
-            log.error("예약 생성 알림 전송 실패", e);
-            // 알림 전송 실패는 예약 생성에 영향X
-        }
+        // 보호자에게 예약 생성 알림 전송 (커밋 후 비동기 발행, 실패해도 예약 생성에 영향X)
+        notificationDispatcher.dispatch(
+                "RESERVATION_CREATED",
+                String.format("예약이 생성되었습니다. 예약번호: %s", savedReservation.getReservationId()),
+                savedReservation.getGuardianId()
+        );
 
         log.info("예약 생성 완료: reservationId={}", savedReservation.getReservationId());
         return reservationMapper.toDto(savedReservation);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미스 시 findById 자체 트랜잭션 사용)
     public ReservationResponse getReservation(UUID reservationId) {
         log.info("예약 상세 조회 요청: reservationId={}", reservationId);
 
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> {
-                    log.error("예약 정보를 찾을 수 없음: reservationId={}", reservationId);
-                    return new ReservationNotFoundException();
-                });
+        ReservationResponse response = reservationCacheService.get(reservationId, id ->
+                reservationRepository.findById(id)
+                        .map(reservationMapper::toDto)
+                        .orElseThrow(() -> {
+                            log.error("예약 정보를 찾을 수 없음: reservationId={}", id);
+                            return new ReservationNotFoundException();
+                        }));
 
         log.info("예약 상세 조회 완료: reservationId={}", reservationId);
-        return reservationMapper.toDto(reservation);
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, ReservationResponse> getReservationsByIds(Collection<UUID> reservationIds, ReservationProjection projection) {
+        Set<UUID> ids = new LinkedHashSet<>(reservationIds);
+        log.info("예약 일괄 조회 요청: size={}, projection={}", ids.size(), projection);
+
+        List<ReservationResponse> responses = projection == null || projection == ReservationProjection.FULL ?
+                reservationRepository.findAllById(ids).stream().map(reservationMapper::toDto).toList() :
+                reservationRepository.findProjectedByIdIn(ids, projection, ReservationResponse.class);
+
+        // 요청 순서대로 담고, 존재하지 않는 예약 ID 는 결과에서 빠진다
+        Map<UUID, ReservationResponse> byId = responses.stream()
+                .collect(Collectors.toMap(ReservationResponse::getReservationId, Function.identity()));
+        Map<UUID, ReservationResponse> result = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            ReservationResponse response = byId.get(id);
+            if (response != null) {
+                result.put(id, response);
+            }
+        }
+        return result;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ReservationResponse> getReservations(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    public Page<ReservationSummaryResponse> getReservations(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         if (startDate == null) {
             startDate = LocalDateTime.now().minusMonths(1);
         }
@@ -117,15 +168,15 @@ public class ReservationServiceImpl implements ReservationService {
         }
 
         log.info("예약 목록 조회: startDate={}, endDate={}", startDate, endDate);
-        Page<Reservation> reservations = reservationRepository.findByStartedAtBetween(startDate, endDate, pageable);
+        Page<ReservationSummaryResponse> reservations = reservationRepository.findSummariesByStartedAtBetween(startDate, endDate, pageable);
 
         log.info("예약 목록 조회 완료: count={}", reservations.getTotalElements());
-        return reservations.map(reservationMapper::toDto);
+        return reservations;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ReservationResponse> searchReservations(ReservationSearchRequest request, Pageable pageable) {
+    public Page<ReservationSummaryResponse> searchReservations(ReservationSearchRequest request, Pageable pageable) {
         log.info("예약 검색 요청: guardianId={}, caregiverId={}, status={}",
                 request.getGuardianId(), request.getCaregiverId(), request.getStatus());
 
@@ -136,7 +187,7 @@ public class ReservationServiceImpl implements ReservationService {
                 request.getEndDate() : LocalDateTime.now().plusMonths(1);
 
         try {
-            Page<Reservation> reservations = reservationRepository.findBySearchCriteria(
+            Page<ReservationSummaryResponse> reservations = reservationRepository.findBySearchCriteria(
                     request.getGuardianId(),
                     request.getCaregiverId(),
                     request.getPatientName(),
@@ -147,7 +198,7 @@ public class ReservationServiceImpl implements ReservationService {
             );
 
             log.info("예약 검색 완료: count={}", reservations.getTotalElements());
-            return reservations.map(reservationMapper::toDto);
+            return reservations;
         } catch (Exception e) {
             log.error("예약 검색 중 오류 발생: {}", e.getMessage(), e);
             // 오류 발생 시 빈 결과 반환
@@ -157,7 +208,71 @@ public class ReservationServiceImpl implements ReservationService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ReservationResponse> getUserReservations(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    public ReservationCursorResponse searchReservationsByCursor(ReservationSearchRequest request, String cursor,
+                                                                int size, boolean includeCount) {
+        log.info("예약 커서 검색 요청: guardianId={}, caregiverId={}, status={}, size={}",
+                request.getGuardianId(), request.getCaregiverId(), request.getStatus(), size);
+
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // 기본 날짜 범위 설정
+        LocalDateTime startDate = request.getStartDate() != null ?
+                request.getStartDate() : LocalDateTime.now().minusMonths(1);
+        LocalDateTime endDate = request.getEndDate() != null ?
+                request.getEndDate() : LocalDateTime.now().plusMonths(1);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ReservationSummaryResponse> reservations = reservationRepository.findBySearchCriteriaAfter(
+                request.getGuardianId(),
+                request.getCaregiverId(),
+                request.getPatientName(),
+                startDate,
+                endDate,
+                request.getStatus(),
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getReservationId() : null,
+                pageSize + 1
+        );
+
+        boolean hasNext = reservations.size() > pageSize;
+        List<ReservationSummaryResponse> page = hasNext ? reservations.subList(0, pageSize) : reservations;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ReservationSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = new ReservationCursor(last.getCreatedAt(), last.getReservationId()).encode();
+        }
+
+        Long approximateTotal = null;
+        boolean countCapped = false;
+        if (includeCount) {
+            approximateTotal = reservationRepository.countBySearchCriteriaUpTo(
+                    request.getGuardianId(),
+                    request.getCaregiverId(),
+                    request.getPatientName(),
+                    startDate,
+                    endDate,
+                    request.getStatus(),
+                    APPROXIMATE_COUNT_LIMIT
+            );
+            countCapped = approximateTotal >= APPROXIMATE_COUNT_LIMIT;
+        }
+
+        log.info("예약 커서 검색 완료: count={}, hasNext={}", page.size(), hasNext);
+        return new ReservationCursorResponse(
+                page,
+                page.size(),
+                hasNext,
+                nextCursor,
+                approximateTotal,
+                countCapped
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ReservationSummaryResponse> getUserReservations(UUID userId, UserRole role, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         // 기본 날짜 범위 설정
         if (startDate == null) {
             startDate = LocalDateTime.now().minusMonths(1);
@@ -166,28 +281,22 @@ public class ReservationServiceImpl implements ReservationService {
             endDate = LocalDateTime.now().plusMonths(1);
         }
 
-        log.info("사용자 예약 목록 조회: userId={}, startDate={}, endDate={}", userId, startDate, endDate);
-
-        // 보호자 ID로 조회
-        Page<Reservation> reservationsByGuardian = reservationRepository.findByGuardianIdAndStartedAtBetween(
-                userId, startDate, endDate, pageable);
+        log.info("사용자 예약 목록 조회: userId={}, role={}, startDate={}, endDate={}", userId, role, startDate, endDate);
 
-        if (!reservationsByGuardian.isEmpty()) {
-            log.info("보호자 예약 목록 조회 완료: userId={}, count={}", userId, reservationsByGuardian.getTotalElements());
-            return reservationsByGuardian.map(reservationMapper::toDto);
-        }
+        // 보호자/간병인 역할을 반영한 단일 쿼리로 조회
+        Page<ReservationSummaryResponse> reservations = reservationRepository.findByParticipant(
+                userId, role, startDate, endDate, pageable);
 
-        // 간병인 ID로 조회
-        Page<Reservation> reservationsByCaregiver = reservationRepository.findByCaregiverIdAndStartedAtBetween(
-                userId, startDate, endDate, pageable);
-
-        log.info("간병인 예약 목록 조회 완료: userId={}, count={}", userId, reservationsByCaregiver.getTotalElements());
-        return reservationsByCaregiver.map(reservationMapper::toDto);
+        log.info("사용자 예약 목록 조회 완료: userId={}, count={}", userId, reservations.getTotalElements());
+        return reservations;
     }
 
     @Override
-    @Transactional
     public ReservationResponse updateReservation(UUID reservationId, ReservationUpdateRequest request) {
+        return optimisticRetryExecutor.execute("예약 수정", () -> doUpdateReservation(reservationId, request));
+    }
+
+    private ReservationResponse doUpdateReservation(UUID reservationId, ReservationUpdateRequest request) {
         log.info("예약 수정 요청: reservationId={}", reservationId);
 
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -228,11 +337,20 @@ public class ReservationServiceImpl implements ReservationService {
             updated = true;
         }
         if (request.getStartedAt() != null && request.getEndedAt() != null) {
+            // 기존 기간의 가용성 슬롯도 다시 계산되도록 표시
+            caregiverCalendarService.markChanged(
+                    reservation.getCaregiverId(), reservation.getStartedAt(), reservation.getEndedAt());
             reservation.updateServicePeriod(request.getStartedAt(), request.getEndedAt());
 
             if (!reservationDomainService.validateReservationTime(reservation)) {
                 throw new InvalidReservationTimeException();
             }
+
+            if (reservationDomainService.checkOverlappingReservations(reservation)) {
+                log.error("간병인 일정 중복: reservationId={}, caregiverId={}",
+                        reservationId, reservation.getCaregiverId());
+                throw new InvalidReservationTimeException();
+            }
             updated = true;
         }
         if (request.getServiceRequests() != null) {
@@ -241,21 +359,20 @@ public class ReservationServiceImpl implements ReservationService {
         }
 
         if (updated) {
+            ReservationStatus previousStatus = reservation.getStatus();
             reservation.setUpdatedAt(LocalDateTime.now());
             reservation.changeStatusToPendingAcceptance();
 
-            Reservation updatedReservation = reservationRepository.save(reservation);
-            reservationDomainService.createReservationHistory(updatedReservation);
+            Reservation updatedReservation = saveWithBookingExclusion(reservation);
+            reservationDomainService.createReservationHistory(updatedReservation, previousStatus);
+            caregiverAvailabilityService.track(updatedReservation);
 
             // 간병인에게 예약 수정 알림 전송
-            try {
-                externalServiceClient.sendReservationCreatedNotification(
-                        updatedReservation.getCaregiverId(),
-                        String.format("예약이 수정되었습니다. 예약번호: %s", updatedReservation.getReservationId())
-                );
-            } catch (Exception e) {
-                log.error("예약 수정 알림 전송 실패", e);
-            }
+            notificationDispatcher.dispatch(
+                    "RESERVATION_STATUS_CHANGED",
+                    String.format("예약이 수정되었습니다. 예약번호: %s", updatedReservation.getReservationId()),
+                    updatedReservation.getCaregiverId()
+            );
 
             log.info("예약 수정 완료: reservationId={}", reservationId);
             return reservationMapper.toDto(updatedReservation);
@@ -266,8 +383,11 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     @Override
-    @Transactional
     public ReservationResponse acceptReservation(UUID reservationId, String caregiverNote) {
+        return optimisticRetryExecutor.execute("예약 수락", () -> doAcceptReservation(reservationId, caregiverNote));
+    }
+
+    private ReservationResponse doAcceptReservation(UUID reservationId, String caregiverNote) {
         log.info("예약 수락 요청: reservationId={}", reservationId);
 
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -279,65 +399,42 @@ public class ReservationServiceImpl implements ReservationService {
 
         ReservationStatus previousStatus = reservation.getStatus();
 
-        reservation.acceptByCaregiver(caregiverNote);
-
-        Reservation updatedReservation = reservationRepository.save(reservation);
-        reservationDomainService.createReservationHistory(updatedReservation);
-
-        try {
-            String guardianMsg = String.format(
-                    "예약이 간병인에 의해 수락되었습니다. 예약번호: %s, 간병인: %s, 시작일시: %s",
-                    updatedReservation.getReservationId(),
-                    updatedReservation.getCaregiverName(),
-                    updatedReservation.getStartedAt()
-            );
+        applyTransition(reservation, reservationRepository.acceptIfUnchanged(
+                reservationId, reservation.getVersion(), Reservation.ACCEPTABLE_STATUSES, caregiverNote, LocalDateTime.now()));
 
-            notificationEventProducer.sendNotificationEvent(
-                    updatedReservation.getGuardianId(),
-                    "RESERVATION_STATUS_CHANGED",  // 명확한 이벤트 타입 사용
-                    guardianMsg
-            );
+        Reservation updatedReservation = reservation;
+        reservationDomainService.createReservationHistory(updatedReservation, previousStatus);
+        caregiverAvailabilityService.track(updatedReservation);
 
-            log.info("보호자 예약 수락 알림 전송 완료: guardianId={}", updatedReservation.getGuardianId());
-
-            // 간병인에게도 알림 전송
-            try {
-                String caregiverMsg = String.format(
-                        "예약 수락이 완료되었습니다. 예약번호: %s, 환자명: %s, 시작일시: %s",
-                        updatedReservation.getReservationId(),
-                        updatedReservation.getPatientName(),
-                        updatedReservation.getStartedAt()
-                );
-
-                notificationEventProducer.sendNotificationEvent(
-                        updatedReservation.getCaregiverId(),
-                        "RESERVATION_STATUS_CHANGED",
-                        caregiverMsg
-                );
-
-                log.info("간병인 예약 수락 알림 전송 완료: caregiverId={}", updatedReservation.getCaregiverId());
-            } catch (Exception e) {
-                log.error("간병인 알림 전송 실패: caregiverId={}, error={}",
-                        updatedReservation.getCaregiverId(), e.getMessage(), e);
-            }
-
-        } catch (Exception e) {
-            log.error("예약 수락 알림 Kafka 전송 실패", e);
-        }
+        String guardianMsg = String.format(
+                "예약이 간병인에 의해 수락되었습니다. 예약번호: %s, 간병인: %s, 시작일시: %s",
+                updatedReservation.getReservationId(),
+                updatedReservation.getCaregiverName(),
+                updatedReservation.getStartedAt()
+        );
+        notificationDispatcher.dispatch("RESERVATION_STATUS_CHANGED", guardianMsg, updatedReservation.getGuardianId());
+
+        // 간병인에게도 알림 전송
+        String caregiverMsg = String.format(
+                "예약 수락이 완료되었습니다. 예약번호: %s, 환자명: %s, 시작일시: %s",
+                updatedReservation.getReservationId(),
+                updatedReservation.getPatientName(),
+                updatedReservation.getStartedAt()
+        );
+        notificationDispatcher.dispatch("RESERVATION_STATUS_CHANGED", caregiverMsg, updatedReservation.getCaregiverId());
 
-        try {
-            reservationEventProducer.sendReservationStatusChangedEvent(updatedReservation, previousStatus);
-            log.info("예약 상태 변경 이벤트 발행 완료: {} -> {}", previousStatus, updatedReservation.getStatus());
-        } catch (Exception e) {
-            log.error("예약 상태 변경 이벤트 발행 실패", e);
-        }
+        // 상태 변경 이벤트 발행
+        reservationEventProducer.sendReservationStatusChangedEvent(updatedReservation, previousStatus);
 
         return reservationMapper.toDto(updatedReservation);
     }
 
     @Override
-    @Transactional
     public ReservationResponse rejectReservation(UUID reservationId, String rejectionReason, String suggestedAlternative) {
+        return optimisticRetryExecutor.execute("예약 거절", () -> doRejectReservation(reservationId, rejectionReason, suggestedAlternative));
+    }
+
+    private ReservationResponse doRejectReservation(UUID reservationId, String rejectionReason, String suggestedAlternative) {
         log.info("예약 거절 요청: reservationId={}, reason={}", reservationId, rejectionReason);
 
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -353,36 +450,34 @@ public class ReservationServiceImpl implements ReservationService {
         }
 
         ReservationStatus previousStatus = reservation.getStatus();
-        reservation.rejectByCaregiver(rejectionReason);
-        reservationRepository.save(reservation);
-        reservationDomainService.createReservationHistory(reservation);
+        applyTransition(reservation, reservationRepository.rejectIfUnchanged(
+                reservationId, reservation.getVersion(), Reservation.REJECTABLE_STATUSES, rejectionReason, LocalDateTime.now()));
+        reservationDomainService.createReservationHistory(reservation, previousStatus);
+        caregiverAvailabilityService.track(reservation);
 
         // 상태 변경 이벤트 발행
         reservationEventProducer.sendReservationStatusChangedEvent(reservation, previousStatus);
 
-        // 예약 거절 알림 발송
-        try {
-            // 보호자에게 알림
-            String message = String.format("예약이 간병인에 의해 거절되었습니다. 예약번호: %s, 거절사유: %s",
-                    reservation.getReservationId(), rejectionReason);
+        // 예약 거절 알림 발송 (보호자)
+        String message = String.format("예약이 간병인에 의해 거절되었습니다. 예약번호: %s, 거절사유: %s",
+                reservation.getReservationId(), rejectionReason);
 
-            if (suggestedAlternative != null && !suggestedAlternative.isEmpty()) {
-                message += String.format(", 대안 제안: %s", suggestedAlternative);
-            }
-
-            externalServiceClient.sendReservationCreatedNotification(
-                    reservation.getGuardianId(), message);
-        } catch (Exception e) {
-            log.error("예약 거절 알림 전송 실패", e);
+        if (suggestedAlternative != null && !suggestedAlternative.isEmpty()) {
+            message += String.format(", 대안 제안: %s", suggestedAlternative);
         }
 
+        notificationDispatcher.dispatch("RESERVATION_CANCELLED", message, reservation.getGuardianId());
+
         log.info("예약 거절 완료: reservationId={}", reservationId);
         return reservationMapper.toDto(reservation);
     }
 
     @Override
-    @Transactional
     public ReservationResponse cancelReservation(UUID reservationId, String cancelReason, String cancellationNote) {
+        return optimisticRetryExecutor.execute("예약 취소", () -> doCancelReservation(reservationId, cancelReason, cancellationNote));
+    }
+
+    private ReservationResponse doCancelReservation(UUID reservationId, String cancelReason, String cancellationNote) {
         log.info("예약 취소 요청: reservationId={}, reason={}", reservationId, cancelReason);
 
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -391,45 +486,12 @@ public class ReservationServiceImpl implements ReservationService {
                     return new ReservationNotFoundException();
                 });
 
-        if (!reservationDomainService.canCancelReservation(reservationId)) {
+        if (!reservationDomainService.canCancelReservation(reservation)) {
             log.error("예약 취소 불가: reservationId={}, status={}", reservationId, reservation.getStatus());
             throw new CannotCancelReservationException();
         }
 
-        ReservationStatus previousStatus = reservation.getStatus();
-        reservation.cancelByGuardian(cancelReason);
-
-        // 저장 전에 Kafka 이벤트 발행 (결제 취소 요청을 위해)
-        if (reservation.getPaymentStatus() == PaymentStatus.PAID && reservation.getPaymentId() != null) {
-            reservationEventProducer.sendReservationCancelledEvent(reservation);
-            log.info("예약 취소 이벤트 발행: reservationId={}, paymentId={}",
-                    reservation.getReservationId(), reservation.getPaymentId());
-        }
-
-        reservationRepository.save(reservation);
-        reservationDomainService.createReservationHistory(reservation);
-
-        // 상태 변경 이벤트 발행
-        reservationEventProducer.sendReservationStatusChangedEvent(reservation, previousStatus);
-
-        // 예약 취소 알림 발송
-        try {
-            // 보호자에게 알림
-            externalServiceClient.sendReservationCreatedNotification(
-                    reservation.getGuardianId(),
-                    String.format("예약이 취소되었습니다. 예약번호: %s, 취소사유: %s",
-                            reservation.getReservationId(), cancelReason)
-            );
-
-            // 간병인에게 알림
-            externalServiceClient.sendReservationCreatedNotification(
-                    reservation.getCaregiverId(),
-                    String.format("예약이 취소되었습니다. 예약번호: %s",
-                            reservation.getReservationId())
-            );
-        } catch (Exception e) {
-            log.error("예약 취소 알림 전송 실패", e);
-        }
+        applyCancellation(reservation, cancelReason);
 
         log.info("예약 취소 완료: reservationId={}", reservationId);
         return reservationMapper.toDto(reservation);
@@ -437,7 +499,7 @@ public class ReservationServiceImpl implements ReservationService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ReservationResponse> getReservationHistory(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    public Page<ReservationSummaryResponse> getReservationHistory(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         if (startDate == null) {
             startDate = LocalDateTime.now().minusMonths(1);
         }
@@ -447,15 +509,15 @@ public class ReservationServiceImpl implements ReservationService {
 
         log.info("예약 이력 조회: startDate={}, endDate={}", startDate, endDate);
 
-        Page<Reservation> reservations = reservationRepository.findByStartedAtBetween(startDate, endDate, pageable);
+        Page<ReservationSummaryResponse> reservations = reservationRepository.findSummariesByStartedAtBetween(startDate, endDate, pageable);
 
         log.info("예약 이력 조회 완료: count={}", reservations.getTotalElements());
-        return reservations.map(reservationMapper::toDto);
+        return reservations;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ReservationResponse> getUserReservationHistory(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    public Page<ReservationSummaryResponse> getUserReservationHistory(UUID userId, UserRole role, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         if (startDate == null) {
             startDate = LocalDateTime.now().minusMonths(1);
         }
@@ -463,39 +525,51 @@ public class ReservationServiceImpl implements ReservationService {
             endDate = LocalDateTime.now().plusMonths(1);
         }
 
-        log.info("사용자 예약 이력 조회: userId={}, startDate={}, endDate={}", userId, startDate, endDate);
+        log.info("사용자 예약 이력 조회: userId={}, role={}, startDate={}, endDate={}", userId, role, startDate, endDate);
 
-        // 보호자 ID로 조회
-        Page<Reservation> reservationsByGuardian = reservationRepository.findByGuardianIdAndStartedAtBetween(
-                userId, startDate, endDate, pageable);
+        // 보호자/간병인 역할을 반영한 단일 쿼리로 조회
+        Page<ReservationSummaryResponse> reservations = reservationRepository.findByParticipant(
+                userId, role, startDate, endDate, pageable);
 
-        if (!reservationsByGuardian.isEmpty()) {
-            log.info("보호자 예약 이력 조회 완료: userId={}, count={}", userId, reservationsByGuardian.getTotalElements());
-            return reservationsByGuardian.map(reservationMapper::toDto);
-        }
+        log.info("사용자 예약 이력 조회 완료: userId={}, count={}", userId, reservations.getTotalElements());
+        return reservations;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ReservationHistoryResponse> getReservationTimeline(UUID reservationId, Pageable pageable) {
+        log.info("예약 타임라인 조회: reservationId={}, page={}", reservationId, pageable.getPageNumber());
+
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> {
+                    log.error("예약 정보를 찾을 수 없음: reservationId={}", reservationId);
+                    return new ReservationNotFoundException();
+                });
 
-        // 간병인 ID로 조회
-        Page<Reservation> reservationsByCaregiver = reservationRepository.findByCaregiverIdAndStartedAtBetween(
-                userId, startDate, endDate, pageable);
+        Slice<ReservationHistory> histories = reservationHistoryRepository.findSliceByReservationIdAndCreatedAtGreaterThanEqual(
+                reservationId, reservation.getCreatedAt(), pageable);
 
-        log.info("간병인 예약 이력 조회 완료: userId={}, count={}", userId, reservationsByCaregiver.getTotalElements());
-        return reservationsByCaregiver.map(reservationMapper::toDto);
+        log.info("예약 타임라인 조회 완료: reservationId={}, count={}", reservationId, histories.getNumberOfElements());
+        return histories.map(reservationMapper::toHistoryDto);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ReservationResponse> getReservationsByStatus(ReservationStatus status, Pageable pageable) {
+    public Page<ReservationSummaryResponse> getReservationsByStatus(ReservationStatus status, Pageable pageable) {
         log.info("상태별 예약 목록 조회: status={}", status);
 
-        Page<Reservation> reservations = reservationRepository.findByStatus(status, pageable);
+        Page<ReservationSummaryResponse> reservations = reservationRepository.findSummariesByStatus(status, pageable);
 
         log.info("상태별 예약 목록 조회 완료: status={}, count={}", status, reservations.getTotalElements());
-        return reservations.map(reservationMapper::toDto);
+        return reservations;
     }
 
     @Override
-    @Transactional
     public ReservationResponse completeReservation(UUID reservationId) {
+        return optimisticRetryExecutor.execute("예약 완료", () -> doCompleteReservation(reservationId));
+    }
+
+    private ReservationResponse doCompleteReservation(UUID reservationId) {
         log.info("예약 완료 요청: reservationId={}", reservationId);
 
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -504,46 +578,49 @@ public class ReservationServiceImpl implements ReservationService {
                     return new ReservationNotFoundException();
                 });
 
-        if (reservation.getStatus() != ReservationStatus.CONFIRMED) {
+        if (!Reservation.COMPLETABLE_STATUSES.contains(reservation.getStatus())) {
             log.error("예약 완료 불가: reservationId={}, currentStatus={}",
                     reservationId, reservation.getStatus());
             throw new InvalidReservationStatusException();
         }
 
         ReservationStatus previousStatus = reservation.getStatus();
-        reservation.completeService();
-        reservationRepository.save(reservation);
-        reservationDomainService.createReservationHistory(reservation);
+        applyTransition(reservation, reservationRepository.completeIfUnchanged(
+                reservationId, reservation.getVersion(), Reservation.COMPLETABLE_STATUSES, LocalDateTime.now()));
+        reservationDomainService.createReservationHistory(reservation, previousStatus);
+        caregiverAvailabilityService.track(reservation);
 
         // 상태 변경 이벤트 발행
         reservationEventProducer.sendReservationStatusChangedEvent(reservation, previousStatus);
 
-        // 예약 완료 알림 발송
-        try {
-            // 보호자에게 알림
-            externalServiceClient.sendReservationCreatedNotification(
-                    reservation.getGuardianId(),
-                    String.format("서비스가 완료되었습니다. 예약번호: %s", reservation.getReservationId())
-            );
-
-            // 간병인에게 알림
-            externalServiceClient.sendReservationCreatedNotification(
-                    reservation.getCaregiverId(),
-                    String.format("서비스가 완료되었습니다. 예약번호: %s", reservation.getReservationId())
-            );
-
-            // 정산 완료 알림은 정산 시스템에서 처리
-        } catch (Exception e) {
-            log.error("예약 완료 알림 전송 실패", e);
-        }
+        // 예약 완료 알림 발송 (보호자/간병인 동일 내용이므로 한 메시지로 발행, 정산 완료 알림은 정산 시스템에서 처리)
+        notificationDispatcher.dispatch(
+                "RESERVATION_STATUS_CHANGED",
+                String.format("서비스가 완료되었습니다. 예약번호: %s", reservation.getReservationId()),
+                reservation.getGuardianId(),
+                reservation.getCaregiverId()
+        );
 
         log.info("예약 완료 처리 완료: reservationId={}", reservationId);
         return reservationMapper.toDto(reservation);
     }
 
     @Override
-    @Transactional
     public ReservationResponse linkPayment(UUID reservationId, UUID paymentId) {
+        ReservationResponse response = optimisticRetryExecutor.execute("결제 연결",
+                () -> doLinkPayment(reservationId, paymentId));
+
+        // 연결하지 못한 결제는 환불 요청을 커밋한 뒤에 실패로 응답한다
+        if (!paymentId.equals(response.getPaymentId())) {
+            if (response.getPaymentId() != null) {
+                throw new PaymentAlreadyProcessedException();
+            }
+            throw new InvalidReservationStatusException();
+        }
+        return response;
+    }
+
+    private ReservationResponse doLinkPayment(UUID reservationId, UUID paymentId) {
         log.info("결제 정보 연결 요청: reservationId={}, paymentId={}", reservationId, paymentId);
 
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -561,63 +638,229 @@ public class ReservationServiceImpl implements ReservationService {
             } else {
                 log.error("이미 다른 결제가 처리된 예약: reservationId={}, existingPaymentId={}",
                         reservationId, reservation.getPaymentId());
-                throw new PaymentAlreadyProcessedException();
+                requestRefund(reservation, paymentId, DUPLICATE_PAYMENT_REFUND_REASON);
+                return reservationMapper.toDto(reservation);
             }
         }
 
-        ReservationStatus previousStatus = reservation.getStatus();
+        // 만료/취소된 예약에 늦게 도착한 결제로 예약이 되살아나지 않도록 하고, 청구된 결제는 환불한다
+        if (!Reservation.PAYABLE_STATUSES.contains(reservation.getStatus())) {
+            log.error("결제를 연결할 수 없는 예약 상태: reservationId={}, status={}",
+                    reservationId, reservation.getStatus());
+            requestRefund(reservation, paymentId, UNPAYABLE_RESERVATION_REFUND_REASON);
+            return reservationMapper.toDto(reservation);
+        }
 
-        reservation.linkPayment(paymentId);
+        Reservation updatedReservation = applyPaymentLink(reservation, paymentId);
 
-        log.info("예약 상태 변경: reservationId={}, 이전 상태={}, 새 상태=PENDING_ACCEPTANCE",
-                reservationId, previousStatus);
-        reservation.changeStatusToPendingAcceptance();
+        log.info("결제 정보 연결 완료: reservationId={}, paymentId={}", reservationId, paymentId);
+        return reservationMapper.toDto(updatedReservation);
+    }
 
-        Reservation updatedReservation = reservationRepository.save(reservation);
-        reservationDomainService.createReservationHistory(updatedReservation);
+    @Override
+    public int linkPayments(List<PaymentCompletion> completions) {
+        return optimisticRetryExecutor.execute("결제 완료 일괄 반영", () -> doLinkPayments(completions));
+    }
 
-        log.info("예약 상태 변경 완료: reservationId={}, 최종 상태={}",
-                reservationId, updatedReservation.getStatus());
+    private int doLinkPayments(List<PaymentCompletion> completions) {
+        Map<UUID, Reservation> reservations = findAllByIdAsMap(
+                completions.stream().map(PaymentCompletion::getReservationId).toList());
+
+        int linked = 0;
+        // 수신 순서대로 적용 (같은 예약 키의 이벤트는 같은 파티션에서 순서대로 들어온다)
+        for (PaymentCompletion completion : completions) {
+            Reservation reservation = reservations.get(completion.getReservationId());
+            if (reservation == null) {
+                log.error("예약 정보를 찾을 수 없음: reservationId={}", completion.getReservationId());
+                continue;
+            }
 
-        try {
-            reservationEventProducer.sendReservationStatusChangedEvent(updatedReservation, previousStatus);
-            log.info("예약 상태 변경 이벤트 발행 완료: reservationId={}, oldStatus={}, newStatus={}",
-                    reservationId, previousStatus, updatedReservation.getStatus());
-        } catch (Exception e) {
-            log.error("예약 상태 변경 이벤트 발행 실패: {}", e.getMessage(), e);
+            if (reservation.getPaymentId() != null) {
+                if (reservation.getPaymentId().equals(completion.getPaymentId())) {
+                    log.info("이미 동일한 결제 정보가 연결되어 있음: reservationId={}, paymentId={}",
+                            reservation.getReservationId(), completion.getPaymentId());
+                } else {
+                    log.error("이미 다른 결제가 처리된 예약: reservationId={}, existingPaymentId={}",
+                            reservation.getReservationId(), reservation.getPaymentId());
+                    requestRefund(reservation, completion.getPaymentId(), DUPLICATE_PAYMENT_REFUND_REASON);
+                }
+                continue;
+            }
+
+            if (!Reservation.PAYABLE_STATUSES.contains(reservation.getStatus())) {
+                log.error("결제를 연결할 수 없는 예약 상태: reservationId={}, status={}",
+                        reservation.getReservationId(), reservation.getStatus());
+                requestRefund(reservation, completion.getPaymentId(), UNPAYABLE_RESERVATION_REFUND_REASON);
+                continue;
+            }
+
+            applyPaymentLink(reservation, completion.getPaymentId());
+            linked++;
         }
 
-        try {
-            // 보호자에게 알림
-            String guardianMsg = String.format(
-                    "결제가 완료되었습니다. 예약번호: %s, 금액: %s원, 간병인의 예약 수락을 기다리고 있습니다.",
-                    updatedReservation.getReservationId(),
-                    updatedReservation.getTotalAmount()
-            );
+        log.info("결제 완료 일괄 반영: 요청={}, 반영={}", completions.size(), linked);
+        return linked;
+    }
+
+    @Override
+    public int cancelReservationsForPayments(List<PaymentCancellation> cancellations) {
+        return optimisticRetryExecutor.execute("결제 취소 일괄 반영", () -> doCancelReservationsForPayments(cancellations));
+    }
+
+    private int doCancelReservationsForPayments(List<PaymentCancellation> cancellations) {
+        Map<UUID, Reservation> reservations = findAllByIdAsMap(
+                cancellations.stream().map(PaymentCancellation::getReservationId).toList());
+
+        int cancelled = 0;
+        for (PaymentCancellation cancellation : cancellations) {
+            Reservation reservation = reservations.get(cancellation.getReservationId());
+            if (reservation == null) {
+                log.error("예약 정보를 찾을 수 없음: reservationId={}", cancellation.getReservationId());
+                continue;
+            }
+
+            if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+                log.info("이미 취소된 예약입니다: reservationId={}", reservation.getReservationId());
+                continue;
+            }
 
-            externalServiceClient.sendPaymentCompletedNotification(
-                    updatedReservation.getGuardianId(), guardianMsg);
+            if (!reservationDomainService.canCancelReservation(reservation)) {
+                log.error("예약 취소 불가: reservationId={}, status={}",
+                        reservation.getReservationId(), reservation.getStatus());
+                continue;
+            }
 
-            log.info("보호자에게 결제 완료 알림 전송 완료: guardianId={}", updatedReservation.getGuardianId());
+            applyCancellation(reservation, "결제 취소로 인한 자동 예약 취소");
 
-            // 간병인에게 알림
-            String caregiverMsg = String.format(
-                    "새로운 예약이 들어왔습니다. 예약번호: %s, 환자명: %s, 시작일시: %s, 종료일시: %s. 확인 후 수락해주세요.",
-                    updatedReservation.getReservationId(),
-                    updatedReservation.getPatientName(),
-                    updatedReservation.getStartedAt(),
-                    updatedReservation.getEndedAt()
+            String cancelReason = cancellation.getCancelReason() != null ? cancellation.getCancelReason() : "결제 취소";
+            notificationDispatcher.dispatch(
+                    "RESERVATION_CANCELLED",
+                    String.format("결제 취소로 인해 예약이 자동으로 취소되었습니다. 예약번호: %s, 취소 사유: %s",
+                            reservation.getReservationId(), cancelReason),
+                    reservation.getGuardianId(),
+                    reservation.getCaregiverId()
             );
+            cancelled++;
+        }
 
-            externalServiceClient.sendReservationCreatedNotification(
-                    updatedReservation.getCaregiverId(), caregiverMsg);
+        log.info("결제 취소 일괄 반영: 요청={}, 취소={}", cancellations.size(), cancelled);
+        return cancelled;
+    }
 
-            log.info("간병인에게 새 예약 알림 전송 완료: caregiverId={}", updatedReservation.getCaregiverId());
-        } catch (Exception e) {
-            log.error("결제 완료 알림 전송 실패: {}", e.getMessage(), e);
+    private Map<UUID, Reservation> findAllByIdAsMap(List<UUID> reservationIds) {
+        return reservationRepository.findAllById(new HashSet<>(reservationIds)).stream()
+                .collect(Collectors.toMap(Reservation::getReservationId, Function.identity()));
+    }
+
+    private void applyCancellation(Reservation reservation, String cancelReason) {
+        ReservationStatus previousStatus = reservation.getStatus();
+        applyTransition(reservation, reservationRepository.cancelIfUnchanged(
+                reservation.getReservationId(), reservation.getVersion(), Reservation.CANCELABLE_STATUSES,
+                cancelReason, LocalDateTime.now()));
+        reservationDomainService.createReservationHistory(reservation, previousStatus);
+        caregiverAvailabilityService.track(reservation);
+
+        // 결제 취소 요청 이벤트는 취소 상태와 같은 트랜잭션으로 outbox 에 기록 (커밋된 경우에만 발행)
+        if (reservation.getPaymentStatus() == PaymentStatus.PAID && reservation.getPaymentId() != null) {
+            reservationEventProducer.sendReservationCancelledEvent(reservation);
+            log.info("예약 취소 이벤트 기록: reservationId={}, paymentId={}",
+                    reservation.getReservationId(), reservation.getPaymentId());
         }
 
-        log.info("결제 정보 연결 완료: reservationId={}, paymentId={}", reservationId, paymentId);
-        return reservationMapper.toDto(updatedReservation);
+        // 상태 변경 이벤트 발행
+        reservationEventProducer.sendReservationStatusChangedEvent(reservation, previousStatus);
+
+        // 예약 취소 알림 발송
+        notificationDispatcher.dispatch(
+                "RESERVATION_CANCELLED",
+                String.format("예약이 취소되었습니다. 예약번호: %s, 취소사유: %s",
+                        reservation.getReservationId(), cancelReason),
+                reservation.getGuardianId()
+        );
+        notificationDispatcher.dispatch(
+                "RESERVATION_CANCELLED",
+                String.format("예약이 취소되었습니다. 예약번호: %s", reservation.getReservationId()),
+                reservation.getCaregiverId()
+        );
+    }
+
+    // 보호자에게는 이미 청구된 결제이므로, 예약 상태를 바꾸지 않고 환불 요청만 같은 트랜잭션의 outbox 에 기록한다
+    private void requestRefund(Reservation reservation, UUID paymentId, String refundReason) {
+        reservationEventProducer.sendPaymentRefundEvent(reservation, paymentId, refundReason);
+        log.warn("반영할 수 없는 결제 환불 요청: reservationId={}, paymentId={}, status={}",
+                reservation.getReservationId(), paymentId, reservation.getStatus());
+    }
+
+    private Reservation applyPaymentLink(Reservation reservation, UUID paymentId) {
+        ReservationStatus previousStatus = reservation.getStatus();
+
+        log.info("예약 상태 변경: reservationId={}, 이전 상태={}, 새 상태=PENDING_ACCEPTANCE",
+                reservation.getReservationId(), previousStatus);
+        applyTransition(reservation, reservationRepository.linkPaymentIfUnchanged(
+                reservation.getReservationId(), reservation.getVersion(), Reservation.PAYABLE_STATUSES,
+                paymentId, LocalDateTime.now()));
+
+        Reservation updatedReservation = reservation;
+        reservationDomainService.createReservationHistory(updatedReservation, previousStatus);
+        caregiverAvailabilityService.track(updatedReservation);
+
+        log.info("예약 상태 변경 완료: reservationId={}, 최종 상태={}",
+                updatedReservation.getReservationId(), updatedReservation.getStatus());
+
+        // 상태 변경 이벤트 발행
+        reservationEventProducer.sendReservationStatusChangedEvent(updatedReservation, previousStatus);
+
+        // 보호자에게 알림
+        String guardianMsg = String.format(
+                "결제가 완료되었습니다. 예약번호: %s, 금액: %s원, 간병인의 예약 수락을 기다리고 있습니다.",
+                updatedReservation.getReservationId(),
+                updatedReservation.getTotalAmount()
+        );
+        notificationDispatcher.dispatch("PAYMENT_SUCCESS", guardianMsg, updatedReservation.getGuardianId());
+
+        // 간병인에게 알림
+        String caregiverMsg = String.format(
+                "새로운 예약이 들어왔습니다. 예약번호: %s, 환자명: %s, 시작일시: %s, 종료일시: %s. 확인 후 수락해주세요.",
+                updatedReservation.getReservationId(),
+                updatedReservation.getPatientName(),
+                updatedReservation.getStartedAt(),
+                updatedReservation.getEndedAt()
+        );
+        notificationDispatcher.dispatch("RESERVATION_CREATED", caregiverMsg, updatedReservation.getCaregiverId());
+
+        return updatedReservation;
+    }
+
+    private void applyTransition(Reservation reservation, int updatedRows) {
+        if (updatedRows == 0) {
+            // 읽은 뒤 다른 요청이 먼저 변경함: 재시도에서 최신 상태로 다시 검증한다
+            throw new ObjectOptimisticLockingFailureException(Reservation.class, reservation.getReservationId());
+        }
+        // 조건부 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 전이 결과(상태, 시각, 버전)를 다시 읽는다
+        reservationRepository.refresh(reservation);
+    }
+
+    private Reservation saveWithBookingExclusion(Reservation reservation) {
+        // 동시 요청으로 사전 검사를 통과하더라도 DB 배타 제약에서 최종적으로 걸러낸다
+        try {
+            return reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (isBookingExclusionViolation(e)) {
+                log.error("간병인 일정 중복(DB 제약): caregiverId={}, startedAt={}, endedAt={}",
+                        reservation.getCaregiverId(), reservation.getStartedAt(), reservation.getEndedAt());
+                throw new InvalidReservationTimeException();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isBookingExclusionViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException &&
+                    EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
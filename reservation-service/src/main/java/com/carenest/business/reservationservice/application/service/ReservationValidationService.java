@@ -0,0 +1,12 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.domain.model.Reservation;
+
+public interface ReservationValidationService {
+
+    /**
+     * 저장 전 예약을 검증한다. 간병인 요금 조회와 일정 중복 확인은 동시에 실행하며
+     * 설정된 기한 안에 끝나지 않으면 연동 오류로 처리한다.
+     */
+    void validateForCreate(Reservation reservation);
+}
@@ -0,0 +1,107 @@
+package com.carenest.business.reservationservice.application.service;
+
+import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.service.ReservationDomainService;
+import com.carenest.business.reservationservice.exception.IntegrationErrorException;
+import com.carenest.business.reservationservice.exception.InvalidReservationAmountException;
+import com.carenest.business.reservationservice.exception.InvalidReservationTimeException;
+import com.carenest.business.reservationservice.exception.ReservationException;
+import com.carenest.business.reservationservice.infrastructure.client.dto.response.CaregiverDetailResponseDto;
+import com.carenest.business.reservationservice.infrastructure.config.ReservationExecutorConfig;
+import com.carenest.business.reservationservice.infrastructure.service.ExternalServiceClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 예약 생성 사전 검증.
+ * 요청만으로 판단할 수 있는 시간 검증을 먼저 하고, 서로 독립적인 간병인 요금 조회(caregiver-service)와
+ * 일정 중복 확인(간병인 일정 인덱스)을 동시에 실행한 뒤 조회한 요금으로 총 금액을 검증한다.
+ * 생성 지연은 두 의존성 중 느린 쪽에 맞춰지고, 전체 검증은 validation-timeout 안에 끝나야 한다.
+ */
+@Slf4j
+@Service
+public class ReservationValidationServiceImpl implements ReservationValidationService {
+
+    private final ReservationDomainService reservationDomainService;
+    private final ExternalServiceClient externalServiceClient;
+    private final Executor validationExecutor;
+
+    @Value("${reservation.create.validation-timeout:PT3S}")
+    private Duration validationTimeout;
+
+    public ReservationValidationServiceImpl(
+            ReservationDomainService reservationDomainService,
+            ExternalServiceClient externalServiceClient,
+            @Qualifier(ReservationExecutorConfig.VALIDATION_EXECUTOR) Executor validationExecutor
+    ) {
+        this.reservationDomainService = reservationDomainService;
+        this.externalServiceClient = externalServiceClient;
+        this.validationExecutor = validationExecutor;
+    }
+
+    @Override
+    public void validateForCreate(Reservation reservation) {
+        if (!reservationDomainService.validateReservationTime(reservation)) {
+            throw new InvalidReservationTimeException();
+        }
+
+        CompletableFuture<CaregiverDetailResponseDto> caregiverDetail = CompletableFuture.supplyAsync(
+                () -> externalServiceClient.getCaregiverDetail(reservation.getCaregiverId()), validationExecutor);
+        CompletableFuture<Boolean> overlapping = CompletableFuture.supplyAsync(
+                () -> reservationDomainService.checkOverlappingReservations(reservation), validationExecutor);
+
+        await(CompletableFuture.allOf(caregiverDetail, overlapping), caregiverDetail, overlapping);
+
+        if (overlapping.join()) {
+            log.error("간병인 일정 중복: caregiverId={}, startedAt={}, endedAt={}",
+                    reservation.getCaregiverId(), reservation.getStartedAt(), reservation.getEndedAt());
+            throw new InvalidReservationTimeException();
+        }
+
+        CaregiverDetailResponseDto detail = caregiverDetail.join();
+        if (!reservationDomainService.validateTotalAmount(reservation, detail.getPricePerHour(), detail.getPricePerDay())) {
+            log.error("예약 금액 불일치: caregiverId={}, serviceType={}, totalAmount={}, 시간당가격={}, 일일가격={}",
+                    reservation.getCaregiverId(), reservation.getServiceType(), reservation.getTotalAmount(),
+                    detail.getPricePerHour(), detail.getPricePerDay());
+            throw new InvalidReservationAmountException();
+        }
+    }
+
+    private void await(CompletableFuture<Void> all, CompletableFuture<?>... tasks) {
+        try {
+            all.get(validationTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(tasks);
+            log.error("예약 사전 검증 시간 초과: timeout={}", validationTimeout);
+            throw new IntegrationErrorException();
+        } catch (InterruptedException e) {
+            cancel(tasks);
+            Thread.currentThread().interrupt();
+            throw new IntegrationErrorException();
+        } catch (ExecutionException | CompletionException e) {
+            cancel(tasks);
+            // 도메인 검증 예외는 그대로 전달하고, 그 외(간병인 서비스 장애 등)는 연동 오류로 처리
+            if (e.getCause() instanceof ReservationException reservationException) {
+                throw reservationException;
+            }
+            log.error("예약 사전 검증 중 예외 발생", e.getCause());
+            throw new IntegrationErrorException();
+        }
+    }
+
+    private void cancel(CompletableFuture<?>... tasks) {
+        for (CompletableFuture<?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+}
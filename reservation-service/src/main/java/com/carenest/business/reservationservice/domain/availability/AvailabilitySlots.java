@@ -0,0 +1,59 @@
+package com.carenest.business.reservationservice.domain.availability;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루를 30분 슬롯 48개로 나눈 비트맵 계산.
+ * bit i 는 [i*30분, (i+1)*30분) 구간이며, 예약이 조금이라도 걸친 슬롯은 사용 중으로 본다.
+ * 슬롯 단위 근사이므로 최종 중복 판단은 예약 생성 시의 일정 중복 검사와 DB 배타 제약이 담당한다.
+ */
+public final class AvailabilitySlots {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private static final long SLOT_SECONDS = SLOT_MINUTES * 60L;
+
+    private AvailabilitySlots() {
+    }
+
+    /**
+     * [startTime, endTime) 이 day 에서 차지하는 슬롯 마스크. 걸치지 않으면 0.
+     */
+    public static long mask(LocalDate day, LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        long firstSlot = Math.max(0, Math.floorDiv(secondsBetween(dayStart, startTime), SLOT_SECONDS));
+        long lastSlot = Math.min(SLOTS_PER_DAY, -Math.floorDiv(-secondsBetween(dayStart, endTime), SLOT_SECONDS));
+        if (lastSlot <= firstSlot) {
+            return 0L;
+        }
+        return ((1L << (lastSlot - firstSlot)) - 1) << firstSlot;
+    }
+
+    /**
+     * [startTime, endTime) 이 걸치는 날짜 목록 (자정에 끝나면 그 날은 포함하지 않는다).
+     */
+    public static List<LocalDate> days(LocalDateTime startTime, LocalDateTime endTime) {
+        List<LocalDate> days = new ArrayList<>();
+        if (!endTime.isAfter(startTime)) {
+            return days;
+        }
+        LocalDate lastDay = endTime.minusNanos(1).toLocalDate();
+        for (LocalDate day = startTime.toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    public static boolean overlaps(long busySlots, long requestedSlots) {
+        return (busySlots & requestedSlots) != 0;
+    }
+
+    private static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).getSeconds();
+    }
+}
@@ -0,0 +1,19 @@
+package com.carenest.business.reservationservice.domain.availability;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 간병인 일정 인덱스에 올라가는 예약 구간.
+ * 가용성 판단에는 예약 ID와 시작/종료 시각만 필요하므로 엔티티 전체 대신 이 값만 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookedInterval {
+    private UUID reservationId;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+}
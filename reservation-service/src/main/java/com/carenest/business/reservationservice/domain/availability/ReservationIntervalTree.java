@@ -0,0 +1,186 @@
+package com.carenest.business.reservationservice.domain.availability;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 한 간병인의 활성 예약 구간을 담는 interval tree.
+ * (시작 시각, 예약 ID) 순서의 AVL 트리에 서브트리별 최대 종료 시각을 덧붙여
+ * 삽입/삭제/겹침 조회를 O(log n)에 처리한다. 동기화는 호출하는 쪽에서 담당한다.
+ */
+public class ReservationIntervalTree {
+
+    private static final Comparator<BookedInterval> ORDER = Comparator
+            .comparing(BookedInterval::getStartedAt)
+            .thenComparing(BookedInterval::getReservationId);
+
+    private final Map<UUID, BookedInterval> intervalsById = new HashMap<>();
+    private Node root;
+
+    public int size() {
+        return intervalsById.size();
+    }
+
+    public boolean contains(UUID reservationId) {
+        return intervalsById.containsKey(reservationId);
+    }
+
+    /**
+     * 구간을 추가한다. 같은 예약 ID가 이미 있으면 기존 구간을 교체한다.
+     */
+    public void put(BookedInterval interval) {
+        remove(interval.getReservationId());
+        intervalsById.put(interval.getReservationId(), interval);
+        root = insert(root, interval);
+    }
+
+    public void remove(UUID reservationId) {
+        BookedInterval existing = intervalsById.remove(reservationId);
+        if (existing != null) {
+            root = delete(root, existing);
+        }
+    }
+
+    /**
+     * [startTime, endTime] 과 겹치는 구간이 있는지 확인한다.
+     * 기존 checkOverlappingReservations 와 동일하게 경계가 맞닿는 경우도 겹침으로 본다.
+     *
+     * @param excludeReservationId 수정 중인 예약처럼 비교에서 제외할 예약 ID (nullable)
+     */
+    public boolean overlaps(LocalDateTime startTime, LocalDateTime endTime, UUID excludeReservationId) {
+        return overlaps(root, startTime, endTime, excludeReservationId);
+    }
+
+    private boolean overlaps(Node node, LocalDateTime startTime, LocalDateTime endTime, UUID excludeReservationId) {
+        // 서브트리의 모든 구간이 조회 시작 전에 끝나면 더 볼 필요가 없다
+        if (node == null || node.maxEnd.isBefore(startTime)) {
+            return false;
+        }
+
+        if (overlaps(node.left, startTime, endTime, excludeReservationId)) {
+            return true;
+        }
+
+        BookedInterval interval = node.interval;
+        // 현재 노드가 조회 종료 이후에 시작하면 오른쪽 서브트리도 모두 이후에 시작한다
+        if (interval.getStartedAt().isAfter(endTime)) {
+            return false;
+        }
+
+        if (!interval.getEndedAt().isBefore(startTime)
+                && !interval.getReservationId().equals(excludeReservationId)) {
+            return true;
+        }
+
+        return overlaps(node.right, startTime, endTime, excludeReservationId);
+    }
+
+    private Node insert(Node node, BookedInterval interval) {
+        if (node == null) {
+            return new Node(interval);
+        }
+
+        if (ORDER.compare(interval, node.interval) < 0) {
+            node.left = insert(node.left, interval);
+        } else {
+            node.right = insert(node.right, interval);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, BookedInterval interval) {
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = ORDER.compare(interval, node.interval);
+        if (cmp < 0) {
+            node.left = delete(node.left, interval);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, interval);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.interval = successor.interval;
+            node.right = delete(node.right, successor.interval);
+        }
+        return rebalance(node);
+    }
+
+    private Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private BookedInterval interval;
+        private LocalDateTime maxEnd;
+        private int height;
+        private Node left;
+        private Node right;
+
+        private Node(BookedInterval interval) {
+            this.interval = interval;
+            this.maxEnd = interval.getEndedAt();
+            this.height = 1;
+        }
+
+        private void update() {
+            height = 1 + Math.max(ReservationIntervalTree.height(left), ReservationIntervalTree.height(right));
+            maxEnd = interval.getEndedAt();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.carenest.business.reservationservice.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 예약 이력(ReservationHistory)이 기록되는 상태 전이마다 발행되는 애플리케이션 내부 이벤트.
+ * 조회 캐시 무효화처럼 전이 이후에 반영해야 하는 작업이 구독한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationChangedEvent {
+
+    private final Collection<UUID> reservationIds;
+}
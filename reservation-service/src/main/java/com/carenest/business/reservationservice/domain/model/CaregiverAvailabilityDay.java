@@ -0,0 +1,38 @@
+package com.carenest.business.reservationservice.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 간병인 가용성 읽기 모델의 하루치 행.
+ * busySlots 의 bit i 가 1 이면 i 번째 30분 슬롯에 활성 예약이 있다 ({@code AvailabilitySlots} 참고).
+ * 갱신은 CaregiverCalendarService 가 네이티브 upsert 로만 하므로 엔티티는 읽기 전용이다.
+ */
+@Entity
+@Immutable
+@IdClass(CaregiverAvailabilityDayId.class)
+@Table(name = "p_caregiver_availability")
+@Getter
+@NoArgsConstructor
+public class CaregiverAvailabilityDay {
+
+    @Id
+    @Column(name = "caregiver_id", nullable = false)
+    private UUID caregiverId;
+
+    @Id
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Column(name = "busy_slots", nullable = false)
+    private long busySlots;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package com.carenest.business.reservationservice.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CaregiverAvailabilityDayId implements Serializable {
+    private UUID caregiverId;
+    private LocalDate slotDate;
+}
@@ -6,14 +6,37 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "p_reservations")
+@Table(name = "p_reservations", indexes = {
+        @Index(name = "idx_reservations_guardian_started", columnList = "guardian_id, started_at"),
+        @Index(name = "idx_reservations_caregiver_started", columnList = "caregiver_id, started_at"),
+        @Index(name = "idx_reservations_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_reservations_status_ended", columnList = "status, ended_at"),
+        @Index(name = "idx_reservations_started", columnList = "started_at"),
+        @Index(name = "idx_reservations_created_id", columnList = "created_at, reservation_id")
+})
 @Getter
 @NoArgsConstructor
 public class Reservation {
 
+    // 상태 전이별 출발 상태 집합 (조건부 UPDATE 의 WHERE status IN (...) 조건으로도 사용)
+    public static final Set<ReservationStatus> ACCEPTABLE_STATUSES = EnumSet.of(ReservationStatus.PENDING_ACCEPTANCE);
+    public static final Set<ReservationStatus> REJECTABLE_STATUSES = EnumSet.of(ReservationStatus.PENDING_ACCEPTANCE);
+    public static final Set<ReservationStatus> COMPLETABLE_STATUSES = EnumSet.of(ReservationStatus.CONFIRMED);
+    public static final Set<ReservationStatus> PAYABLE_STATUSES = EnumSet.of(
+            ReservationStatus.PENDING_PAYMENT,
+            ReservationStatus.PENDING_ACCEPTANCE
+    );
+    public static final Set<ReservationStatus> CANCELABLE_STATUSES = EnumSet.of(
+            ReservationStatus.PENDING_PAYMENT,
+            ReservationStatus.PENDING_ACCEPTANCE,
+            ReservationStatus.CONFIRMED
+    );
+
     @Id
     @Column(name = "reservation_id", nullable = false, updatable = false)
     private UUID reservationId;
@@ -100,6 +123,11 @@ public class Reservation {
     @Column(name = "payment_status", length = 20)
     private PaymentStatus paymentStatus;
 
+    // 낙관적 잠금 버전 (신규 엔티티는 null 이므로 save 시 merge 가 아닌 persist 로 처리된다)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Reservation(UUID guardianId, String guardianName, UUID caregiverId, String caregiverName,
                        String patientName, Integer patientAge, Gender patientGender,
                        String patientCondition, String careAddress, LocalDateTime startedAt,
@@ -134,7 +162,7 @@ public class Reservation {
     }
 
     public boolean isAcceptable() {
-        return this.status == ReservationStatus.PENDING_ACCEPTANCE;
+        return ACCEPTABLE_STATUSES.contains(this.status);
     }
 
     public void acceptByCaregiver(String caregiverNote) {
@@ -157,6 +185,12 @@ public class Reservation {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void expireUnpaid() {
+        this.status = ReservationStatus.CANCELLED;
+        this.cancelReason = "결제 기한 만료로 인한 자동 취소";
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void completeService() {
         this.status = ReservationStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
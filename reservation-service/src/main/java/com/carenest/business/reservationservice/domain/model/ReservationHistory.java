@@ -4,16 +4,22 @@ import com.carenest.business.common.model.UserRole;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// created_at 기준 월 단위 파티션 테이블 (V6, PK 는 DB 에서 (reservation_history_id, created_at))
 @Entity
-@Table(name = "p_reservation_history")
+@Table(name = "p_reservation_history", indexes = {
+        @Index(name = "idx_reservation_history_reservation_created", columnList = "reservation_id, created_at"),
+        @Index(name = "idx_reservation_history_guardian_created", columnList = "guardian_id, created_at"),
+        @Index(name = "idx_reservation_history_caregiver_created", columnList = "caregiver_id, created_at")
+})
 @Getter
 @NoArgsConstructor
-public class ReservationHistory {
+public class ReservationHistory implements Persistable<UUID> {
 
     @Id
     @Column(name = "reservation_history_id", nullable = false, updatable = false)
@@ -117,7 +123,7 @@ public class ReservationHistory {
     @Column(name = "payment_status", length = 20)
     private PaymentStatus paymentStatus;
 
-    public ReservationHistory(Reservation reservation) {
+    public ReservationHistory(Reservation reservation, ReservationStatus prevStatus) {
         this.reservationHistoryId = UUID.randomUUID();
         this.reservationId = reservation.getReservationId();
         this.guardianId = reservation.getGuardianId();
@@ -136,7 +142,8 @@ public class ReservationHistory {
         this.totalAmount = reservation.getTotalAmount();
         this.serviceFee = reservation.getServiceFee();
         this.status = reservation.getStatus();
-        // prevStatus는 별도 설정 필요
+        // 이전 상태는 상태 전이를 일으킨 쪽에서 전달 (이력 재조회 없음)
+        this.prevStatus = prevStatus;
         this.acceptedAt = reservation.getAcceptedAt();
         this.rejectedAt = reservation.getRejectedAt();
         this.completedAt = reservation.getCompletedAt();
@@ -152,8 +159,15 @@ public class ReservationHistory {
         setDescriptionBasedOnStatus(reservation.getStatus());
     }
 
-    public void setPrevStatus(ReservationStatus prevStatus) {
-        this.prevStatus = prevStatus;
+    @Override
+    public UUID getId() {
+        return reservationHistoryId;
+    }
+
+    // 이력은 추가만 하므로 항상 새 엔티티로 취급해 merge 전 SELECT 없이 바로 INSERT
+    @Override
+    public boolean isNew() {
+        return true;
     }
 
     public void setCreatedBy(String createdBy, UserRole role) {
@@ -0,0 +1,44 @@
+package com.carenest.business.reservationservice.domain.repository;
+
+import com.carenest.business.reservationservice.domain.model.CaregiverAvailabilityDay;
+import com.carenest.business.reservationservice.domain.model.CaregiverAvailabilityDayId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CaregiverAvailabilityDayRepository extends JpaRepository<CaregiverAvailabilityDay, CaregiverAvailabilityDayId> {
+
+    List<CaregiverAvailabilityDay> findByCaregiverIdAndSlotDateBetweenOrderBySlotDate(
+            UUID caregiverId, LocalDate from, LocalDate to);
+
+    List<CaregiverAvailabilityDay> findByCaregiverIdInAndSlotDateBetween(
+            Collection<UUID> caregiverIds, LocalDate from, LocalDate to);
+
+    // 같은 간병인의 재계산을 트랜잭션 끝까지 직렬화 (커밋/롤백 시 자동 해제)
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:lockKey, hashtext(:caregiverId))", nativeQuery = true)
+    int lockCaregiver(@Param("lockKey") int lockKey, @Param("caregiverId") String caregiverId);
+
+    @Modifying
+    @Query(value = "INSERT INTO p_caregiver_availability (caregiver_id, slot_date, busy_slots, updated_at) " +
+            "VALUES (:caregiverId, :slotDate, :busySlots, :now) " +
+            "ON CONFLICT (caregiver_id, slot_date) " +
+            "DO UPDATE SET busy_slots = EXCLUDED.busy_slots, updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int upsert(@Param("caregiverId") UUID caregiverId,
+               @Param("slotDate") LocalDate slotDate,
+               @Param("busySlots") long busySlots,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_caregiver_availability " +
+            "WHERE caregiver_id = :caregiverId AND slot_date IN (:slotDates)", nativeQuery = true)
+    int deleteDays(@Param("caregiverId") UUID caregiverId, @Param("slotDates") Collection<LocalDate> slotDates);
+}
@@ -1,9 +1,13 @@
 package com.carenest.business.reservationservice.domain.repository;
 
 import com.carenest.business.reservationservice.domain.model.ReservationHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,13 +18,22 @@ import java.util.UUID;
 public interface ReservationHistoryRepository extends JpaRepository<ReservationHistory, UUID> {
     List<ReservationHistory> findByReservationId(UUID reservationId);
 
+    // 예약 타임라인 페이지 조회 (COUNT 없이 (reservation_id, created_at) 인덱스 순서로 읽음).
+    // 이력은 예약 생성 이후에만 쌓이므로 createdAt 하한으로 이전 월 파티션을 건너뛴다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<ReservationHistory> findSliceByReservationIdAndCreatedAtGreaterThanEqual(
+            UUID reservationId, LocalDateTime createdAt, Pageable pageable);
+
     List<ReservationHistory> findByGuardianId(UUID guardianId);
 
     List<ReservationHistory> findByCaregiverId(UUID caregiverId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<ReservationHistory> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<ReservationHistory> findByGuardianIdAndCreatedAtBetween(UUID guardianId, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<ReservationHistory> findByCaregiverIdAndCreatedAtBetween(UUID caregiverId, LocalDateTime start, LocalDateTime end, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.carenest.business.reservationservice.domain.repository;
+
+/**
+ * 내부 일괄 조회 시 가져올 예약 필드 묶음.
+ * 호출하는 서비스가 화면에 쓰는 컬럼만 조회하도록 한다.
+ */
+public enum ReservationProjection {
+    // 전체 필드
+    FULL,
+    // 일정: startedAt, endedAt, status
+    SCHEDULE,
+    // 간병 상세: patientCondition, careAddress, serviceRequests, totalAmount, serviceFee
+    CARE_DETAIL
+}
@@ -1,38 +1,180 @@
 package com.carenest.business.reservationservice.domain.repository;
 
+import com.carenest.business.reservationservice.domain.availability.BookedInterval;
 import com.carenest.business.reservationservice.domain.model.Reservation;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, UUID>, ReservationRepositoryCustom {
+    // 목록 조회용 엔티티는 수정하지 않으므로 read-only 로 읽어 스냅샷 복사와 dirty checking 을 생략
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Reservation> findByGuardianId(UUID guardianId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Reservation> findByCaregiverId(UUID caregiverId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Reservation> findByStartedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Reservation> findByGuardianIdAndStartedAtBetween(UUID guardianId, LocalDateTime start, LocalDateTime end);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Reservation> findByCaregiverIdAndStartedAtBetween(UUID caregiverId, LocalDateTime start, LocalDateTime end);
 
     Optional<Reservation> findByReservationIdAndGuardianId(UUID reservationId, UUID guardianId);
 
     Optional<Reservation> findByReservationIdAndCaregiverId(UUID reservationId, UUID caregiverId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Reservation> findByStartedAtBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Reservation> findByGuardianIdAndStartedAtBetween(UUID guardianId, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Reservation> findByCaregiverIdAndStartedAtBetween(UUID caregiverId, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Reservation> findByStatus(ReservationStatus status, Pageable pageable);
-}
\ No newline at end of file
+
+    // 간병인 일정 인덱스 적재용: 아직 끝나지 않은 활성 예약의 구간만 조회
+    @Query("SELECT new com.carenest.business.reservationservice.domain.availability.BookedInterval(" +
+            "r.reservationId, r.startedAt, r.endedAt) " +
+            "FROM Reservation r " +
+            "WHERE r.caregiverId = :caregiverId AND r.status IN :statuses AND r.endedAt >= :from")
+    List<BookedInterval> findBookedIntervals(@Param("caregiverId") UUID caregiverId,
+                                             @Param("statuses") Collection<ReservationStatus> statuses,
+                                             @Param("from") LocalDateTime from);
+
+    // 가용성 읽기 모델 재계산용: [from, to) 와 겹치는 활성 예약 구간
+    @Query("SELECT new com.carenest.business.reservationservice.domain.availability.BookedInterval(" +
+            "r.reservationId, r.startedAt, r.endedAt) " +
+            "FROM Reservation r " +
+            "WHERE r.caregiverId = :caregiverId AND r.status IN :statuses " +
+            "AND r.startedAt < :to AND r.endedAt > :from")
+    List<BookedInterval> findBookedIntervalsBetween(@Param("caregiverId") UUID caregiverId,
+                                                    @Param("statuses") Collection<ReservationStatus> statuses,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    // 인덱스를 쓸 수 없을 때의 DB 조회: 범위 조건으로 겹치는 예약 존재 여부만 확인
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r " +
+            "WHERE r.caregiverId = :caregiverId AND r.status IN :statuses " +
+            "AND r.startedAt <= :endTime AND r.endedAt >= :startTime")
+    boolean existsOverlapping(@Param("caregiverId") UUID caregiverId,
+                              @Param("statuses") Collection<ReservationStatus> statuses,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("endTime") LocalDateTime endTime);
+
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r " +
+            "WHERE r.caregiverId = :caregiverId AND r.status IN :statuses " +
+            "AND r.startedAt <= :endTime AND r.endedAt >= :startTime " +
+            "AND r.reservationId <> :excludeReservationId")
+    boolean existsOverlappingExcluding(@Param("caregiverId") UUID caregiverId,
+                                       @Param("statuses") Collection<ReservationStatus> statuses,
+                                       @Param("startTime") LocalDateTime startTime,
+                                       @Param("endTime") LocalDateTime endTime,
+                                       @Param("excludeReservationId") UUID excludeReservationId);
+
+    // 자동 완료 스윕 대상: 파티션(예약 ID 해시) 단위로 종료 시각이 지난 예약을 잠그고 조회.
+    // 사용자 요청 트랜잭션이 잡고 있는 행은 건너뛰고 다음 주기에 다시 처리한다
+    @Query(value = "SELECT * FROM p_reservations " +
+            "WHERE status = :status AND ended_at < :before " +
+            "AND (hashtext(reservation_id::text) & 2147483647) % :partitions = :partition " +
+            "ORDER BY ended_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Reservation> findEndedForUpdate(@Param("status") String status,
+                                         @Param("before") LocalDateTime before,
+                                         @Param("partition") int partition,
+                                         @Param("partitions") int partitions,
+                                         @Param("limit") int limit);
+
+    // 만료 스윕 대상: 생성 시각이 기한을 넘긴 예약
+    @Query(value = "SELECT * FROM p_reservations " +
+            "WHERE status = :status AND created_at < :before " +
+            "AND (hashtext(reservation_id::text) & 2147483647) % :partitions = :partition " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Reservation> findCreatedBeforeForUpdate(@Param("status") String status,
+                                                 @Param("before") LocalDateTime before,
+                                                 @Param("partition") int partition,
+                                                 @Param("partitions") int partitions,
+                                                 @Param("limit") int limit);
+
+    // 트랜잭션 범위 advisory lock: 여러 인스턴스 중 한 곳만 같은 스윕 파티션을 처리 (커밋/롤백 시 자동 해제)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey, :partition)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("lockKey") int lockKey, @Param("partition") int partition);
+
+    long countByStatusAndEndedAtBefore(ReservationStatus status, LocalDateTime before);
+
+    long countByStatusAndCreatedAtBefore(ReservationStatus status, LocalDateTime before);
+
+    // 상태 전이 조건부 UPDATE: 읽어 온 버전과 출발 상태가 그대로일 때만 한 문장으로 전이하고 버전을 올린다.
+    // 0건이면 다른 요청이 먼저 바꾼 것이므로 호출 측에서 다시 읽어 재시도한다 (행 잠금을 잡고 기다리지 않음)
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = com.carenest.business.reservationservice.domain.model.ReservationStatus.CONFIRMED, " +
+            "r.caregiverNote = :caregiverNote, r.acceptedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.reservationId = :reservationId AND r.version = :version AND r.status IN :fromStatuses")
+    int acceptIfUnchanged(@Param("reservationId") UUID reservationId,
+                          @Param("version") long version,
+                          @Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+                          @Param("caregiverNote") String caregiverNote,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = com.carenest.business.reservationservice.domain.model.ReservationStatus.REJECTED, " +
+            "r.rejectionReason = :rejectionReason, r.rejectedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.reservationId = :reservationId AND r.version = :version AND r.status IN :fromStatuses")
+    int rejectIfUnchanged(@Param("reservationId") UUID reservationId,
+                          @Param("version") long version,
+                          @Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+                          @Param("rejectionReason") String rejectionReason,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = com.carenest.business.reservationservice.domain.model.ReservationStatus.CANCELLED, " +
+            "r.cancelReason = :cancelReason, r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.reservationId = :reservationId AND r.version = :version AND r.status IN :fromStatuses")
+    int cancelIfUnchanged(@Param("reservationId") UUID reservationId,
+                          @Param("version") long version,
+                          @Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+                          @Param("cancelReason") String cancelReason,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = com.carenest.business.reservationservice.domain.model.ReservationStatus.COMPLETED, " +
+            "r.completedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.reservationId = :reservationId AND r.version = :version AND r.status IN :fromStatuses")
+    int completeIfUnchanged(@Param("reservationId") UUID reservationId,
+                            @Param("version") long version,
+                            @Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+                            @Param("now") LocalDateTime now);
+
+    // 결제 연결은 아직 결제가 연결되지 않은 예약에만 적용되고 수락 대기 상태로 전이한다
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = com.carenest.business.reservationservice.domain.model.ReservationStatus.PENDING_ACCEPTANCE, " +
+            "r.paymentId = :paymentId, r.paymentStatus = com.carenest.business.reservationservice.domain.model.PaymentStatus.PAID, " +
+            "r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.reservationId = :reservationId AND r.version = :version AND r.status IN :fromStatuses " +
+            "AND r.paymentId IS NULL")
+    int linkPaymentIfUnchanged(@Param("reservationId") UUID reservationId,
+                               @Param("version") long version,
+                               @Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+                               @Param("paymentId") UUID paymentId,
+                               @Param("now") LocalDateTime now);
+}
@@ -1,16 +1,21 @@
 package com.carenest.business.reservationservice.domain.repository;
 
+import com.carenest.business.common.model.UserRole;
 import com.carenest.business.reservationservice.domain.model.Reservation;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+// 목록/검색 조회는 엔티티 대신 목록용 DTO(ReservationSummaryResponse)로 바로 조회한다
 public interface ReservationRepositoryCustom {
 
-    Page<Reservation> findBySearchCriteria(
+    Page<ReservationSummaryResponse> findBySearchCriteria(
             UUID guardianId,
             UUID caregiverId,
             String patientName,
@@ -19,4 +24,51 @@ public interface ReservationRepositoryCustom {
             ReservationStatus status,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    // keyset 페이지네이션: (createdAt, reservationId) 내림차순으로 커서 이후 limit 건 조회
+    List<ReservationSummaryResponse> findBySearchCriteriaAfter(
+            UUID guardianId,
+            UUID caregiverId,
+            String patientName,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ReservationStatus status,
+            LocalDateTime cursorCreatedAt,
+            UUID cursorReservationId,
+            int limit
+    );
+
+    // 최대 limit 건까지만 세는 근사 건수 (limit 을 넘으면 limit 반환)
+    long countBySearchCriteriaUpTo(
+            UUID guardianId,
+            UUID caregiverId,
+            String patientName,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ReservationStatus status,
+            long limit
+    );
+
+    // 사용자 역할에 따라 보호자/간병인 예약을 한 번의 페이지 쿼리로 조회 (역할을 모르면 두 조건을 OR 로 결합)
+    Page<ReservationSummaryResponse> findByParticipant(
+            UUID userId,
+            UserRole role,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    Page<ReservationSummaryResponse> findSummariesByStartedAtBetween(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    Page<ReservationSummaryResponse> findSummariesByStatus(ReservationStatus status, Pageable pageable);
+
+    // 예약 ID 목록을 한 번의 쿼리로 조회하되, projection 에 해당하는 컬럼만 type 의 같은 이름 필드에 채운다
+    <T> List<T> findProjectedByIdIn(Collection<UUID> reservationIds, ReservationProjection projection, Class<T> type);
+
+    // 조건부 UPDATE 로 전이한 예약을 영속성 컨텍스트에 다시 읽어 들인다 (상태/버전 동기화)
+    void refresh(Reservation reservation);
+}
@@ -1,13 +1,18 @@
 package com.carenest.business.reservationservice.domain.repository;
 
+import com.carenest.business.common.model.UserRole;
 import com.carenest.business.reservationservice.domain.model.QReservation;
 import com.carenest.business.reservationservice.domain.model.Reservation;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationSummaryResponse;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.PathBuilder;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -21,12 +26,15 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 public class ReservationRepositoryCustomImpl extends QuerydslRepositorySupport implements ReservationRepositoryCustom {
 
+    private static final char LIKE_ESCAPE = '!';
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -35,18 +43,209 @@ public class ReservationRepositoryCustomImpl extends QuerydslRepositorySupport i
     }
 
     @Override
-    public Page<Reservation> findBySearchCriteria(
+    public Page<ReservationSummaryResponse> findBySearchCriteria(
+            UUID guardianId,
+            UUID caregiverId,
+            String patientName,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ReservationStatus status,
+            Pageable pageable
+    ) {
+        return fetchSummaryPage(searchCondition(guardianId, caregiverId, patientName, startDate, endDate, status), pageable);
+    }
+
+    @Override
+    public List<ReservationSummaryResponse> findBySearchCriteriaAfter(
+            UUID guardianId,
+            UUID caregiverId,
+            String patientName,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ReservationStatus status,
+            LocalDateTime cursorCreatedAt,
+            UUID cursorReservationId,
+            int limit
+    ) {
+        QReservation reservation = QReservation.reservation;
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+
+        BooleanBuilder builder = searchCondition(guardianId, caregiverId, patientName, startDate, endDate, status);
+
+        // 커서 이후 구간만 조회 (OFFSET 없이 인덱스 탐색 위치에서 바로 시작)
+        if (cursorCreatedAt != null && cursorReservationId != null) {
+            builder.and(reservation.createdAt.lt(cursorCreatedAt)
+                    .or(reservation.createdAt.eq(cursorCreatedAt)
+                            .and(reservation.reservationId.lt(cursorReservationId))));
+        }
+
+        return queryFactory
+                .select(summary())
+                .from(reservation)
+                .where(builder)
+                .orderBy(reservation.createdAt.desc(), reservation.reservationId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countBySearchCriteriaUpTo(
             UUID guardianId,
             UUID caregiverId,
             String patientName,
             LocalDateTime startDate,
             LocalDateTime endDate,
             ReservationStatus status,
+            long limit
+    ) {
+        QReservation reservation = QReservation.reservation;
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+
+        // 전체를 세지 않고 limit 건의 ID 만 읽어 상한이 있는 건수를 구한다
+        return queryFactory
+                .select(reservation.reservationId)
+                .from(reservation)
+                .where(searchCondition(guardianId, caregiverId, patientName, startDate, endDate, status))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    @Override
+    public Page<ReservationSummaryResponse> findByParticipant(
+            UUID userId,
+            UserRole role,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    ) {
+        QReservation reservation = QReservation.reservation;
+        BooleanBuilder builder = new BooleanBuilder();
+
+        // 역할이 확정되면 해당 컬럼 인덱스 하나만 사용하고,
+        // 관리자 조회처럼 역할을 모르면 guardian_id/caregiver_id 인덱스를 OR(BitmapOr)로 함께 탐색
+        if (role == UserRole.GUARDIAN) {
+            builder.and(reservation.guardianId.eq(userId));
+        } else if (role == UserRole.CAREGIVER) {
+            builder.and(reservation.caregiverId.eq(userId));
+        } else {
+            builder.and(reservation.guardianId.eq(userId).or(reservation.caregiverId.eq(userId)));
+        }
+
+        builder.and(reservation.startedAt.between(startDate, endDate));
+
+        return fetchSummaryPage(builder, pageable);
+    }
+
+    @Override
+    public Page<ReservationSummaryResponse> findSummariesByStartedAtBetween(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
             Pageable pageable
+    ) {
+        return fetchSummaryPage(QReservation.reservation.startedAt.between(startDate, endDate), pageable);
+    }
+
+    @Override
+    public Page<ReservationSummaryResponse> findSummariesByStatus(ReservationStatus status, Pageable pageable) {
+        return fetchSummaryPage(QReservation.reservation.status.eq(status), pageable);
+    }
+
+    @Override
+    public <T> List<T> findProjectedByIdIn(
+            Collection<UUID> reservationIds,
+            ReservationProjection projection,
+            Class<T> type
     ) {
         QReservation reservation = QReservation.reservation;
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
 
+        return queryFactory
+                .select(Projections.fields(type, projectionColumns(projection)))
+                .from(reservation)
+                .where(reservation.reservationId.in(reservationIds))
+                .fetch();
+    }
+
+    private Expression<?>[] projectionColumns(ReservationProjection projection) {
+        QReservation reservation = QReservation.reservation;
+
+        return switch (projection) {
+            case SCHEDULE -> new Expression<?>[] {
+                    reservation.reservationId,
+                    reservation.startedAt,
+                    reservation.endedAt,
+                    reservation.status
+            };
+            case CARE_DETAIL -> new Expression<?>[] {
+                    reservation.reservationId,
+                    reservation.patientCondition,
+                    reservation.careAddress,
+                    reservation.serviceRequests,
+                    reservation.totalAmount,
+                    reservation.serviceFee
+            };
+            case FULL -> throw new IllegalArgumentException("FULL 은 엔티티 조회로 처리합니다");
+        };
+    }
+
+    /**
+     * 목록 화면에 쓰는 컬럼만 SELECT 해서 생성자로 바로 DTO 를 만든다.
+     * 엔티티를 영속성 컨텍스트에 올리지 않으므로 스냅샷 복사, dirty checking, 매핑 단계가 없다.
+     */
+    private ConstructorExpression<ReservationSummaryResponse> summary() {
+        QReservation reservation = QReservation.reservation;
+
+        return Projections.constructor(ReservationSummaryResponse.class,
+                reservation.reservationId,
+                reservation.guardianId,
+                reservation.guardianName,
+                reservation.caregiverId,
+                reservation.caregiverName,
+                reservation.patientName,
+                reservation.startedAt,
+                reservation.endedAt,
+                reservation.serviceType,
+                reservation.totalAmount,
+                reservation.status,
+                reservation.paymentStatus,
+                reservation.createdAt
+        );
+    }
+
+    private Page<ReservationSummaryResponse> fetchSummaryPage(Predicate condition, Pageable pageable) {
+        QReservation reservation = QReservation.reservation;
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+
+        // 총 개수 조회 (결과를 메모리에 올리지 않고 COUNT 쿼리로 계산)
+        Long total = queryFactory
+                .select(reservation.count())
+                .from(reservation)
+                .where(condition)
+                .fetchOne();
+
+        // 정렬 및 페이징 적용
+        List<ReservationSummaryResponse> results = queryFactory
+                .select(summary())
+                .from(reservation)
+                .where(condition)
+                .orderBy(getOrderSpecifier(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(results, pageable, total != null ? total : 0L);
+    }
+
+    private BooleanBuilder searchCondition(
+            UUID guardianId,
+            UUID caregiverId,
+            String patientName,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ReservationStatus status
+    ) {
+        QReservation reservation = QReservation.reservation;
         BooleanBuilder builder = new BooleanBuilder();
 
         // 검색 조건 적용
@@ -59,7 +258,9 @@ public class ReservationRepositoryCustomImpl extends QuerydslRepositorySupport i
         }
 
         if (StringUtils.hasText(patientName)) {
-            builder.and(reservation.patientName.containsIgnoreCase(patientName));
+            // idx_reservations_patient_name_trgm (lower(patient_name) gin_trgm_ops) 와 같은 식으로 비교해야 인덱스를 탄다
+            builder.and(reservation.patientName.lower()
+                    .like("%" + escapeLike(patientName.trim().toLowerCase()) + "%", LIKE_ESCAPE));
         }
 
         if (startDate != null) {
@@ -74,24 +275,7 @@ public class ReservationRepositoryCustomImpl extends QuerydslRepositorySupport i
             builder.and(reservation.status.eq(status));
         }
 
-        // 쿼리 생성
-        JPAQuery<Reservation> query = queryFactory
-                .selectFrom(reservation)
-                .where(builder);
-
-        // 총 개수 조회
-        long total = query.fetch().size();
-
-        // 정렬 적용
-        query.orderBy(getOrderSpecifier(pageable.getSort()));
-
-        // 페이징 적용
-        List<Reservation> results = query
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        return new PageImpl<>(results, pageable, total);
+        return builder;
     }
 
     private OrderSpecifier<?>[] getOrderSpecifier(Sort sort) {
@@ -113,4 +297,17 @@ public class ReservationRepositoryCustomImpl extends QuerydslRepositorySupport i
 
         return orders.toArray(new OrderSpecifier[0]);
     }
-}
\ No newline at end of file
+
+    // 검색어에 포함된 LIKE 와일드카드를 문자 그대로 비교
+    private static String escapeLike(String value) {
+        return value
+                .replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+
+    @Override
+    public void refresh(Reservation reservation) {
+        entityManager.refresh(reservation);
+    }
+}
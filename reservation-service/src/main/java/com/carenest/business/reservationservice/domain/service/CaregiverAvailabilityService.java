@@ -0,0 +1,15 @@
+package com.carenest.business.reservationservice.domain.service;
+
+import com.carenest.business.reservationservice.domain.model.Reservation;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface CaregiverAvailabilityService {
+
+    boolean hasOverlap(UUID caregiverId, LocalDateTime startTime, LocalDateTime endTime, UUID excludeReservationId);
+
+    void track(Reservation reservation);
+
+    void evict(UUID caregiverId);
+}
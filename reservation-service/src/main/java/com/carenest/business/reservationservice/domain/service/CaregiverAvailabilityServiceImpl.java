@@ -0,0 +1,191 @@
+package com.carenest.business.reservationservice.domain.service;
+
+import com.carenest.business.reservationservice.domain.availability.BookedInterval;
+import com.carenest.business.reservationservice.domain.availability.ReservationIntervalTree;
+import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.domain.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 간병인별 활성 예약 구간을 interval tree 로 메모리에 유지하는 가용성 엔진.
+ * 간병인의 일정은 처음 조회될 때 적재하고, 이후에는 예약 상태 전이가 커밋될 때마다 갱신한다.
+ * 다른 인스턴스에서 발생한 변경은 TTL 이 지나 다시 적재될 때 반영되며,
+ * 인덱스를 쓸 수 없는 경우에는 범위 조건 쿼리로 DB 에서 직접 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CaregiverAvailabilityServiceImpl implements CaregiverAvailabilityService {
+
+    // 일정이 겹치면 안 되는 활성화된 예약 상태 집합
+    public static final Set<ReservationStatus> ACTIVE_STATUSES = EnumSet.of(
+            ReservationStatus.PENDING_PAYMENT,
+            ReservationStatus.PENDING_ACCEPTANCE,
+            ReservationStatus.CONFIRMED
+    );
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<UUID, CaregiverSchedule> schedules = new ConcurrentHashMap<>();
+
+    @Value("${reservation.availability.max-cached-caregivers:10000}")
+    private int maxCachedCaregivers;
+
+    @Value("${reservation.availability.max-intervals-per-caregiver:5000}")
+    private int maxIntervalsPerCaregiver;
+
+    @Value("${reservation.availability.index-ttl:PT5M}")
+    private Duration indexTtl;
+
+    @Override
+    public boolean hasOverlap(UUID caregiverId, LocalDateTime startTime, LocalDateTime endTime, UUID excludeReservationId) {
+        CaregiverSchedule schedule = getOrLoad(caregiverId);
+
+        // 인덱스는 적재 시점 이후에 끝나는 예약만 담고 있으므로 그 이전 구간은 DB 로 확인
+        if (schedule == null || startTime.isBefore(schedule.loadedFrom)) {
+            return existsOverlappingInDatabase(caregiverId, startTime, endTime, excludeReservationId);
+        }
+
+        return schedule.overlaps(startTime, endTime, excludeReservationId);
+    }
+
+    @Override
+    public void track(Reservation reservation) {
+        // 롤백된 상태 전이가 인덱스에 남지 않도록 커밋 이후에 반영
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(reservation);
+                }
+            });
+            return;
+        }
+        apply(reservation);
+    }
+
+    @Override
+    public void evict(UUID caregiverId) {
+        schedules.remove(caregiverId);
+    }
+
+    private void apply(Reservation reservation) {
+        CaregiverSchedule schedule = schedules.get(reservation.getCaregiverId());
+        if (schedule == null) {
+            // 아직 적재되지 않은 간병인은 다음 조회 시 DB 에서 읽어온다
+            return;
+        }
+
+        if (ACTIVE_STATUSES.contains(reservation.getStatus())) {
+            BookedInterval interval = new BookedInterval(
+                    reservation.getReservationId(), reservation.getStartedAt(), reservation.getEndedAt());
+            if (!schedule.put(interval, maxIntervalsPerCaregiver)) {
+                log.info("간병인 일정 인덱스 한도 초과로 DB 조회로 전환: caregiverId={}", reservation.getCaregiverId());
+                schedules.remove(reservation.getCaregiverId());
+            }
+        } else {
+            schedule.remove(reservation.getReservationId());
+        }
+    }
+
+    private CaregiverSchedule getOrLoad(UUID caregiverId) {
+        CaregiverSchedule schedule = schedules.get(caregiverId);
+        if (schedule != null && !schedule.isExpired(indexTtl)) {
+            schedule.touch();
+            return schedule;
+        }
+
+        LocalDateTime loadedFrom = LocalDateTime.now();
+        List<BookedInterval> intervals;
+        try {
+            intervals = reservationRepository.findBookedIntervals(caregiverId, ACTIVE_STATUSES, loadedFrom);
+        } catch (Exception e) {
+            log.warn("간병인 일정 인덱스 적재 실패, DB 조회로 대체합니다: caregiverId={}", caregiverId, e);
+            return null;
+        }
+
+        if (intervals.size() > maxIntervalsPerCaregiver) {
+            log.info("간병인 일정 인덱스 한도 초과로 DB 조회 사용: caregiverId={}, count={}", caregiverId, intervals.size());
+            schedules.remove(caregiverId);
+            return null;
+        }
+
+        CaregiverSchedule loaded = new CaregiverSchedule(loadedFrom);
+        intervals.forEach(interval -> loaded.put(interval, maxIntervalsPerCaregiver));
+
+        if (schedules.size() >= maxCachedCaregivers) {
+            evictLeastRecentlyUsed();
+        }
+        schedules.put(caregiverId, loaded);
+        log.debug("간병인 일정 인덱스 적재: caregiverId={}, count={}", caregiverId, intervals.size());
+        return loaded;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        schedules.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastAccessedAt))
+                .ifPresent(entry -> schedules.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private boolean existsOverlappingInDatabase(UUID caregiverId, LocalDateTime startTime, LocalDateTime endTime,
+                                                UUID excludeReservationId) {
+        if (excludeReservationId == null) {
+            return reservationRepository.existsOverlapping(caregiverId, ACTIVE_STATUSES, startTime, endTime);
+        }
+        return reservationRepository.existsOverlappingExcluding(
+                caregiverId, ACTIVE_STATUSES, startTime, endTime, excludeReservationId);
+    }
+
+    private static final class CaregiverSchedule {
+        private final ReservationIntervalTree tree = new ReservationIntervalTree();
+        private final LocalDateTime loadedFrom;
+        private final long loadedAt;
+        private volatile long lastAccessedAt;
+
+        private CaregiverSchedule(LocalDateTime loadedFrom) {
+            this.loadedFrom = loadedFrom;
+            this.loadedAt = System.nanoTime();
+            this.lastAccessedAt = loadedAt;
+        }
+
+        private boolean isExpired(Duration ttl) {
+            return System.nanoTime() - loadedAt > ttl.toNanos();
+        }
+
+        private void touch() {
+            lastAccessedAt = System.nanoTime();
+        }
+
+        private synchronized boolean overlaps(LocalDateTime startTime, LocalDateTime endTime, UUID excludeReservationId) {
+            return tree.overlaps(startTime, endTime, excludeReservationId);
+        }
+
+        private synchronized boolean put(BookedInterval interval, int maxIntervals) {
+            if (!tree.contains(interval.getReservationId()) && tree.size() >= maxIntervals) {
+                return false;
+            }
+            tree.put(interval);
+            return true;
+        }
+
+        private synchronized void remove(UUID reservationId) {
+            tree.remove(reservationId);
+        }
+    }
+}
@@ -1,21 +1,35 @@
 package com.carenest.business.reservationservice.domain.service;
 
 import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.model.ReservationStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 public interface ReservationDomainService {
 
-    void createReservationHistory(Reservation reservation);
+    void createReservationHistory(Reservation reservation, ReservationStatus prevStatus);
+
+    void createReservationHistories(Collection<Reservation> reservations, ReservationStatus prevStatus);
 
     boolean validateReservationTime(Reservation reservation);
 
+    boolean validateTotalAmount(Reservation reservation, Integer pricePerHour, Integer pricePerDay);
+
     boolean canCancelReservation(UUID reservationId);
 
+    boolean canCancelReservation(Reservation reservation);
+
     boolean canRejectReservation(UUID reservationId);
 
     boolean canCompleteReservation(UUID reservationId);
 
+    boolean canCompleteReservation(Reservation reservation, LocalDateTime now);
+
+    boolean isPaymentExpired(Reservation reservation, LocalDateTime deadline);
+
     boolean checkOverlappingReservations(UUID caregiverId, LocalDateTime startTime, LocalDateTime endTime);
+
+    boolean checkOverlappingReservations(Reservation reservation);
 }
\ No newline at end of file
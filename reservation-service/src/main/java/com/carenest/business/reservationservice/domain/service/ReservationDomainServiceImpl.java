@@ -1,19 +1,23 @@
 package com.carenest.business.reservationservice.domain.service;
 
 import com.carenest.business.common.model.UserRole;
+import com.carenest.business.reservationservice.domain.event.ReservationChangedEvent;
 import com.carenest.business.reservationservice.domain.model.Reservation;
 import com.carenest.business.reservationservice.domain.model.ReservationHistory;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.domain.model.ServiceType;
 import com.carenest.business.reservationservice.domain.repository.ReservationHistoryRepository;
 import com.carenest.business.reservationservice.domain.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.EnumSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -22,34 +26,28 @@ public class ReservationDomainServiceImpl implements ReservationDomainService {
 
     private final ReservationRepository reservationRepository;
     private final ReservationHistoryRepository reservationHistoryRepository;
-
-    // 취소 가능한 예약 상태 집합
-    private static final Set<ReservationStatus> CANCELABLE_STATUSES = EnumSet.of(
-            ReservationStatus.PENDING_PAYMENT,
-            ReservationStatus.PENDING_ACCEPTANCE,
-            ReservationStatus.CONFIRMED
-    );
-
-    // 활성화된 예약 상태 집합
-    private static final Set<ReservationStatus> ACTIVE_STATUSES = EnumSet.of(
-            ReservationStatus.PENDING_PAYMENT,
-            ReservationStatus.PENDING_ACCEPTANCE,
-            ReservationStatus.CONFIRMED
-    );
+    private final CaregiverAvailabilityService caregiverAvailabilityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public void createReservationHistory(Reservation reservation) {
-        // 이전 이력 가져오기
-        Optional<ReservationHistory> lastHistoryOpt = reservationHistoryRepository.findByReservationId(reservation.getReservationId())
-                .stream()
-                .max((h1, h2) -> h1.getCreatedAt().compareTo(h2.getCreatedAt()));
+    public void createReservationHistory(Reservation reservation, ReservationStatus prevStatus) {
+        reservationHistoryRepository.save(toHistory(reservation, prevStatus));
+        eventPublisher.publishEvent(new ReservationChangedEvent(List.of(reservation.getReservationId())));
+    }
 
-        ReservationHistory history = new ReservationHistory(reservation);
+    @Override
+    public void createReservationHistories(Collection<Reservation> reservations, ReservationStatus prevStatus) {
+        // hibernate.jdbc.batch_size 설정에 따라 JDBC 배치 INSERT 로 묶여 실행
+        List<ReservationHistory> histories = reservations.stream()
+                .map(reservation -> toHistory(reservation, prevStatus))
+                .toList();
+        reservationHistoryRepository.saveAll(histories);
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+                reservations.stream().map(Reservation::getReservationId).toList()));
+    }
 
-        // 이전 상태 설정
-        if (lastHistoryOpt.isPresent()) {
-            history.setPrevStatus(lastHistoryOpt.get().getStatus());
-        }
+    private ReservationHistory toHistory(Reservation reservation, ReservationStatus prevStatus) {
+        ReservationHistory history = new ReservationHistory(reservation, prevStatus);
 
         // TODO: 실제 사용자 정보를 가져오는 로직 필요
         String createdBy = "system";
@@ -73,7 +71,7 @@ public class ReservationDomainServiceImpl implements ReservationDomainService {
         }
 
         history.setCreatedBy(createdBy, role);
-        reservationHistoryRepository.save(history);
+        return history;
     }
 
     @Override
@@ -95,7 +93,7 @@ public class ReservationDomainServiceImpl implements ReservationDomainService {
         }
 
         // 서비스 타입에 따른 검증
-        if (reservation.getServiceType() == com.carenest.business.reservationservice.domain.model.ServiceType.DAY) {
+        if (reservation.getServiceType() == ServiceType.DAY) {
             // 일 단위 서비스인 경우 최소 24시간 확인
             if (hours < 24) {
                 return false;
@@ -106,18 +104,47 @@ public class ReservationDomainServiceImpl implements ReservationDomainService {
     }
 
     @Override
-    public boolean canCancelReservation(UUID reservationId) {
-        Optional<Reservation> reservationOpt = reservationRepository.findById(reservationId);
+    public boolean validateTotalAmount(Reservation reservation, Integer pricePerHour, Integer pricePerDay) {
+        // 서비스 단위(시간/일) 수는 시작~종료 구간을 올림해서 계산
+        long minutes = ChronoUnit.MINUTES.between(reservation.getStartedAt(), reservation.getEndedAt());
+        long hours = (minutes + 59) / 60;
+
+        Integer unitPrice;
+        long units;
+        if (reservation.getServiceType() == ServiceType.DAY) {
+            unitPrice = pricePerDay;
+            units = (hours + 23) / 24;
+        } else {
+            unitPrice = pricePerHour;
+            units = hours;
+        }
 
-        if (reservationOpt.isEmpty()) {
-            return false;
+        // 간병인이 해당 단위 요금을 설정하지 않았으면 검증할 기준이 없다
+        if (unitPrice == null) {
+            return true;
         }
 
-        Reservation reservation = reservationOpt.get();
+        // 총 금액 = 단위 요금 × 단위 수 + 서비스 수수료
+        BigDecimal expected = BigDecimal.valueOf(unitPrice).multiply(BigDecimal.valueOf(units));
+        if (reservation.getServiceFee() != null) {
+            expected = expected.add(reservation.getServiceFee());
+        }
+        return reservation.getTotalAmount() != null && reservation.getTotalAmount().compareTo(expected) == 0;
+    }
+
+    @Override
+    public boolean canCancelReservation(UUID reservationId) {
+        return reservationRepository.findById(reservationId)
+                .map(this::canCancelReservation)
+                .orElse(false);
+    }
+
+    @Override
+    public boolean canCancelReservation(Reservation reservation) {
         ReservationStatus status = reservation.getStatus();
 
         // 취소 가능한 상태인지 확인
-        if (!CANCELABLE_STATUSES.contains(status)) {
+        if (!Reservation.CANCELABLE_STATUSES.contains(status)) {
             return false;
         }
 
@@ -141,7 +168,7 @@ public class ReservationDomainServiceImpl implements ReservationDomainService {
         Reservation reservation = reservationOpt.get();
 
         // 수락 대기 상태일 때만 거절 가능
-        return reservation.getStatus() == ReservationStatus.PENDING_ACCEPTANCE;
+        return Reservation.REJECTABLE_STATUSES.contains(reservation.getStatus());
     }
 
     @Override
@@ -152,27 +179,38 @@ public class ReservationDomainServiceImpl implements ReservationDomainService {
             return false;
         }
 
-        Reservation reservation = reservationOpt.get();
+        return canCompleteReservation(reservationOpt.get(), LocalDateTime.now());
+    }
 
+    @Override
+    public boolean canCompleteReservation(Reservation reservation, LocalDateTime now) {
         // 확정 상태이고 종료 시간이 현재 시간 이전인 경우에만 완료 가능
         return reservation.getStatus() == ReservationStatus.CONFIRMED &&
-                reservation.getEndedAt().isBefore(LocalDateTime.now());
+                reservation.getEndedAt().isBefore(now);
+    }
+
+    @Override
+    public boolean isPaymentExpired(Reservation reservation, LocalDateTime deadline) {
+        // 결제 대기 상태로 결제 기한(deadline) 이전에 생성된 예약은 만료
+        return reservation.getStatus() == ReservationStatus.PENDING_PAYMENT &&
+                reservation.getPaymentId() == null &&
+                reservation.getCreatedAt().isBefore(deadline);
     }
 
     @Override
     public boolean checkOverlappingReservations(UUID caregiverId, LocalDateTime startTime, LocalDateTime endTime) {
         // 해당 간병인의 같은 시간대 예약이 있는지 확인
-        return reservationRepository.findByCaregiverId(caregiverId)
-                .stream()
-                .anyMatch(reservation -> {
-                    // 활성화된 예약 상태인 경우에 겹치는지 확인
-                    if (!ACTIVE_STATUSES.contains(reservation.getStatus())) {
-                        return false;
-                    }
-
-                    // 새 예약이 기존 예약과 겹치는지 확인
-                    return !(endTime.isBefore(reservation.getStartedAt()) ||
-                            startTime.isAfter(reservation.getEndedAt()));
-                });
+        return caregiverAvailabilityService.hasOverlap(caregiverId, startTime, endTime, null);
+    }
+
+    @Override
+    public boolean checkOverlappingReservations(Reservation reservation) {
+        // 수정 중인 예약 자신은 비교 대상에서 제외
+        return caregiverAvailabilityService.hasOverlap(
+                reservation.getCaregiverId(),
+                reservation.getStartedAt(),
+                reservation.getEndedAt(),
+                reservation.getReservationId()
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.carenest.business.reservationservice.exception;
+
+public class InvalidAvailabilityRangeException extends ReservationException {
+
+    public InvalidAvailabilityRangeException() {
+        super(ReservationErrorCode.INVALID_AVAILABILITY_RANGE);
+    }
+}
@@ -0,0 +1,8 @@
+package com.carenest.business.reservationservice.exception;
+
+public class InvalidReservationAmountException extends ReservationException {
+
+    public InvalidReservationAmountException() {
+        super(ReservationErrorCode.INVALID_RESERVATION_AMOUNT);
+    }
+}
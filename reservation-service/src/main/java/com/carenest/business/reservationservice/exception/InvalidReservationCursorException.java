@@ -0,0 +1,8 @@
+package com.carenest.business.reservationservice.exception;
+
+public class InvalidReservationCursorException extends ReservationException {
+
+    public InvalidReservationCursorException() {
+        super(ReservationErrorCode.INVALID_RESERVATION_CURSOR);
+    }
+}
@@ -0,0 +1,8 @@
+package com.carenest.business.reservationservice.exception;
+
+public class ReservationConflictException extends ReservationException {
+
+    public ReservationConflictException() {
+        super(ReservationErrorCode.RESERVATION_CONFLICT);
+    }
+}
@@ -15,6 +15,10 @@ public enum ReservationErrorCode implements BaseErrorCode {
     INVALID_RESERVATION_TIME("R-003", "유효하지 않은 예약 시간입니다.", HttpStatus.BAD_REQUEST),
     DUPLICATE_RESERVATION("R-004", "해당 시간에 이미 예약이 존재합니다.", HttpStatus.CONFLICT),
     RESERVATION_TIME_PAST("R-005", "과거 시간으로 예약할 수 없습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_RESERVATION_CURSOR("R-006", "유효하지 않은 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_RESERVATION_AMOUNT("R-007", "예약 금액이 간병인 요금과 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    RESERVATION_CONFLICT("R-008", "다른 요청에 의해 예약이 변경되었습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
+    INVALID_AVAILABILITY_RANGE("R-009", "유효하지 않은 가용성 조회 기간입니다.", HttpStatus.BAD_REQUEST),
 
     // 취소/거절
     CANNOT_CANCEL_RESERVATION("R-101", "예약을 취소할 수 없는 상태입니다.", HttpStatus.BAD_REQUEST),
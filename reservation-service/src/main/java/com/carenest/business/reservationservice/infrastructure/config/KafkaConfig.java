@@ -63,6 +63,22 @@ public class KafkaConfig {
                 .build();
     }
 
+    @Bean
+    public NewTopic paymentCompletedDeadLetterTopic() {
+        return TopicBuilder.name(KafkaTopic.PAYMENT_COMPLETED.getTopicName() + KafkaConsumerConfig.DEAD_LETTER_TOPIC_SUFFIX)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic paymentCancelledDeadLetterTopic() {
+        return TopicBuilder.name(KafkaTopic.PAYMENT_CANCELLED.getTopicName() + KafkaConsumerConfig.DEAD_LETTER_TOPIC_SUFFIX)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -70,6 +86,12 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        // outbox 재전송 시 브로커 단 중복/순서 역전을 막기 위한 멱등 프로듀서 설정
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120000);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
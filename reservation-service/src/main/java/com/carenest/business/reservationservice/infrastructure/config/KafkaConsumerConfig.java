@@ -2,8 +2,14 @@ package com.carenest.business.reservationservice.infrastructure.config;
 
 import com.carenest.business.common.event.payment.PaymentCancelledEvent;
 import com.carenest.business.common.event.payment.PaymentCompletedEvent;
+import com.carenest.business.reservationservice.infrastructure.kafka.EventJsonDeserializer;
+import com.carenest.business.reservationservice.infrastructure.kafka.InvalidPaymentEventException;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,98 +17,118 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @EnableKafka
 @Configuration
 public class KafkaConsumerConfig {
 
+    // 처리할 수 없는 결제 이벤트를 보관하는 토픽 접미사 (예: payment-completed.DLT)
+    public static final String DEAD_LETTER_TOPIC_SUFFIX = ".DLT";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
-    @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    @Value("${reservation.kafka.payment-batch.max-poll-records:200}")
+    private int paymentBatchMaxPollRecords;
+
+    @Value("${reservation.kafka.payment-batch.retry-initial-interval-ms:1000}")
+    private long paymentBatchRetryInitialIntervalMs;
+
+    @Value("${reservation.kafka.payment-batch.retry-max-interval-ms:60000}")
+    private long paymentBatchRetryMaxIntervalMs;
+
+    @Value("${reservation.kafka.payment-batch.max-retries:15}")
+    private int paymentBatchMaxRetries;
+
+    private Map<String, Object> baseConsumerConfigs() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.carenest.business.*");
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, Object.class.getName());
-        props.put(JsonDeserializer.TYPE_MAPPINGS,
-                "payment_completed:com.carenest.business.common.event.payment.PaymentCompletedEvent," +
-                        "payment_cancelled:com.carenest.business.common.event.payment.PaymentCancelledEvent");
-
-        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
-                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(Object.class, false)));
-    }
-
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
-        factory.setConcurrency(3);
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
-        return factory;
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, paymentBatchMaxPollRecords);
+        return props;
     }
 
     @Bean
     public ConsumerFactory<String, PaymentCompletedEvent> paymentCompletedConsumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.carenest.business.*");
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PaymentCompletedEvent.class.getName());
-
-        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
-                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(PaymentCompletedEvent.class, false)));
+        return new DefaultKafkaConsumerFactory<>(baseConsumerConfigs(), new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new EventJsonDeserializer<>(PaymentCompletedEvent.class)));
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, PaymentCompletedEvent> paymentCompletedKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentCompletedEvent> paymentCompletedKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
         ConcurrentKafkaListenerContainerFactory<String, PaymentCompletedEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(paymentCompletedConsumerFactory());
-        factory.setConcurrency(3);
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        configurePaymentBatch(factory, kafkaTemplate);
         return factory;
     }
 
     @Bean
     public ConsumerFactory<String, PaymentCancelledEvent> paymentCancelledConsumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.carenest.business.*");
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PaymentCancelledEvent.class.getName());
-
-        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
-                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(PaymentCancelledEvent.class, false)));
+        return new DefaultKafkaConsumerFactory<>(baseConsumerConfigs(), new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new EventJsonDeserializer<>(PaymentCancelledEvent.class)));
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, PaymentCancelledEvent> paymentCancelledKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentCancelledEvent> paymentCancelledKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
         ConcurrentKafkaListenerContainerFactory<String, PaymentCancelledEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(paymentCancelledConsumerFactory());
-        factory.setConcurrency(3);
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        configurePaymentBatch(factory, kafkaTemplate);
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 결제 이벤트 묶음 소비 설정. 리스너가 정상 반환하면 묶음 단위로 오프셋을 한 번 커밋하고,
+     * 읽을 수 없는 레코드는 바로, 그 밖의 실패는 재시도 후 원본 토픽명 + ".DLT" 토픽으로 보낸다.
+     */
+    private void configurePaymentBatch(ConcurrentKafkaListenerContainerFactory<String, ?> factory,
+                                       KafkaTemplate<String, Object> kafkaTemplate) {
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(paymentDeadLetterErrorHandler(kafkaTemplate));
+    }
+
+    private DefaultErrorHandler paymentDeadLetterErrorHandler(KafkaTemplate<String, Object> kafkaTemplate) {
+        // 역직렬화에 실패한 레코드는 원본 byte[] 그대로, 나머지는 JSON 으로 DLT 에 기록
+        Map<String, Object> producerProps = new HashMap<>();
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        KafkaTemplate<String, byte[]> bytesTemplate = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new ByteArraySerializer()));
+
+        Map<Class<?>, KafkaOperations<? extends Object, ? extends Object>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, bytesTemplate);
+        templates.put(Object.class, kafkaTemplate);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, ex) -> new TopicPartition(record.topic() + DEAD_LETTER_TOPIC_SUFFIX, -1));
+
+        // DB 장애, 충돌 등 일시적인 실패는 정상 이벤트가 DLT 로 빠지지 않도록 수 분에 걸쳐 재시도한다
+        // (1초부터 2배씩, 최대 60초 간격으로 15회 ≈ 10분)
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(paymentBatchMaxRetries);
+        backOff.setInitialInterval(paymentBatchRetryInitialIntervalMs);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(paymentBatchRetryMaxIntervalMs);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        // 역직렬화 실패(DeserializationException)는 기본으로 재시도 제외, 검증 실패도 바로 DLT 로
+        errorHandler.addNotRetryableExceptions(InvalidPaymentEventException.class);
+        return errorHandler;
+    }
+}
@@ -0,0 +1,38 @@
+package com.carenest.business.reservationservice.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ReservationExecutorConfig {
+
+    public static final String VALIDATION_EXECUTOR = "reservationValidationExecutor";
+
+    @Value("${reservation.create.validation-pool-size:16}")
+    private int validationPoolSize;
+
+    @Value("${reservation.create.validation-queue-capacity:200}")
+    private int validationQueueCapacity;
+
+    /**
+     * 예약 생성 사전 검증(간병인 조회, 일정 중복 확인)을 동시에 실행하는 풀.
+     * 대부분 I/O 대기이므로 CPU 수보다 넉넉히 두고, 가득 차면 요청 스레드에서 직접 실행해 순차 처리로 물러난다.
+     */
+    @Bean(name = VALIDATION_EXECUTOR)
+    public ThreadPoolTaskExecutor reservationValidationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(validationPoolSize);
+        executor.setMaxPoolSize(validationPoolSize);
+        executor.setQueueCapacity(validationQueueCapacity);
+        executor.setThreadNamePrefix("reservation-validate-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+}
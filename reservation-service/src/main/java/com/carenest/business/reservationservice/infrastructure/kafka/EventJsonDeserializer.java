@@ -0,0 +1,57 @@
+package com.carenest.business.reservationservice.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 타입별로 미리 만들어 둔 ObjectReader 로 레코드 값을 바로 해당 이벤트 클래스로 읽는다.
+ * 타입 헤더나 Map 변환을 거치지 않고, Blackbird 모듈로 리플렉션 대신 생성된 접근자를 사용한다.
+ */
+public class EventJsonDeserializer<T> implements Deserializer<T> {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private final Class<T> type;
+    private final ObjectReader reader;
+
+    public EventJsonDeserializer(Class<T> type) {
+        this.type = type;
+        this.reader = readerFor(type);
+    }
+
+    /**
+     * 이벤트 타입별 공유 ObjectReader. ObjectReader 는 불변이라 여러 컨슈머 스레드에서 함께 쓴다.
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return READERS.computeIfAbsent(type, OBJECT_MAPPER::readerFor);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException(
+                    String.format("이벤트 역직렬화 실패: topic=%s, type=%s", topic, type.getSimpleName()), e);
+        }
+    }
+}
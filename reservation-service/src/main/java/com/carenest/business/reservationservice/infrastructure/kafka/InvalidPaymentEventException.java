@@ -0,0 +1,12 @@
+package com.carenest.business.reservationservice.infrastructure.kafka;
+
+/**
+ * 다시 읽어도 처리할 수 없는 결제 이벤트 (역직렬화 실패, 필수 값 누락).
+ * 에러 핸들러가 재시도하지 않고 바로 DLT 로 보낸다.
+ */
+public class InvalidPaymentEventException extends RuntimeException {
+
+    public InvalidPaymentEventException(String message) {
+        super(message);
+    }
+}
@@ -1,227 +1,94 @@
 package com.carenest.business.reservationservice.infrastructure.kafka;
 
+import com.carenest.business.common.event.payment.PaymentCancelledEvent;
+import com.carenest.business.common.event.payment.PaymentCompletedEvent;
+import com.carenest.business.reservationservice.application.dto.request.PaymentCancellation;
+import com.carenest.business.reservationservice.application.dto.request.PaymentCompletion;
 import com.carenest.business.reservationservice.application.service.ReservationService;
-import com.carenest.business.reservationservice.domain.model.Reservation;
-import com.carenest.business.reservationservice.domain.repository.ReservationRepository;
-import com.carenest.business.reservationservice.infrastructure.service.ExternalServiceClient;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * 결제 이벤트를 poll 단위 묶음으로 받아 한 트랜잭션에서 예약에 반영한다.
+ * 오프셋은 리스너가 정상 반환한 뒤 묶음 단위로 한 번 커밋되고 (AckMode.BATCH),
+ * 처리할 수 없는 레코드는 앞선 레코드까지 반영한 뒤 BatchListenerFailedException 으로 알려
+ * 에러 핸들러가 재시도 없이 DLT 로 보내도록 한다. 반영 중 DB 오류 등은 에러 핸들러가 묶음을 재시도한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentEventConsumer {
 
     private final ReservationService reservationService;
-    private final ReservationRepository reservationRepository;
-    private final ExternalServiceClient externalServiceClient;
-    private final ObjectMapper objectMapper;
 
-    @Transactional
     @KafkaListener(
             topics = "payment-completed",
             groupId = "reservation-service-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "paymentCompletedKafkaListenerContainerFactory"
     )
-    public void consumePaymentCompletedEvent(ConsumerRecord<String, Map<String, Object>> record, Acknowledgment acknowledgment) {
-        log.info("결제 완료 이벤트 수신: {}", record);
+    public void consumePaymentCompletedEvents(List<ConsumerRecord<String, PaymentCompletedEvent>> records) {
+        log.info("결제 완료 이벤트 묶음 수신: size={}", records.size());
 
-        try {
-            Map<String, Object> payload = record.value();
+        List<PaymentCompletion> completions = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            // 역직렬화 실패 레코드는 ErrorHandlingDeserializer 가 null 값으로 넘긴다
+            PaymentCompletedEvent event = records.get(i).value();
 
-            // 로그에 전체 페이로드 출력
-            log.info("결제 완료 이벤트 페이로드: {}", payload);
-
-            // Map에서 직접 값 추출
-            Object reservationIdObj = payload.get("reservationId");
-            Object paymentIdObj = payload.get("paymentId");
-
-            log.info("추출된 값 - reservationId: {}, paymentId: {}", reservationIdObj, paymentIdObj);
-
-            // UUID로 변환
-            UUID reservationId = null;
-            UUID paymentId = null;
-
-            if (reservationIdObj != null) {
-                reservationId = UUID.fromString(reservationIdObj.toString());
-            }
-
-            if (paymentIdObj != null) {
-                paymentId = UUID.fromString(paymentIdObj.toString());
-            }
-
-            if (reservationId == null) {
-                log.error("결제 완료 이벤트에 예약 ID가 없음");
-                acknowledgment.acknowledge();
-                return;
-            }
-
-            log.info("변환된 UUID - reservationId: {}, paymentId: {}", reservationId, paymentId);
-
-            // 예약 정보 조회
-            Optional<Reservation> reservationOpt = reservationRepository.findById(reservationId);
-
-            if (reservationOpt.isEmpty()) {
-                log.error("예약 정보를 찾을 수 없음: reservationId={}", reservationId);
-                acknowledgment.acknowledge();
-                return;
-            }
-
-            Reservation reservation = reservationOpt.get();
-            log.info("예약 정보 조회 성공: reservationId={}, 현재 상태={}",
-                    reservation.getReservationId(), reservation.getStatus());
-
-            // 이미 결제 정보가 연결된 경우 체크
-            if (reservation.getPaymentId() != null &&
-                    reservation.getPaymentId().equals(paymentId)) {
-                log.info("이미 결제 정보가 연결되어 있음: reservationId={}, paymentId={}",
-                        reservation.getReservationId(), reservation.getPaymentId());
-                acknowledgment.acknowledge();
-                return;
+            if (event == null || event.getReservationId() == null) {
+                applyCompletions(completions);
+                throw invalidRecord("결제 완료 이벤트를 읽을 수 없거나 예약 ID가 없음", i);
             }
 
-            // 결제 완료 시 예약 상태 업데이트 및 결제 정보 연결
-            reservationService.linkPayment(reservationId, paymentId);
-            log.info("결제 정보 연결 완료: reservationId={}, paymentId={}",
-                    reservationId, paymentId);
-
-            // 결제 완료 후 간병인에게 새 예약 알림 전송
-            reservation = reservationRepository.findById(reservationId).get(); // 최신 상태로 다시 조회
-
-            String notificationMsg = String.format(
-                    "새로운 예약이 들어왔습니다. 예약번호: %s, 환자명: %s, 시작일시: %s, 종료일시: %s. 확인 후 수락해주세요.",
-                    reservation.getReservationId(),
-                    reservation.getPatientName(),
-                    reservation.getStartedAt(),
-                    reservation.getEndedAt()
-            );
-
-            externalServiceClient.sendReservationCreatedNotification(
-                    reservation.getCaregiverId(), notificationMsg);
-
-            log.info("간병인에게 새 예약 알림 전송 완료: caregiverId={}", reservation.getCaregiverId());
-
-            // 보호자에게도 결제 완료 알림 발송
-            String guardianMsg = String.format(
-                    "결제가 완료되었습니다. 예약번호: %s, 금액: %s원, 간병인의 예약 수락을 기다리고 있습니다.",
-                    reservation.getReservationId(),
-                    reservation.getTotalAmount()
-            );
-
-            externalServiceClient.sendPaymentCompletedNotification(
-                    reservation.getGuardianId(), guardianMsg);
-
-            log.info("보호자에게 결제 완료 알림 전송 완료: guardianId={}", reservation.getGuardianId());
-
-            acknowledgment.acknowledge();
-        } catch (Exception e) {
-            log.error("결제 완료 이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
-            // 스택 트레이스 출력
-            log.error("스택 트레이스:", e);
-            acknowledgment.acknowledge();
+            completions.add(new PaymentCompletion(event.getReservationId(), event.getPaymentId()));
         }
+
+        applyCompletions(completions);
     }
 
-    @Transactional
     @KafkaListener(
             topics = "payment-cancelled",
             groupId = "reservation-service-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "paymentCancelledKafkaListenerContainerFactory"
     )
-    public void consumePaymentCancelledEvent(ConsumerRecord<String, Map<String, Object>> record, Acknowledgment acknowledgment) {
-        log.info("결제 취소 이벤트 수신: {}", record);
-
-        try {
-            Map<String, Object> payload = record.value();
-
-            // Map에서 직접 값 추출
-            Object reservationIdObj = payload.get("reservationId");
-            Object paymentIdObj = payload.get("paymentId");
-            Object cancelReasonObj = payload.get("cancelReason");
-
-            // UUID로 변환
-            UUID reservationId = null;
-            UUID paymentId = null;
-            String cancelReason = null;
+    public void consumePaymentCancelledEvents(List<ConsumerRecord<String, PaymentCancelledEvent>> records) {
+        log.info("결제 취소 이벤트 묶음 수신: size={}", records.size());
 
-            if (reservationIdObj != null) {
-                reservationId = UUID.fromString(reservationIdObj.toString());
-            }
-
-            if (paymentIdObj != null) {
-                paymentId = UUID.fromString(paymentIdObj.toString());
-            }
-
-            if (cancelReasonObj != null) {
-                cancelReason = cancelReasonObj.toString();
-            }
+        List<PaymentCancellation> cancellations = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            PaymentCancelledEvent event = records.get(i).value();
 
-            if (reservationId == null) {
-                log.error("결제 취소 이벤트에 예약 ID가 없음");
-                acknowledgment.acknowledge();
-                return;
+            if (event == null || event.getReservationId() == null) {
+                applyCancellations(cancellations);
+                throw invalidRecord("결제 취소 이벤트를 읽을 수 없거나 예약 ID가 없음", i);
             }
 
-            // 예약 정보 조회
-            Optional<Reservation> optionalReservation = reservationRepository.findById(reservationId);
-
-            if (optionalReservation.isEmpty()) {
-                log.error("예약 정보를 찾을 수 없음: reservationId={}", reservationId);
-                acknowledgment.acknowledge();
-                return;
-            }
-
-            Reservation reservation = optionalReservation.get();
-
-            // 예약이 이미 취소 상태가 아닌 경우에만 처리
-            if (reservation.getStatus() != com.carenest.business.reservationservice.domain.model.ReservationStatus.CANCELLED) {
-                // 결제 취소로 인한 예약 취소 처리
-                reservationService.cancelReservation(
-                        reservationId,
-                        "결제 취소로 인한 자동 예약 취소",
-                        cancelReason != null ?
-                                "결제 취소 이유: " + cancelReason : "결제 취소"
-                );
-
-                log.info("결제 취소로 인한 예약 취소 완료: reservationId={}", reservationId);
-
-                // 상태 변경 알림 발송
-                String cancelMsg = String.format(
-                        "결제 취소로 인해 예약이 자동으로 취소되었습니다. 예약번호: %s, 취소 사유: %s",
-                        reservationId,
-                        cancelReason != null ? cancelReason : "결제 취소"
-                );
-
-                // 보호자에게 알림
-                externalServiceClient.sendReservationCreatedNotification(
-                        reservation.getGuardianId(), cancelMsg);
+            cancellations.add(new PaymentCancellation(
+                    event.getReservationId(), event.getPaymentId(), event.getCancelReason()));
+        }
 
-                log.info("보호자에게 예약 취소 알림 전송 완료: guardianId={}", reservation.getGuardianId());
+        applyCancellations(cancellations);
+    }
 
-                // 간병인에게 알림
-                externalServiceClient.sendReservationCreatedNotification(
-                        reservation.getCaregiverId(), cancelMsg);
+    private BatchListenerFailedException invalidRecord(String message, int index) {
+        return new BatchListenerFailedException(message, new InvalidPaymentEventException(message), index);
+    }
 
-                log.info("간병인에게 예약 취소 알림 전송 완료: caregiverId={}", reservation.getCaregiverId());
-            } else {
-                log.info("이미 취소된 예약입니다: reservationId={}", reservationId);
-            }
+    private void applyCompletions(List<PaymentCompletion> completions) {
+        if (!completions.isEmpty()) {
+            reservationService.linkPayments(completions);
+        }
+    }
 
-            acknowledgment.acknowledge();
-        } catch (Exception e) {
-            log.error("결제 취소 이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
-            acknowledgment.acknowledge();
+    private void applyCancellations(List<PaymentCancellation> cancellations) {
+        if (!cancellations.isEmpty()) {
+            reservationService.cancelReservationsForPayments(cancellations);
         }
     }
-}
\ No newline at end of file
+}
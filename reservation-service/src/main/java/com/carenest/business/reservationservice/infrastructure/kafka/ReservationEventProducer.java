@@ -5,22 +5,22 @@ import com.carenest.business.common.event.reservation.ReservationCreatedEvent;
 import com.carenest.business.common.event.reservation.ReservationStatusChangedEvent;
 import com.carenest.business.reservationservice.domain.model.Reservation;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.infrastructure.outbox.OutboxEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReservationEventProducer {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     public void sendReservationCreatedEvent(Reservation reservation) {
         if (reservation == null) {
@@ -94,6 +94,31 @@ public class ReservationEventProducer {
         );
     }
 
+    /**
+     * 예약에 반영할 수 없는 결제(만료·취소된 예약이나 이미 다른 결제가 연결된 예약)를 환불하도록
+     * 결제 취소 이벤트를 기록한다. 예약에 연결된 결제가 아니므로 도착한 결제의 ID 를 담는다.
+     */
+    public void sendPaymentRefundEvent(Reservation reservation, UUID paymentId, String refundReason) {
+        Assert.notNull(reservation, "예약은 null일 수 없습니다");
+        Assert.notNull(paymentId, "결제 ID는 null일 수 없습니다");
+
+        ReservationCancelledEvent event = ReservationCancelledEvent.builder()
+                .reservationId(reservation.getReservationId())
+                .guardianId(reservation.getGuardianId())
+                .caregiverId(reservation.getCaregiverId())
+                .paymentId(paymentId)
+                .amount(reservation.getTotalAmount())
+                .cancelReason(refundReason)
+                .build();
+
+        sendKafkaMessage(
+                KafkaTopic.RESERVATION_CANCELLED.getTopicName(),
+                reservation.getReservationId(),
+                event,
+                "결제 환불 요청 이벤트"
+        );
+    }
+
     public void sendReservationStatusChangedEvent(Reservation reservation, ReservationStatus previousStatus) {
         if (reservation == null) {
             log.error("예약 상태 변경 이벤트 발행 실패: reservation 객체가 null입니다");
@@ -120,7 +145,37 @@ public class ReservationEventProducer {
         log.info("예약 상태 변경 이벤트 발행 시작: reservationId={}, 상태 변경={}→{}",
                 reservation.getReservationId(), previousStatus, reservation.getStatus());
 
-        ReservationStatusChangedEvent event = ReservationStatusChangedEvent.builder()
+        sendKafkaMessage(
+                KafkaTopic.RESERVATION_STATUS_CHANGED.getTopicName(),
+                reservation.getReservationId(),
+                toStatusChangedEvent(reservation, previousStatus),
+                String.format("예약 상태 변경 이벤트 (%s→%s)", previousStatus, reservation.getStatus())
+        );
+    }
+
+    /**
+     * 같은 이전 상태에서 전이된 예약들의 상태 변경 이벤트를 한 번에 outbox 에 기록한다.
+     */
+    public void sendReservationStatusChangedEvents(Collection<Reservation> reservations, ReservationStatus previousStatus) {
+        Assert.notNull(previousStatus, "이전 상태는 null일 수 없습니다");
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        List<ReservationStatusChangedEvent> events = reservations.stream()
+                .map(reservation -> toStatusChangedEvent(reservation, previousStatus))
+                .toList();
+
+        outboxEventPublisher.appendAll(
+                KafkaTopic.RESERVATION_STATUS_CHANGED.getTopicName(),
+                events,
+                event -> event.getReservationId().toString()
+        );
+        log.info("예약 상태 변경 이벤트 일괄 outbox 기록: count={}, 이전 상태={}", events.size(), previousStatus);
+    }
+
+    private ReservationStatusChangedEvent toStatusChangedEvent(Reservation reservation, ReservationStatus previousStatus) {
+        return ReservationStatusChangedEvent.builder()
                 .reservationId(reservation.getReservationId())
                 .guardianId(reservation.getGuardianId())
                 .caregiverId(reservation.getCaregiverId())
@@ -128,13 +183,6 @@ public class ReservationEventProducer {
                 .newStatus(reservation.getStatus().name())
                 .reason(getStatusChangeReason(reservation, previousStatus))
                 .build();
-
-        sendKafkaMessage(
-                KafkaTopic.RESERVATION_STATUS_CHANGED.getTopicName(),
-                reservation.getReservationId(),
-                event,
-                String.format("예약 상태 변경 이벤트 (%s→%s)", previousStatus, reservation.getStatus())
-        );
     }
 
     private <T> void sendKafkaMessage(String topic, UUID id, T payload, String eventType) {
@@ -142,22 +190,9 @@ public class ReservationEventProducer {
         Assert.notNull(id, "ID는 null일 수 없습니다");
         Assert.notNull(payload, "Payload는 null일 수 없습니다");
 
-        String key = id.toString();
-
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, key, payload);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("{} 발행 성공: id={}", eventType, id);
-                log.debug("메시지 발행 완료: topic={}, partition={}, offset={}",
-                        result.getRecordMetadata().topic(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("{} 발행 실패: id={}, 오류={}", eventType, id, ex.getMessage());
-                log.debug("Stack trace:", ex);
-            }
-        });
+        // 트랜잭션 커밋과 함께 outbox 에 기록되고, 실제 발행은 OutboxRelay 가 담당
+        outboxEventPublisher.append(topic, id.toString(), payload);
+        log.info("{} outbox 기록: id={}", eventType, id);
     }
 
     private String getStatusChangeReason(Reservation reservation, ReservationStatus previousStatus) {
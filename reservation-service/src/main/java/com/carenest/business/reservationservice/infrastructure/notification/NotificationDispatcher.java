@@ -0,0 +1,102 @@
+package com.carenest.business.reservationservice.infrastructure.notification;
+
+import com.carenest.business.common.event.notification.NotificationEvent;
+import com.carenest.business.reservationservice.infrastructure.kafka.KafkaTopic;
+import com.carenest.business.reservationservice.infrastructure.outbox.OutboxEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 예약 상태 전이에서 발생하는 알림을 outbox 로 발행한다.
+ * 트랜잭션 안에서 요청된 알림은 커밋 직전까지 모아 두었다가, 같은 타입/내용의 알림은 수신자를 합쳐
+ * notification-event 메시지 하나로 만들어 같은 트랜잭션에서 outbox 에 기록한다.
+ * 따라서 커밋된 전이의 알림은 유실되지 않고, 롤백된 전이의 알림은 나가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    /**
+     * 알림을 발행한다. 진행 중인 트랜잭션이 있으면 그 트랜잭션과 함께 커밋된다.
+     */
+    public void dispatch(String notificationType, String content, UUID... receiverIds) {
+        List<UUID> receivers = Arrays.stream(receiverIds)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (receivers.isEmpty()) {
+            log.warn("알림 수신자가 없어 발행 생략: type={}", notificationType);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            publish(Map.of(List.of(notificationType, content), new LinkedHashSet<>(receivers)));
+            return;
+        }
+        pendingNotifications().computeIfAbsent(List.of(notificationType, content), key -> new LinkedHashSet<>())
+                .addAll(receivers);
+    }
+
+    // 트랜잭션마다 하나의 버퍼를 두고 커밋 직전에 한 번에 기록한다
+    @SuppressWarnings("unchecked")
+    private Map<List<String>, Set<UUID>> pendingNotifications() {
+        Map<List<String>, Set<UUID>> pending =
+                (Map<List<String>, Set<UUID>>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<List<String>, Set<UUID>> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                publish(created);
+                created.clear();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NotificationDispatcher.this);
+            }
+        });
+        return created;
+    }
+
+    private void publish(Map<List<String>, Set<UUID>> coalesced) {
+        if (coalesced.isEmpty()) {
+            return;
+        }
+
+        List<NotificationEvent> events = coalesced.entrySet().stream()
+                .map(entry -> NotificationEvent.builder()
+                        .receiverIds(new ArrayList<>(entry.getValue()))
+                        .notificationType(entry.getKey().get(0))
+                        .content(entry.getKey().get(1))
+                        .build())
+                .toList();
+
+        outboxEventPublisher.appendAll(
+                KafkaTopic.NOTIFICATION_EVENT.getTopicName(),
+                events,
+                event -> event.getReceiverIds().get(0).toString()
+        );
+        log.debug("알림 outbox 기록: 메시지={}", events.size());
+    }
+}
@@ -0,0 +1,89 @@
+package com.carenest.business.reservationservice.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "p_reservation_outbox")
+@Getter
+@NoArgsConstructor
+public class OutboxEvent implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "outbox_event_id", nullable = false, updatable = false)
+    private UUID outboxEventId;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", nullable = false, length = 100)
+    private String messageKey;
+
+    // 발행 시 같은 타입으로 복원해 기존 JsonSerializer 형식(__TypeId__ 헤더 포함)을 그대로 유지
+    @Column(name = "payload_type", nullable = false, length = 255)
+    private String payloadType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 더 이상 자동으로 재시도하지 않는 이벤트
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @Transient
+    private boolean isNew;
+
+    public OutboxEvent(UUID outboxEventId, String topic, String messageKey, String payloadType, String payload) {
+        this.outboxEventId = outboxEventId;
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.attempts = 0;
+        this.isNew = true;
+    }
+
+    public void markPublished() {
+        this.publishedAt = LocalDateTime.now();
+        this.attempts++;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    public void park(String error) {
+        markFailed(error);
+        this.parkedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public UUID getId() {
+        return outboxEventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+}
@@ -0,0 +1,70 @@
+package com.carenest.business.reservationservice.infrastructure.outbox;
+
+import com.carenest.business.common.event.BaseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Kafka 로 보낼 이벤트를 현재 트랜잭션 안에서 outbox 테이블에 기록한다.
+ * 실제 발행은 {@link OutboxRelay} 가 커밋된 이벤트만 모아서 처리하므로
+ * 롤백된 상태 전이의 이벤트가 나가거나, 커밋된 전이의 이벤트가 유실되지 않는다.
+ * 호출 쪽 트랜잭션이 없으면 기록만 단독 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void append(String topic, String key, Object payload) {
+        outboxEventRepository.save(toOutboxEvent(topic, key, payload));
+        log.debug("outbox 이벤트 기록: topic={}, key={}", topic, key);
+    }
+
+    /**
+     * 같은 토픽의 이벤트 여러 건을 한 번에 기록한다 (JDBC 배치 INSERT).
+     */
+    @Transactional
+    public <T> void appendAll(String topic, Collection<T> payloads, Function<T, String> keyExtractor) {
+        List<OutboxEvent> outboxEvents = payloads.stream()
+                .map(payload -> toOutboxEvent(topic, keyExtractor.apply(payload), payload))
+                .toList();
+        outboxEventRepository.saveAll(outboxEvents);
+        log.debug("outbox 이벤트 일괄 기록: topic={}, count={}", topic, outboxEvents.size());
+    }
+
+    private OutboxEvent toOutboxEvent(String topic, String key, Object payload) {
+        Assert.notNull(topic, "토픽은 null일 수 없습니다");
+        Assert.notNull(key, "Key는 null일 수 없습니다");
+        Assert.notNull(payload, "Payload는 null일 수 없습니다");
+
+        // 이벤트 ID 를 outbox ID 로 사용해 소비자가 재전송을 중복 제거할 수 있게 한다
+        UUID outboxEventId = payload instanceof BaseEvent event && event.getEventId() != null ?
+                event.getEventId() : UUID.randomUUID();
+
+        try {
+            return new OutboxEvent(
+                    outboxEventId,
+                    topic,
+                    key,
+                    payload.getClass().getName(),
+                    objectMapper.writeValueAsString(payload)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패: topic=" + topic, e);
+        }
+    }
+}
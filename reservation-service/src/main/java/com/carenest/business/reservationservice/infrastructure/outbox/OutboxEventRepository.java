@@ -0,0 +1,35 @@
+package com.carenest.business.reservationservice.infrastructure.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    // 메시지 키 해시로 나눈 파티션 단위 조회. 파티션은 advisory lock 으로 한 인스턴스만 처리하므로
+    // 같은 키의 이벤트를 여러 인스턴스가 나눠 가져가 순서가 뒤바뀌지 않는다
+    @Query(value = "SELECT * FROM p_reservation_outbox " +
+            "WHERE published_at IS NULL AND parked_at IS NULL " +
+            "AND (hashtext(message_key) & 2147483647) % :partitions = :partition " +
+            "ORDER BY created_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE", nativeQuery = true)
+    List<OutboxEvent> findPendingForUpdate(@Param("partition") int partition,
+                                           @Param("partitions") int partitions,
+                                           @Param("limit") int limit);
+
+    // 트랜잭션 범위 advisory lock: 여러 인스턴스 중 한 곳만 같은 릴레이 파티션을 처리 (커밋/롤백 시 자동 해제)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey, :partition)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("lockKey") int lockKey, @Param("partition") int partition);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,176 @@
+package com.carenest.business.reservationservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋된 outbox 이벤트를 모아 Kafka 로 발행한다.
+ * 키 단위 순서를 지키기 위해 한 차례에 키마다 가장 앞선 이벤트 하나씩만 보내고, flush 후 결과를 확인한 뒤
+ * 다음 차례로 넘어간다. 실패한 키의 이후 이벤트는 이번 주기에 보내지 않고 다음 주기에 함께 재시도한다.
+ * 복원할 수 없는 이벤트나 최대 시도 횟수를 넘긴 이벤트는 parked 로 빼 두어 같은 키를 계속 막지 않게 한다.
+ * 메시지 키 해시로 나눈 파티션마다 advisory lock 을 잡고 처리하므로, 여러 인스턴스가 돌아도 한 키의 이벤트는
+ * 항상 한 인스턴스가 생성 순서대로 보낸다. 실패한 이벤트도 다음 주기에 같은 파티션에서 같은 키의 가장 앞에 다시 선다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    public static final String EVENT_ID_HEADER = "eventId";
+
+    private static final int LOCK_KEY = 0x524f5231; // "ROR1"
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 모든 인스턴스가 같은 값을 써야 같은 키가 같은 파티션에 모인다
+    @Value("${reservation.outbox.partitions:4}")
+    private int partitions;
+
+    @Value("${reservation.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${reservation.outbox.send-timeout:PT10S}")
+    private Duration sendTimeout;
+
+    @Value("${reservation.outbox.retention:P3D}")
+    private Duration retention;
+
+    @Value("${reservation.outbox.max-attempts:100}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-interval-ms:500}")
+    public void relay() {
+        for (int partition = 0; partition < partitions; partition++) {
+            int current = partition;
+            try {
+                transactionTemplate.executeWithoutResult(status -> relayPartition(current));
+            } catch (Exception e) {
+                // 한 파티션 실패가 나머지 파티션 발행을 막지 않도록 하고 다음 주기에 재시도
+                log.error("outbox 파티션 발행 실패: partition={}, error={}", current, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void relayPartition(int partition) {
+        if (!outboxEventRepository.tryAdvisoryXactLock(LOCK_KEY, partition)) {
+            log.debug("outbox 파티션을 처리 중인 인스턴스 있음: partition={}", partition);
+            return;
+        }
+
+        List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(partition, partitions, batchSize);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // 조회 결과가 생성 순서이므로 키별 대기열도 생성 순서를 유지한다
+        Map<String, Deque<OutboxEvent>> pendingByKey = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            pendingByKey.computeIfAbsent(event.getMessageKey(), key -> new ArrayDeque<>()).add(event);
+        }
+
+        int published = 0;
+        while (!pendingByKey.isEmpty()) {
+            List<OutboxEvent> sent = new ArrayList<>(pendingByKey.size());
+            List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(pendingByKey.size());
+            Set<String> failedKeys = new HashSet<>();
+
+            for (Deque<OutboxEvent> queue : pendingByKey.values()) {
+                OutboxEvent event = queue.peek();
+                ProducerRecord<String, Object> record;
+                try {
+                    record = toRecord(event);
+                } catch (Exception e) {
+                    // 다시 시도해도 복원할 수 없으므로 바로 빼 둔다
+                    event.park(e.getMessage());
+                    failedKeys.add(event.getMessageKey());
+                    log.error("outbox 이벤트 복원 실패로 발행 보류: id={}, topic={}",
+                            event.getOutboxEventId(), event.getTopic(), e);
+                    continue;
+                }
+                sent.add(event);
+                futures.add(send(record));
+            }
+            kafkaTemplate.flush();
+
+            for (int i = 0; i < sent.size(); i++) {
+                OutboxEvent event = sent.get(i);
+                try {
+                    futures.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                    event.markPublished();
+                    published++;
+                } catch (Exception e) {
+                    failedKeys.add(event.getMessageKey());
+                    handleSendFailure(event, e);
+                }
+            }
+
+            // 실패한 키는 남은 이벤트를 보내지 않고, 성공한 키는 다음 이벤트로 넘어간다
+            pendingByKey.keySet().removeAll(failedKeys);
+            pendingByKey.values().forEach(Deque::poll);
+            pendingByKey.values().removeIf(Deque::isEmpty);
+        }
+
+        log.info("outbox 이벤트 발행: partition={}, 대상={}, 성공={}", partition, events.size(), published);
+    }
+
+    @Scheduled(cron = "${reservation.outbox.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void cleanup() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        log.info("발행 완료된 outbox 이벤트 정리: count={}", deleted);
+    }
+
+    private void handleSendFailure(OutboxEvent event, Exception e) {
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            event.park(e.getMessage());
+            log.error("outbox 이벤트 최대 시도 초과로 발행 보류: id={}, topic={}, attempts={}",
+                    event.getOutboxEventId(), event.getTopic(), event.getAttempts(), e);
+            return;
+        }
+        event.markFailed(e.getMessage());
+        log.error("outbox 이벤트 발행 실패: id={}, topic={}, attempts={}",
+                event.getOutboxEventId(), event.getTopic(), event.getAttempts(), e);
+    }
+
+    private ProducerRecord<String, Object> toRecord(OutboxEvent event) throws Exception {
+        Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getPayloadType()));
+
+        ProducerRecord<String, Object> record = new ProducerRecord<>(event.getTopic(), event.getMessageKey(), payload);
+        record.headers().add(EVENT_ID_HEADER, event.getOutboxEventId().toString().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(ProducerRecord<String, Object> record) {
+        try {
+            return kafkaTemplate.send(record);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.carenest.business.reservationservice.infrastructure.scheduler;
+
+import com.carenest.business.reservationservice.application.service.ReservationLifecycleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종료된 확정 예약의 자동 완료와 미결제 예약의 만료를 주기적으로 처리한다.
+ * 예약 ID 해시로 나눈 파티션마다 advisory lock 을 잡고 batch-size 건씩 처리하므로
+ * 여러 인스턴스가 동시에 돌아도 같은 파티션을 중복 처리하지 않고, 서로 다른 파티션을 나눠 맡는다.
+ *
+ * 메트릭: reservation.lifecycle.sweep (소요 시간), reservation.lifecycle.processed (처리 건수),
+ * reservation.lifecycle.backlog (스윕 직후 남은 대상 수), 모두 task=complete|expire 태그.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationLifecycleScheduler {
+
+    private static final String TASK_COMPLETE = "complete";
+    private static final String TASK_EXPIRE = "expire";
+
+    private final ReservationLifecycleService reservationLifecycleService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong completionBacklog = new AtomicLong();
+    private final AtomicLong expiryBacklog = new AtomicLong();
+
+    @Value("${reservation.lifecycle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reservation.lifecycle.partitions:4}")
+    private int partitions;
+
+    @Value("${reservation.lifecycle.batch-size:200}")
+    private int batchSize;
+
+    // 한 주기에 파티션당 처리할 최대 배치 수 (남은 건은 다음 주기에 처리)
+    @Value("${reservation.lifecycle.max-batches-per-partition:10}")
+    private int maxBatchesPerPartition;
+
+    @Value("${reservation.lifecycle.payment-timeout:PT30M}")
+    private Duration paymentTimeout;
+
+    private Timer completeTimer;
+    private Timer expireTimer;
+    private Counter completedCounter;
+    private Counter expiredCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        completeTimer = sweepTimer(TASK_COMPLETE);
+        expireTimer = sweepTimer(TASK_EXPIRE);
+        completedCounter = processedCounter(TASK_COMPLETE);
+        expiredCounter = processedCounter(TASK_EXPIRE);
+
+        Gauge.builder("reservation.lifecycle.backlog", completionBacklog, AtomicLong::get)
+                .tag("task", TASK_COMPLETE)
+                .register(meterRegistry);
+        Gauge.builder("reservation.lifecycle.backlog", expiryBacklog, AtomicLong::get)
+                .tag("task", TASK_EXPIRE)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.lifecycle.sweep-interval-ms:60000}",
+            initialDelayString = "${reservation.lifecycle.initial-delay-ms:30000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        completeTimer.record(() -> completedCounter.increment(sweepPartitions(TASK_COMPLETE, now)));
+
+        LocalDateTime deadline = now.minus(paymentTimeout);
+        expireTimer.record(() -> expiredCounter.increment(sweepPartitions(TASK_EXPIRE, deadline)));
+
+        try {
+            completionBacklog.set(reservationLifecycleService.countCompletionBacklog(now));
+            expiryBacklog.set(reservationLifecycleService.countExpiryBacklog(deadline));
+        } catch (Exception e) {
+            log.warn("예약 스윕 잔여 건수 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private int sweepPartitions(String task, LocalDateTime cutoff) {
+        int total = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            try {
+                total += sweepPartition(task, partition, cutoff);
+            } catch (Exception e) {
+                // 한 파티션 실패가 나머지 파티션 처리를 막지 않도록 하고 다음 주기에 재시도
+                log.error("예약 스윕 실패: task={}, partition={}, error={}", task, partition, e.getMessage(), e);
+            }
+        }
+        if (total > 0) {
+            log.info("예약 스윕 완료: task={}, count={}", task, total);
+        }
+        return total;
+    }
+
+    private int sweepPartition(String task, int partition, LocalDateTime cutoff) {
+        int processed = 0;
+        for (int batch = 0; batch < maxBatchesPerPartition; batch++) {
+            int count = TASK_COMPLETE.equals(task) ?
+                    reservationLifecycleService.completeEndedReservations(partition, partitions, cutoff, batchSize) :
+                    reservationLifecycleService.expireUnpaidReservations(partition, partitions, cutoff, batchSize);
+            processed += count;
+
+            // 마지막 배치이거나 다른 인스턴스가 파티션을 처리 중이면 종료
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private Timer sweepTimer(String task) {
+        return Timer.builder("reservation.lifecycle.sweep")
+                .description("예약 자동 완료/만료 스윕 소요 시간")
+                .tag("task", task)
+                .register(meterRegistry);
+    }
+
+    private Counter processedCounter(String task) {
+        return Counter.builder("reservation.lifecycle.processed")
+                .description("예약 자동 완료/만료 처리 건수")
+                .tag("task", task)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,97 @@
+package com.carenest.business.reservationservice.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 예약 이력(p_reservation_history) 월 파티션 관리.
+ * 앞으로 months-ahead 개월치 파티션을 미리 만들어 기본 파티션으로 행이 들어가지 않게 하고,
+ * retention-months 보다 오래된 파티션은 상위 테이블에서 분리해 reservation_archive 스키마로 옮긴다
+ * (분리된 테이블의 백업/삭제는 운영에서 처리). advisory lock 으로 한 인스턴스에서만 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationPartitionMaintenanceJob {
+
+    private static final int LOCK_KEY = 0x52505431; // "RPT1"
+    private static final String PARENT_TABLE = "p_reservation_history";
+    private static final String ARCHIVE_SCHEMA = "reservation_archive";
+    private static final Pattern PARTITION_NAME = Pattern.compile("p_reservation_history_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reservation.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reservation.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 이하이면 분리하지 않는다
+    @Value("${reservation.partition.retention-months:36}")
+    private int retentionMonths;
+
+    @Scheduled(cron = "${reservation.partition.cron:0 30 3 * * *}")
+    @Transactional
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?, 0)", Boolean.class, LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("예약 이력 파티션 관리 작업이 다른 인스턴스에서 실행 중");
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        createPartitions(current);
+        if (retentionMonths > 0) {
+            detachPartitionsBefore(current.minusMonths(retentionMonths));
+        }
+    }
+
+    private void createPartitions(YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String partition = jdbcTemplate.queryForObject(
+                    "SELECT create_reservation_history_partition(?)", String.class, month.atDay(1));
+            log.debug("예약 이력 파티션 확인: {}", partition);
+        }
+    }
+
+    private void detachPartitionsBefore(YearMonth oldestRetained) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'p_reservation_history'::regclass
+                """, String.class);
+
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(oldestRetained)) {
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+            log.info("예약 이력 파티션 분리: partition={}, archive={}", partition, ARCHIVE_SCHEMA);
+        }
+    }
+}
@@ -11,9 +11,5 @@ public interface ExternalServiceClient {
 
     boolean cancelPayment(UUID paymentId, String cancelReason);
 
-    void sendReservationCreatedNotification(UUID userId, String message);
-
-    void sendPaymentCompletedNotification(UUID userId, String message);
-
     CaregiverDetailResponseDto getCaregiverDetail(UUID caregiverId);
 }
\ No newline at end of file
@@ -3,13 +3,10 @@ package com.carenest.business.reservationservice.infrastructure.service;
 import com.carenest.business.common.response.ResponseDto;
 import com.carenest.business.reservationservice.domain.model.Reservation;
 import com.carenest.business.reservationservice.infrastructure.client.CaregiverServiceClient;
-import com.carenest.business.reservationservice.infrastructure.client.NotificationServiceClient;
 import com.carenest.business.reservationservice.infrastructure.client.PaymentServiceClient;
-import com.carenest.business.reservationservice.infrastructure.client.dto.request.NotificationCreateRequestDto;
 import com.carenest.business.reservationservice.infrastructure.client.dto.request.PaymentCreateRequestDto;
 import com.carenest.business.reservationservice.infrastructure.client.dto.response.CaregiverDetailResponseDto;
 import com.carenest.business.reservationservice.infrastructure.client.dto.response.PaymentResponseDto;
-import com.carenest.business.reservationservice.infrastructure.kafka.NotificationEventProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,8 +19,6 @@ import java.util.UUID;
 public class ExternalServiceClientImpl implements ExternalServiceClient {
 
     private final PaymentServiceClient paymentServiceClient;
-    private final NotificationServiceClient notificationServiceClient;
-    private final NotificationEventProducer notificationEventProducer;
     private final CaregiverServiceClient caregiverServiceClient;
 
     @Override
@@ -76,39 +71,6 @@ public class ExternalServiceClientImpl implements ExternalServiceClient {
         }
     }
 
-    @Override
-    public void sendReservationCreatedNotification(UUID userId, String message) {
-        try {
-            log.info("예약 생성 알림 전송 시작: userId={}, message={}", userId, message);
-
-            NotificationCreateRequestDto request = new NotificationCreateRequestDto(userId, message);
-            ResponseDto<?> response = notificationServiceClient.sendReservationCreatedNotification(request);
-
-            if ("success".equals(response.getStatus())) {
-                log.info("알림 전송 성공: userId={}", userId);
-            } else {
-                log.warn("알림 전송 실패: userId={}, status={}", userId, response.getStatus());
-            }
-        } catch (Exception e) {
-            log.error("알림 전송 중 예외 발생: userId={}, error={}", userId, e.getMessage(), e);
-        }
-    }
-
-    @Override
-    public void sendPaymentCompletedNotification(UUID userId, String message) {
-        try {
-            log.info("결제 완료 알림 전송 시작: userId={}", userId);
-            notificationEventProducer.sendNotificationEvent(
-                    userId,
-                    "PAYMENT_SUCCESS",
-                    message
-            );
-            log.info("결제 완료 알림 이벤트 발행 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.error("결제 완료 알림 이벤트 발행 중 예외 발생", e);
-        }
-    }
-
     @Override
     public CaregiverDetailResponseDto getCaregiverDetail(UUID caregiverId) {
         try {
@@ -0,0 +1,59 @@
+package com.carenest.business.reservationservice.presentation.controller;
+
+import com.carenest.business.common.response.ResponseDto;
+import com.carenest.business.reservationservice.application.service.CaregiverCalendarService;
+import com.carenest.business.reservationservice.presentation.dto.response.CaregiverAvailabilityResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Caregiver Availability", description = "간병인 예약 가능 시간 조회 API")
+@SecurityRequirement(name = "bearerAuth")
+public class CaregiverAvailabilityController {
+
+    private final CaregiverCalendarService caregiverCalendarService;
+
+    @Operation(
+            summary = "간병인 가용성 조회",
+            description = "기간(최대 62일) 동안 날짜별로 예약된 30분 슬롯을 비트맵(bit i = i*30분부터의 슬롯)으로 조회합니다. " +
+                    "응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 로 응답합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "가용성 조회 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 조회 기간")
+            }
+    )
+    @GetMapping("/caregivers/{caregiverId}/availability")
+    public ResponseEntity<ResponseDto<CaregiverAvailabilityResponse>> getAvailability(
+            @Parameter(description = "간병인 ID", required = true) @PathVariable UUID caregiverId,
+            @Parameter(description = "조회 시작일", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일 (포함)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        CaregiverAvailabilityResponse availability = caregiverCalendarService.getAvailability(caregiverId, from, to);
+
+        // If-None-Match 가 일치하면 HttpEntityMethodProcessor 가 본문 없이 304 로 응답한다
+        return ResponseEntity.ok()
+                .eTag(availability.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(ResponseDto.success("간병인 가용성 조회 성공", availability));
+    }
+}
@@ -8,7 +8,10 @@ import com.carenest.business.reservationservice.application.dto.request.*;
 import com.carenest.business.reservationservice.application.service.ReservationService;
 import com.carenest.business.reservationservice.domain.model.ReservationStatus;
 import com.carenest.business.reservationservice.exception.UnauthorizedReservationAccessException;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationCursorResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationHistoryResponse;
 import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +21,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -92,7 +96,7 @@ public class ReservationController {
             }
     )
     @GetMapping("/reservations")
-    public ResponseDto<Page<ReservationResponse>> getReservations(
+    public ResponseDto<Page<ReservationSummaryResponse>> getReservations(
             @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
             @Parameter(description = "조회 시작일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "조회 종료일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
@@ -100,28 +104,7 @@ public class ReservationController {
             @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
 
         // ADMIN만 전체 예약 목록 조회 가능
-        if (!authUserInfo.getRole().equals(UserRole.ADMIN)) {
-            // 일반 사용자는 자신과 관련된 예약만 검색 가능하도록 제한
-            if (searchRequest.getGuardianId() != null &&
-                    !searchRequest.getGuardianId().equals(authUserInfo.getUserId())) {
-                throw new UnauthorizedReservationAccessException();
-            }
-
-            if (searchRequest.getCaregiverId() != null &&
-                    !searchRequest.getCaregiverId().equals(authUserInfo.getUserId())) {
-                throw new UnauthorizedReservationAccessException();
-            }
-
-            // 사용자 ID로 필터링 설정
-            if (searchRequest.getGuardianId() == null && searchRequest.getCaregiverId() == null) {
-                // 보호자 또는 간병인 여부
-                if (authUserInfo.getRole().equals(UserRole.GUARDIAN)) {
-                    searchRequest.setGuardianId(authUserInfo.getUserId());
-                } else if (authUserInfo.getRole().equals(UserRole.CAREGIVER)) {
-                    searchRequest.setCaregiverId(authUserInfo.getUserId());
-                }
-            }
-        }
+        applyAccessScope(authUserInfo, searchRequest);
 
         // 날짜 설정이 없으면 요청 파라미터의 값 사용
         if (searchRequest.getStartDate() == null) {
@@ -140,15 +123,41 @@ public class ReservationController {
                 searchRequest.getStartDate() != null ||
                 searchRequest.getEndDate() != null) {
 
-            Page<ReservationResponse> responses = reservationService.searchReservations(searchRequest, pageable);
+            Page<ReservationSummaryResponse> responses = reservationService.searchReservations(searchRequest, pageable);
             return ResponseDto.success("예약 검색 성공", responses);
         }
 
         // ADMIN의 전체 예약 목록 조회
-        Page<ReservationResponse> responses = reservationService.getReservations(startDate, endDate, pageable);
+        Page<ReservationSummaryResponse> responses = reservationService.getReservations(startDate, endDate, pageable);
         return ResponseDto.success("예약 목록 조회 성공", responses);
     }
 
+    @Operation(
+            summary = "예약 목록 커서 조회",
+            description = "createdAt, reservationId 기준 커서로 예약 목록을 조회합니다. OFFSET과 전체 건수 조회 없이 다음 페이지를 이어서 가져옵니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "예약 목록 커서 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+                    @ApiResponse(responseCode = "401", description = "인증 실패"),
+                    @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+            }
+    )
+    @GetMapping("/reservations/cursor")
+    public ResponseDto<ReservationCursorResponse> getReservationsByCursor(
+            @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
+            @Parameter(description = "예약 검색 조건") @ModelAttribute ReservationSearchRequest searchRequest,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "근사 건수 포함 여부") @RequestParam(defaultValue = "false") boolean includeCount) {
+
+        // 일반 사용자는 자신과 관련된 예약만 조회 가능
+        applyAccessScope(authUserInfo, searchRequest);
+
+        ReservationCursorResponse response = reservationService.searchReservationsByCursor(
+                searchRequest, cursor, size, includeCount);
+        return ResponseDto.success("예약 목록 커서 조회 성공", response);
+    }
+
     @Operation(
             summary = "상태별 예약 목록 조회",
             description = "특정 상태의 예약 목록을 조회합니다. 관리자 권한이 필요합니다.",
@@ -159,7 +168,7 @@ public class ReservationController {
             }
     )
     @GetMapping("/reservations/status/{status}")
-    public ResponseDto<Page<ReservationResponse>> getReservationsByStatus(
+    public ResponseDto<Page<ReservationSummaryResponse>> getReservationsByStatus(
             @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
             @Parameter(description = "예약 상태", required = true) @PathVariable ReservationStatus status,
             @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = "createdAt,desc") Pageable pageable) {
@@ -169,7 +178,7 @@ public class ReservationController {
             throw new UnauthorizedReservationAccessException();
         }
 
-        Page<ReservationResponse> responses = reservationService.getReservationsByStatus(status, pageable);
+        Page<ReservationSummaryResponse> responses = reservationService.getReservationsByStatus(status, pageable);
         return ResponseDto.success("상태별 예약 목록 조회 성공", responses);
     }
 
@@ -182,15 +191,15 @@ public class ReservationController {
             }
     )
     @GetMapping("/my/reservations")
-    public ResponseDto<Page<ReservationResponse>> getMyReservations(
+    public ResponseDto<Page<ReservationSummaryResponse>> getMyReservations(
             @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
             @Parameter(description = "조회 시작일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "조회 종료일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = "createdAt,desc") Pageable pageable) {
+            @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
 
         // 토큰에서 추출한 사용자 ID 사용
-        Page<ReservationResponse> responses = reservationService.getUserReservations(
-                authUserInfo.getUserId(), startDate, endDate, pageable);
+        Page<ReservationSummaryResponse> responses = reservationService.getUserReservations(
+                authUserInfo.getUserId(), authUserInfo.getRole(), startDate, endDate, pageable);
         return ResponseDto.success("내 예약 목록 조회 성공", responses);
     }
 
@@ -204,19 +213,20 @@ public class ReservationController {
             }
     )
     @GetMapping("/admin/users/{userId}/reservations")
-    public ResponseDto<Page<ReservationResponse>> getUserReservationsAdmin(
+    public ResponseDto<Page<ReservationSummaryResponse>> getUserReservationsAdmin(
             @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
             @Parameter(description = "사용자 ID", required = true) @PathVariable UUID userId,
             @Parameter(description = "조회 시작일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "조회 종료일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = "createdAt,desc") Pageable pageable) {
+            @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
 
         // ADMIN만 다른 사용자의 예약 목록 조회 가능
         if (!authUserInfo.getRole().equals(UserRole.ADMIN)) {
             throw new UnauthorizedReservationAccessException();
         }
 
-        Page<ReservationResponse> responses = reservationService.getUserReservations(userId, startDate, endDate, pageable);
+        // 조회 대상 사용자의 역할을 알 수 없으므로 보호자/간병인 조건을 함께 사용
+        Page<ReservationSummaryResponse> responses = reservationService.getUserReservations(userId, null, startDate, endDate, pageable);
         return ResponseDto.success("사용자별 예약 목록 조회 성공", responses);
     }
 
@@ -413,7 +423,7 @@ public class ReservationController {
             }
     )
     @GetMapping("/admin/reservations/history")
-    public ResponseDto<Page<ReservationResponse>> getReservationHistory(
+    public ResponseDto<Page<ReservationSummaryResponse>> getReservationHistory(
             @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
             @Parameter(description = "조회 시작일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "조회 종료일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
@@ -424,10 +434,39 @@ public class ReservationController {
             throw new UnauthorizedReservationAccessException();
         }
 
-        Page<ReservationResponse> responses = reservationService.getReservationHistory(startDate, endDate, pageable);
+        Page<ReservationSummaryResponse> responses = reservationService.getReservationHistory(startDate, endDate, pageable);
         return ResponseDto.success("예약 이력 조회 성공", responses);
     }
 
+    @Operation(
+            summary = "예약 타임라인 조회",
+            description = "예약의 상태 변경 이력을 시간순으로 조회합니다. 예약 당사자 또는 관리자만 조회 가능합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "예약 타임라인 조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증 실패"),
+                    @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+                    @ApiResponse(responseCode = "404", description = "예약 정보를 찾을 수 없음")
+            }
+    )
+    @GetMapping("/reservations/{reservationId}/history")
+    public ResponseDto<Slice<ReservationHistoryResponse>> getReservationTimeline(
+            @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
+            @Parameter(description = "예약 ID", required = true) @PathVariable UUID reservationId,
+            @Parameter(description = "페이지 정보") @PageableDefault(size = 20, sort = {"createdAt"}, direction = Sort.Direction.ASC) Pageable pageable) {
+
+        ReservationResponse reservation = reservationService.getReservation(reservationId);
+
+        // 예약 당사자 또는 ADMIN만 조회 가능
+        if (!authUserInfo.getUserId().equals(reservation.getGuardianId()) &&
+                !authUserInfo.getUserId().equals(reservation.getCaregiverId()) &&
+                !authUserInfo.getRole().equals(UserRole.ADMIN)) {
+            throw new UnauthorizedReservationAccessException();
+        }
+
+        Slice<ReservationHistoryResponse> responses = reservationService.getReservationTimeline(reservationId, pageable);
+        return ResponseDto.success("예약 타임라인 조회 성공", responses);
+    }
+
     @Operation(
             summary = "내 예약 이력 조회",
             description = "현재 로그인한 사용자의 예약 이력을 조회합니다.",
@@ -437,15 +476,40 @@ public class ReservationController {
             }
     )
     @GetMapping("/my/reservations/history")
-    public ResponseDto<Page<ReservationResponse>> getMyReservationHistory(
+    public ResponseDto<Page<ReservationSummaryResponse>> getMyReservationHistory(
             @Parameter(hidden = true) @AuthUser AuthUserInfo authUserInfo,
             @Parameter(description = "조회 시작일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "조회 종료일") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = "createdAt,desc") Pageable pageable) {
+            @Parameter(description = "페이지 정보") @PageableDefault(size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
 
         // 토큰에서 추출한 사용자 ID 사용
-        Page<ReservationResponse> responses = reservationService.getUserReservationHistory(
-                authUserInfo.getUserId(), startDate, endDate, pageable);
+        Page<ReservationSummaryResponse> responses = reservationService.getUserReservationHistory(
+                authUserInfo.getUserId(), authUserInfo.getRole(), startDate, endDate, pageable);
         return ResponseDto.success("내 예약 이력 조회 성공", responses);
     }
-}
\ No newline at end of file
+
+    private void applyAccessScope(AuthUserInfo authUserInfo, ReservationSearchRequest searchRequest) {
+        if (!authUserInfo.getRole().equals(UserRole.ADMIN)) {
+            // 일반 사용자는 자신과 관련된 예약만 검색 가능하도록 제한
+            if (searchRequest.getGuardianId() != null &&
+                    !searchRequest.getGuardianId().equals(authUserInfo.getUserId())) {
+                throw new UnauthorizedReservationAccessException();
+            }
+
+            if (searchRequest.getCaregiverId() != null &&
+                    !searchRequest.getCaregiverId().equals(authUserInfo.getUserId())) {
+                throw new UnauthorizedReservationAccessException();
+            }
+
+            // 사용자 ID로 필터링 설정
+            if (searchRequest.getGuardianId() == null && searchRequest.getCaregiverId() == null) {
+                // 보호자 또는 간병인 여부
+                if (authUserInfo.getRole().equals(UserRole.GUARDIAN)) {
+                    searchRequest.setGuardianId(authUserInfo.getUserId());
+                } else if (authUserInfo.getRole().equals(UserRole.CAREGIVER)) {
+                    searchRequest.setCaregiverId(authUserInfo.getUserId());
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.carenest.business.reservationservice.presentation.controller;
 
 import com.carenest.business.common.response.ResponseDto;
+import com.carenest.business.reservationservice.application.service.CaregiverCalendarService;
 import com.carenest.business.reservationservice.application.service.ReservationService;
+import com.carenest.business.reservationservice.presentation.dto.request.CaregiverAvailabilityBulkRequest;
 import com.carenest.business.reservationservice.presentation.dto.request.ReservationAcceptRequest;
+import com.carenest.business.reservationservice.presentation.dto.request.ReservationBulkRequest;
 import com.carenest.business.reservationservice.presentation.dto.request.ReservationRejectRequest;
+import com.carenest.business.reservationservice.presentation.dto.response.CaregiverAvailabilityBulkResponse;
 import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -22,6 +27,7 @@ import java.util.UUID;
 public class ReservationInternalController {
 
     private final ReservationService reservationService;
+    private final CaregiverCalendarService caregiverCalendarService;
 
     @Operation(
             summary = "예약 상세 조회 (내부용)",
@@ -38,6 +44,45 @@ public class ReservationInternalController {
         return ResponseDto.success("예약 정보 조회 성공", reservation);
     }
 
+    @Operation(
+            summary = "예약 일괄 조회 (내부용)",
+            description = "예약 ID 목록(최대 200개)을 한 번에 조회합니다. projection 으로 필요한 필드 묶음만 조회할 수 있습니다 " +
+                    "(FULL: 전체, SCHEDULE: 일정, CARE_DETAIL: 간병 상세). 존재하지 않는 예약은 결과에서 제외됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "예약 정보 일괄 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청")
+            }
+    )
+    @PostMapping("/reservations/bulk")
+    public ResponseDto<Map<UUID, ReservationResponse>> getReservationDetailsBulk(
+            @Parameter(description = "예약 ID 목록 및 조회 필드", required = true) @RequestBody @Valid ReservationBulkRequest request) {
+        Map<UUID, ReservationResponse> reservations = reservationService.getReservationsByIds(
+                request.getReservationIds(),
+                request.getProjection()
+        );
+        return ResponseDto.success("예약 정보 일괄 조회 성공", reservations);
+    }
+
+    @Operation(
+            summary = "간병인 가용성 일괄 조회 (내부용)",
+            description = "간병인 ID 목록(최대 500개) 중 요청 구간에 예약된 30분 슬롯이 있는 간병인과 없는 간병인을 나눠 반환합니다. " +
+                    "간병인 검색에서 예약이 찬 간병인을 걸러낼 때 사용합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "가용성 일괄 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청")
+            }
+    )
+    @PostMapping("/caregivers/availability/bulk")
+    public ResponseDto<CaregiverAvailabilityBulkResponse> getCaregiverAvailabilities(
+            @Parameter(description = "간병인 ID 목록 및 조회 구간", required = true) @RequestBody @Valid CaregiverAvailabilityBulkRequest request) {
+        CaregiverAvailabilityBulkResponse availabilities = caregiverCalendarService.getAvailabilities(
+                request.getCaregiverIds(),
+                request.getStartedAt(),
+                request.getEndedAt()
+        );
+        return ResponseDto.success("간병인 가용성 일괄 조회 성공", availabilities);
+    }
+
     @PostMapping("/reservations/{reservationId}/accept")
     @Operation(
             summary = "예약 수락 (내부용)",
@@ -1,6 +1,8 @@
 package com.carenest.business.reservationservice.presentation.dto.mapper;
 
 import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.model.ReservationHistory;
+import com.carenest.business.reservationservice.presentation.dto.response.ReservationHistoryResponse;
 import com.carenest.business.reservationservice.presentation.dto.response.ReservationResponse;
 import org.springframework.stereotype.Component;
 
@@ -43,4 +45,26 @@ public class ReservationMapper {
 
         return response;
     }
-}
\ No newline at end of file
+
+    public ReservationHistoryResponse toHistoryDto(ReservationHistory history) {
+        if (history == null) {
+            return null;
+        }
+
+        ReservationHistoryResponse response = new ReservationHistoryResponse();
+        response.setReservationHistoryId(history.getReservationHistoryId());
+        response.setReservationId(history.getReservationId());
+        response.setPrevStatus(history.getPrevStatus());
+        response.setStatus(history.getStatus());
+        response.setDescription(history.getDescription());
+        response.setCancelReason(history.getCancelReason());
+        response.setRejectionReason(history.getRejectionReason());
+        response.setCaregiverNote(history.getCaregiverNote());
+        response.setPaymentStatus(history.getPaymentStatus());
+        response.setCreatedBy(history.getCreatedBy());
+        response.setCreatedByRole(history.getCreatedByRole());
+        response.setCreatedAt(history.getCreatedAt());
+
+        return response;
+    }
+}
@@ -0,0 +1,32 @@
+package com.carenest.business.reservationservice.presentation.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaregiverAvailabilityBulkRequest {
+
+    public static final int MAX_SIZE = 500;
+
+    @NotEmpty(message = "간병인 ID 목록은 필수 입력 항목입니다")
+    @Size(max = MAX_SIZE, message = "간병인 ID는 한 번에 최대 500개까지 조회할 수 있습니다")
+    private List<UUID> caregiverIds;
+
+    @NotNull(message = "시작 일시는 필수 입력 항목입니다")
+    private LocalDateTime startedAt;
+
+    @NotNull(message = "종료 일시는 필수 입력 항목입니다")
+    private LocalDateTime endedAt;
+}
@@ -0,0 +1,28 @@
+package com.carenest.business.reservationservice.presentation.dto.request;
+
+import com.carenest.business.reservationservice.domain.repository.ReservationProjection;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBulkRequest {
+
+    public static final int MAX_SIZE = 200;
+
+    @NotEmpty(message = "예약 ID 목록은 필수 입력 항목입니다")
+    @Size(max = MAX_SIZE, message = "예약 ID는 한 번에 최대 200개까지 조회할 수 있습니다")
+    private List<UUID> reservationIds;
+
+    // 생략 시 전체 필드
+    private ReservationProjection projection;
+}
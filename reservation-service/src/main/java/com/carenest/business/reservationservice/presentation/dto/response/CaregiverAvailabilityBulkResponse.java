@@ -0,0 +1,15 @@
+package com.carenest.business.reservationservice.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CaregiverAvailabilityBulkResponse {
+    // 요청 순서를 유지한다
+    private List<UUID> availableCaregiverIds;
+    private List<UUID> busyCaregiverIds;
+}
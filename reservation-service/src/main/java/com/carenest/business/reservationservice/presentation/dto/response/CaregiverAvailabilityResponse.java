@@ -0,0 +1,40 @@
+package com.carenest.business.reservationservice.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CaregiverAvailabilityResponse {
+    private UUID caregiverId;
+    private LocalDate from;
+    private LocalDate to;
+    private int slotMinutes;
+    // from ~ to 의 날짜별 사용 중 슬롯 (bit i = i*slotMinutes 분부터의 슬롯, 예약이 없는 날은 0)
+    private List<Day> days;
+
+    /**
+     * 조회 범위와 슬롯 내용으로 만든 ETag. 내용이 같으면 같은 값이 나와 304 로 응답할 수 있다.
+     */
+    public String etag() {
+        StringBuilder source = new StringBuilder()
+                .append(caregiverId).append(':').append(from).append(':').append(to);
+        for (Day day : days) {
+            source.append(':').append(Long.toHexString(day.getBusySlots()));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private long busySlots;
+    }
+}
@@ -0,0 +1,19 @@
+package com.carenest.business.reservationservice.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReservationCursorResponse {
+    private List<ReservationSummaryResponse> content;
+    private int size;
+    private boolean hasNext;
+    // 다음 페이지 조회 시 그대로 전달하는 커서 (마지막 페이지면 null)
+    private String nextCursor;
+    // includeCount=true 일 때만 채워지는 근사 건수 (countCapped=true 면 하한값)
+    private Long approximateTotal;
+    private boolean countCapped;
+}
@@ -0,0 +1,28 @@
+package com.carenest.business.reservationservice.presentation.dto.response;
+
+import com.carenest.business.reservationservice.domain.model.PaymentStatus;
+import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservationHistoryResponse {
+    private UUID reservationHistoryId;
+    private UUID reservationId;
+    private ReservationStatus prevStatus;
+    private ReservationStatus status;
+    private String description;
+    private String cancelReason;
+    private String rejectionReason;
+    private String caregiverNote;
+    private PaymentStatus paymentStatus;
+    private String createdBy;
+    private String createdByRole;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package com.carenest.business.reservationservice.presentation.dto.response;
+
+import com.carenest.business.reservationservice.domain.model.PaymentStatus;
+import com.carenest.business.reservationservice.domain.model.ReservationStatus;
+import com.carenest.business.reservationservice.domain.model.ServiceType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 목록/검색 응답 항목. 목록에 필요한 컬럼만 조회 쿼리에서 바로 생성한다 (상세는 ReservationResponse).
+ * 필드 순서가 ReservationRepositoryCustomImpl 의 생성자 projection 인자 순서와 같아야 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationSummaryResponse {
+    private UUID reservationId;
+    private UUID guardianId;
+    private String guardianName;
+    private UUID caregiverId;
+    private String caregiverName;
+    private String patientName;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private ServiceType serviceType;
+    private BigDecimal totalAmount;
+    private ReservationStatus status;
+    private PaymentStatus paymentStatus;
+    private LocalDateTime createdAt;
+}
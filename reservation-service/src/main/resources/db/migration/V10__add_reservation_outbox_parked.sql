@@ -0,0 +1,10 @@
+-- 다시 보내도 성공할 수 없는 이벤트(역직렬화 실패, 최대 시도 초과)를 발행 대상에서 빼 두는 표시.
+-- 같은 키의 이후 이벤트가 막히지 않도록 하고, 원인 확인 후 parked_at 을 비우면 다시 발행된다.
+
+ALTER TABLE p_reservation_outbox ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP;
+
+DROP INDEX IF EXISTS idx_reservation_outbox_pending;
+
+CREATE INDEX IF NOT EXISTS idx_reservation_outbox_pending
+    ON p_reservation_outbox (created_at)
+    WHERE published_at IS NULL AND parked_at IS NULL;
@@ -0,0 +1,66 @@
+-- 예약 서비스 기본 스키마 (Reservation, ReservationHistory 엔티티 기준)
+
+CREATE TABLE IF NOT EXISTS p_reservations (
+    reservation_id    UUID           NOT NULL PRIMARY KEY,
+    guardian_id       UUID           NOT NULL,
+    guardian_name     VARCHAR(50),
+    caregiver_id      UUID           NOT NULL,
+    caregiver_name    VARCHAR(50),
+    patient_name      VARCHAR(50)    NOT NULL,
+    patient_age       INTEGER        NOT NULL,
+    patient_gender    VARCHAR(10)    NOT NULL,
+    patient_condition VARCHAR(255)   NOT NULL,
+    care_address      VARCHAR(255)   NOT NULL,
+    started_at        TIMESTAMP(6)   NOT NULL,
+    ended_at          TIMESTAMP(6)   NOT NULL,
+    service_type      VARCHAR(20)    NOT NULL,
+    service_requests  VARCHAR(255)   NOT NULL,
+    total_amount      NUMERIC(10, 2) NOT NULL,
+    service_fee       NUMERIC(10, 2),
+    status            VARCHAR(20)    NOT NULL,
+    accepted_at       TIMESTAMP(6),
+    rejected_at       TIMESTAMP(6),
+    completed_at      TIMESTAMP(6),
+    cancel_reason     VARCHAR(255),
+    rejection_reason  VARCHAR(255),
+    caregiver_note    VARCHAR(255),
+    created_at        TIMESTAMP(6)   NOT NULL,
+    updated_at        TIMESTAMP(6),
+    payment_id        UUID,
+    payment_status    VARCHAR(20)
+);
+
+CREATE TABLE IF NOT EXISTS p_reservation_history (
+    reservation_history_id UUID           NOT NULL PRIMARY KEY,
+    reservation_id         UUID           NOT NULL,
+    guardian_id            UUID           NOT NULL,
+    guardian_name          VARCHAR(50),
+    caregiver_id           UUID           NOT NULL,
+    caregiver_name         VARCHAR(50),
+    patient_name           VARCHAR(50)    NOT NULL,
+    patient_age            INTEGER        NOT NULL,
+    patient_gender         VARCHAR(10)    NOT NULL,
+    patient_condition      VARCHAR(255)   NOT NULL,
+    care_address           VARCHAR(255)   NOT NULL,
+    started_at             TIMESTAMP(6)   NOT NULL,
+    ended_at               TIMESTAMP(6)   NOT NULL,
+    service_type           VARCHAR(20)    NOT NULL,
+    service_requests       VARCHAR(255)   NOT NULL,
+    total_amount           NUMERIC(10, 2) NOT NULL,
+    service_fee            NUMERIC(10, 2),
+    status                 VARCHAR(20)    NOT NULL,
+    prev_status            VARCHAR(20),
+    accepted_at            TIMESTAMP(6),
+    rejected_at            TIMESTAMP(6),
+    completed_at           TIMESTAMP(6),
+    cancel_reason          VARCHAR(255),
+    rejection_reason       VARCHAR(255),
+    caregiver_note         VARCHAR(255),
+    created_at             TIMESTAMP(6)   NOT NULL,
+    updated_at             TIMESTAMP(6),
+    created_by             VARCHAR(50),
+    created_by_role        VARCHAR(20),
+    description            VARCHAR(255),
+    payment_id             UUID,
+    payment_status         VARCHAR(20)
+);
@@ -0,0 +1,60 @@
+-- 간병인 이중 예약 방지: 활성 예약끼리 시간이 겹치면 DB 에서 거부한다.
+-- started_at/ended_at 이 timestamp(without time zone) 이므로 tsrange 를 사용하며,
+-- 기존 애플리케이션 검사와 동일하게 경계가 맞닿는 경우도 겹침으로 본다('[]').
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE p_reservations
+    ADD COLUMN IF NOT EXISTS booked_period TSRANGE
+        GENERATED ALWAYS AS (tsrange(started_at, ended_at, '[]')) STORED;
+
+-- 제약을 걸기 전에 이미 겹쳐 있는 활성 예약을 정리한다.
+-- 결제 전(PENDING_PAYMENT) 예약은 금전 처리 없이 취소할 수 있으므로, 결제·수락된 예약과 겹치거나
+-- 먼저 생성된 결제 전 예약과 겹치면 취소한다.
+UPDATE p_reservations r
+SET status        = 'CANCELLED',
+    cancel_reason = '간병인 일정 중복으로 자동 취소 (V2 마이그레이션)',
+    updated_at    = now()
+WHERE r.status = 'PENDING_PAYMENT'
+  AND EXISTS (
+    SELECT 1
+    FROM p_reservations o
+    WHERE o.caregiver_id = r.caregiver_id
+      AND o.reservation_id <> r.reservation_id
+      AND o.status IN ('PENDING_PAYMENT', 'PENDING_ACCEPTANCE', 'CONFIRMED')
+      AND o.booked_period && r.booked_period
+      AND (o.status <> 'PENDING_PAYMENT'
+        OR (o.created_at, o.reservation_id) < (r.created_at, r.reservation_id))
+  );
+
+-- 결제되었거나 수락된 예약끼리 겹치면 환불/일정 조정이 필요하므로 자동으로 정리하지 않고 중단한다.
+DO $$
+DECLARE
+    conflict_count INTEGER;
+    conflict_sample TEXT;
+BEGIN
+    SELECT count(*), string_agg(pair, ', ')
+    INTO conflict_count, conflict_sample
+    FROM (
+        SELECT a.reservation_id || '/' || b.reservation_id AS pair
+        FROM p_reservations a
+        JOIN p_reservations b
+          ON b.caregiver_id = a.caregiver_id
+         AND b.reservation_id > a.reservation_id
+         AND b.booked_period && a.booked_period
+        WHERE a.status IN ('PENDING_PAYMENT', 'PENDING_ACCEPTANCE', 'CONFIRMED')
+          AND b.status IN ('PENDING_PAYMENT', 'PENDING_ACCEPTANCE', 'CONFIRMED')
+        ORDER BY a.caregiver_id, a.started_at
+    ) conflicts;
+
+    IF conflict_count > 0 THEN
+        RAISE EXCEPTION '간병인 일정이 겹치는 활성 예약 % 쌍이 있어 중복 예약 제약을 추가할 수 없습니다. 예: %',
+            conflict_count, left(conflict_sample, 1000)
+            USING HINT = '겹치는 예약 중 하나를 취소(필요 시 환불)한 뒤 다시 배포하세요.';
+    END IF;
+END $$;
+
+ALTER TABLE p_reservations
+    ADD CONSTRAINT ex_reservations_caregiver_booked_period
+        EXCLUDE USING gist (caregiver_id WITH =, booked_period WITH &&)
+        WHERE (status IN ('PENDING_PAYMENT', 'PENDING_ACCEPTANCE', 'CONFIRMED'));
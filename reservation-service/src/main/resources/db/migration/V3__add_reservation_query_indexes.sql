@@ -0,0 +1,32 @@
+-- ReservationRepository / ReservationHistoryRepository 조회 경로에 맞춘 복합 인덱스.
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성한다 (트랜잭션 밖에서 실행, .conf 참고).
+
+-- 보호자/간병인별 기간 조회 (findByGuardianIdAndStartedAtBetween, findByCaregiverIdAndStartedAtBetween)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_guardian_started
+    ON p_reservations (guardian_id, started_at);
+
+-- 간병인 일정 적재/겹침 확인은 인덱스만으로 처리할 수 있도록 종료 시각과 상태를 포함
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_caregiver_started
+    ON p_reservations (caregiver_id, started_at) INCLUDE (ended_at, status);
+
+-- 상태별 목록 (findByStatus, createdAt 내림차순 정렬)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_status_created
+    ON p_reservations (status, created_at);
+
+-- 기간 전체 조회 (findByStartedAtBetween)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_started
+    ON p_reservations (started_at);
+
+-- 커서 페이지네이션 정렬 키 (createdAt, reservationId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_created_id
+    ON p_reservations (created_at, reservation_id);
+
+-- 예약 이력 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservation_history_reservation_created
+    ON p_reservation_history (reservation_id, created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservation_history_guardian_created
+    ON p_reservation_history (guardian_id, created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservation_history_caregiver_created
+    ON p_reservation_history (caregiver_id, created_at);
@@ -0,0 +1,23 @@
+-- 예약 상태 변경과 같은 트랜잭션에 Kafka 이벤트를 기록하는 transactional outbox.
+-- OutboxRelay 가 published_at 이 비어 있는 행을 생성 순서대로 가져가 발행한다.
+
+CREATE TABLE IF NOT EXISTS p_reservation_outbox (
+    outbox_event_id UUID PRIMARY KEY,
+    topic           VARCHAR(100) NOT NULL,
+    message_key     VARCHAR(100) NOT NULL,
+    payload_type    VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    created_at      TIMESTAMP    NOT NULL,
+    published_at    TIMESTAMP,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500)
+);
+
+-- 미발행 이벤트만 담는 부분 인덱스: 발행 완료 행이 쌓여도 폴링 비용이 늘지 않는다
+CREATE INDEX IF NOT EXISTS idx_reservation_outbox_pending
+    ON p_reservation_outbox (created_at)
+    WHERE published_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_reservation_outbox_published
+    ON p_reservation_outbox (published_at)
+    WHERE published_at IS NOT NULL;
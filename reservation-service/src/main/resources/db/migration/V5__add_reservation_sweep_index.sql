@@ -0,0 +1,4 @@
+-- 종료된 확정 예약 자동 완료 스윕 (status = 'CONFIRMED' AND ended_at < now) 용 인덱스.
+-- 미결제 만료 스윕은 기존 idx_reservations_status_created 를 사용한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_status_ended
+    ON p_reservations (status, ended_at);
@@ -0,0 +1,68 @@
+-- 예약 이력을 created_at 기준 월 단위 선언적 파티션으로 전환한다.
+-- 이력 조회는 모두 created_at 범위(기본 ±1개월) 또는 예약 생성 시각 이후로 한정되므로
+-- 파티션 프루닝으로 해당 월 파티션만 읽고, 오래된 월은 파티션 단위로 분리(detach)해 보관한다.
+--
+-- p_reservations 는 전환하지 않는다: V2 의 간병인 이중 예약 배제 제약(EXCLUDE ... booked_period &&)은
+-- 파티션 키 동등 조건을 포함할 수 없어 파티션 테이블에서 전역으로 유지할 수 없고,
+-- 예약 ID 단건 조회도 모든 파티션을 탐색하게 되기 때문이다.
+
+-- 분리된 파티션 보관용 스키마
+CREATE SCHEMA IF NOT EXISTS reservation_archive;
+
+ALTER TABLE p_reservation_history RENAME TO p_reservation_history_unpartitioned;
+
+-- 기존 테이블 정의(ddl-auto 로 만들어진 스키마 포함)를 그대로 따르고, PK 에 파티션 키를 포함
+CREATE TABLE p_reservation_history (
+    LIKE p_reservation_history_unpartitioned INCLUDING DEFAULTS
+) PARTITION BY RANGE (created_at);
+
+-- 월 파티션 생성 (이미 있으면 건너뜀). ReservationPartitionMaintenanceJob 도 이 함수로 미래 파티션을 만든다
+CREATE OR REPLACE FUNCTION create_reservation_history_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::DATE;
+    v_to   DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'p_reservation_history_y' || to_char(v_from, 'YYYY') || 'm' || to_char(v_from, 'MM');
+BEGIN
+    EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF p_reservation_history FOR VALUES FROM (%L) TO (%L)',
+            v_name, v_from, v_to);
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 데이터의 첫 달부터 3개월 후까지 파티션 생성
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), now()))::DATE
+    INTO v_month
+    FROM p_reservation_history_unpartitioned;
+
+    WHILE v_month <= (date_trunc('month', now()) + INTERVAL '3 months')::DATE LOOP
+        PERFORM create_reservation_history_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+-- 범위 밖 행을 받아 두는 기본 파티션 (유지보수 작업이 미리 월 파티션을 만들므로 평소에는 비어 있음)
+CREATE TABLE p_reservation_history_default PARTITION OF p_reservation_history DEFAULT;
+
+INSERT INTO p_reservation_history
+SELECT * FROM p_reservation_history_unpartitioned;
+
+DROP TABLE p_reservation_history_unpartitioned;
+
+ALTER TABLE p_reservation_history
+    ADD PRIMARY KEY (reservation_history_id, created_at);
+
+-- 상위 테이블에 만든 인덱스는 각 파티션(이후 생성분 포함)에 자동으로 만들어진다
+CREATE INDEX idx_reservation_history_reservation_created
+    ON p_reservation_history (reservation_id, created_at);
+
+CREATE INDEX idx_reservation_history_guardian_created
+    ON p_reservation_history (guardian_id, created_at);
+
+CREATE INDEX idx_reservation_history_caregiver_created
+    ON p_reservation_history (caregiver_id, created_at);
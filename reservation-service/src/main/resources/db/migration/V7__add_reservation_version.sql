@@ -0,0 +1,4 @@
+-- 예약 낙관적 잠금용 버전 컬럼.
+-- 상수 기본값이므로 PostgreSQL 11+ 에서는 테이블 재작성 없이 메타데이터만 변경된다.
+ALTER TABLE p_reservations
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
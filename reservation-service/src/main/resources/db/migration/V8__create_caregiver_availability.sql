@@ -0,0 +1,28 @@
+-- 간병인 가용성 읽기 모델: 간병인/날짜별로 예약된 30분 슬롯 48개를 비트로 담는다
+-- (bit i = i*30분 ~ (i+1)*30분, 예약이 걸친 슬롯은 모두 1). 비어 있는 날은 행을 두지 않는다.
+-- 예약 상태 전이 트랜잭션의 커밋 직전에 영향받은 간병인/날짜만 다시 계산한다.
+CREATE TABLE IF NOT EXISTS p_caregiver_availability (
+    caregiver_id UUID      NOT NULL,
+    slot_date    DATE      NOT NULL,
+    busy_slots   BIGINT    NOT NULL,
+    updated_at   TIMESTAMP NOT NULL,
+    CONSTRAINT pk_caregiver_availability PRIMARY KEY (caregiver_id, slot_date)
+);
+
+-- 아직 끝나지 않은 활성 예약으로 초기 적재
+INSERT INTO p_caregiver_availability (caregiver_id, slot_date, busy_slots, updated_at)
+SELECT r.caregiver_id,
+       d.day::date,
+       bit_or(((1::bigint << (s.last_slot - s.first_slot)) - 1) << s.first_slot),
+       now()
+FROM p_reservations r
+CROSS JOIN LATERAL generate_series(date_trunc('day', r.started_at), r.ended_at, INTERVAL '1 day') AS d(day)
+CROSS JOIN LATERAL (
+    SELECT GREATEST(0, floor(extract(epoch FROM (r.started_at - d.day)) / 1800))::int AS first_slot,
+           LEAST(48, ceil(extract(epoch FROM (r.ended_at - d.day)) / 1800))::int   AS last_slot
+) AS s
+WHERE r.status IN ('PENDING_PAYMENT', 'PENDING_ACCEPTANCE', 'CONFIRMED')
+  AND r.ended_at > CURRENT_DATE
+  AND s.last_slot > s.first_slot
+GROUP BY r.caregiver_id, d.day::date
+ON CONFLICT (caregiver_id, slot_date) DO NOTHING;
@@ -0,0 +1,10 @@
+-- 예약 검색의 환자명 부분 일치 (lower(patient_name) LIKE '%이름%') 용 trigram GIN 인덱스.
+-- 앞에 와일드카드가 붙은 LIKE 는 B-tree 를 쓸 수 없으므로 pg_trgm 으로 후보 행을 좁히고,
+-- 상태/기간 조건은 기존 B-tree 인덱스와 BitmapAnd 로 결합된다.
+-- 3글자 미만 검색어는 trigram 으로 좁힐 수 없어 다른 조건의 인덱스에 의존한다.
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성한다 (트랜잭션 밖에서 실행, .conf 참고).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_patient_name_trgm
+    ON p_reservations USING gin (lower(patient_name) gin_trgm_ops);
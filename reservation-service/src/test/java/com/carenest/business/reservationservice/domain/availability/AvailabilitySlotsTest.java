@@ -0,0 +1,41 @@
+package com.carenest.business.reservationservice.domain.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilitySlotsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void mask_shouldCoverEverySlotTouchedByInterval() {
+        // 10:00 ~ 12:00 → 20 ~ 23 번 슬롯
+        assertEquals(0xFL << 20, AvailabilitySlots.mask(DAY, DAY.atTime(10, 0), DAY.atTime(12, 0)));
+        // 10:15 ~ 10:45 → 부분적으로 걸친 20, 21 번 슬롯
+        assertEquals(0x3L << 20, AvailabilitySlots.mask(DAY, DAY.atTime(10, 15), DAY.atTime(10, 45)));
+    }
+
+    @Test
+    void mask_shouldClipToDayAndSpanMultipleDays() {
+        LocalDateTime start = DAY.atTime(22, 0);
+        LocalDateTime end = DAY.plusDays(1).atTime(1, 0);
+
+        assertEquals(0xFL << 44, AvailabilitySlots.mask(DAY, start, end));
+        assertEquals(0x3L, AvailabilitySlots.mask(DAY.plusDays(1), start, end));
+        assertEquals(0L, AvailabilitySlots.mask(DAY.plusDays(2), start, end));
+        assertEquals((1L << AvailabilitySlots.SLOTS_PER_DAY) - 1,
+                AvailabilitySlots.mask(DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()));
+    }
+
+    @Test
+    void days_shouldExcludeDayEndingAtMidnight() {
+        assertEquals(List.of(DAY), AvailabilitySlots.days(DAY.atTime(9, 0), DAY.plusDays(1).atStartOfDay()));
+        assertEquals(List.of(DAY, DAY.plusDays(1)), AvailabilitySlots.days(DAY.atTime(22, 0), DAY.plusDays(1).atTime(1, 0)));
+        assertTrue(AvailabilitySlots.days(DAY.atTime(9, 0), DAY.atTime(9, 0)).isEmpty());
+    }
+}
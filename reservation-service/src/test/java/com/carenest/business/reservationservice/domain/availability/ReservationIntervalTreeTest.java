@@ -0,0 +1,75 @@
+package com.carenest.business.reservationservice.domain.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void overlaps_shouldDetectIntersectingAndTouchingIntervals() {
+        // given
+        ReservationIntervalTree tree = new ReservationIntervalTree();
+        tree.put(interval(UUID.randomUUID(), 10, 12));
+        tree.put(interval(UUID.randomUUID(), 20, 24));
+
+        // then
+        assertTrue(tree.overlaps(BASE.plusHours(11), BASE.plusHours(13), null));
+        assertTrue(tree.overlaps(BASE.plusHours(12), BASE.plusHours(14), null));
+        assertTrue(tree.overlaps(BASE.plusHours(19), BASE.plusHours(30), null));
+        assertFalse(tree.overlaps(BASE.plusHours(13), BASE.plusHours(19), null));
+        assertFalse(tree.overlaps(BASE.plusHours(25), BASE.plusHours(26), null));
+    }
+
+    @Test
+    void overlaps_shouldIgnoreExcludedReservation() {
+        // given
+        UUID reservationId = UUID.randomUUID();
+        ReservationIntervalTree tree = new ReservationIntervalTree();
+        tree.put(interval(reservationId, 10, 12));
+
+        // then
+        assertFalse(tree.overlaps(BASE.plusHours(11), BASE.plusHours(13), reservationId));
+        assertTrue(tree.overlaps(BASE.plusHours(11), BASE.plusHours(13), UUID.randomUUID()));
+    }
+
+    @Test
+    void putAndRemove_shouldMatchLinearScan() {
+        // given
+        Random random = new Random(42);
+        ReservationIntervalTree tree = new ReservationIntervalTree();
+        List<BookedInterval> intervals = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(10_000);
+            BookedInterval interval = interval(UUID.randomUUID(), start, start + 1 + random.nextInt(48));
+            intervals.add(interval);
+            tree.put(interval);
+        }
+        for (int i = 0; i < 200; i++) {
+            tree.remove(intervals.remove(random.nextInt(intervals.size())).getReservationId());
+        }
+
+        // then
+        assertEquals(intervals.size(), tree.size());
+        for (int i = 0; i < 1_000; i++) {
+            LocalDateTime start = BASE.plusHours(random.nextInt(10_100));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(24));
+            boolean expected = intervals.stream()
+                    .anyMatch(it -> !(end.isBefore(it.getStartedAt()) || start.isAfter(it.getEndedAt())));
+            assertEquals(expected, tree.overlaps(start, end, null));
+        }
+    }
+
+    private BookedInterval interval(UUID reservationId, int startHour, int endHour) {
+        return new BookedInterval(reservationId, BASE.plusHours(startHour), BASE.plusHours(endHour));
+    }
+}
@@ -0,0 +1,180 @@
+package com.carenest.business.reservationservice.domain.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway 마이그레이션을 실제 PostgreSQL 에 적용한 뒤,
+ * 리포지토리 조회 형태가 순차 스캔이 아닌 인덱스 스캔으로 실행되는지 EXPLAIN 으로 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationIndexUsageTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // 시드 이력(2024-12)이 기본 파티션이 아닌 월 파티션에 들어가도록 미리 생성
+            statement.execute("SELECT create_reservation_history_partition(DATE '2024-12-01')");
+            // 보호자 2,000명, 간병인 500명에 대한 예약 20,000건 (겹치지 않도록 간병인별로 하루씩 배치)
+            statement.execute("""
+                    INSERT INTO p_reservations (reservation_id, guardian_id, caregiver_id, patient_name, patient_age,
+                        patient_gender, patient_condition, care_address, started_at, ended_at, service_type,
+                        service_requests, total_amount, status, created_at)
+                    SELECT md5('r' || i)::uuid, md5('g' || (i % 2000))::uuid, md5('c' || (i % 500))::uuid,
+                        '환자' || i, 70, 'MALE', '상태', '주소',
+                        TIMESTAMP '2025-01-01' + (i / 500) * INTERVAL '1 day',
+                        TIMESTAMP '2025-01-01' + (i / 500) * INTERVAL '1 day' + INTERVAL '4 hours',
+                        'HOUR', '요청', 10000,
+                        CASE WHEN i % 100 = 0 THEN 'REJECTED' ELSE 'COMPLETED' END,
+                        TIMESTAMP '2024-12-01' + i * INTERVAL '1 minute'
+                    FROM generate_series(1, 20000) AS i
+                    """);
+            statement.execute("""
+                    INSERT INTO p_reservation_history (reservation_history_id, reservation_id, guardian_id, caregiver_id,
+                        patient_name, patient_age, patient_gender, patient_condition, care_address, started_at,
+                        ended_at, service_type, service_requests, total_amount, status, created_at)
+                    SELECT gen_random_uuid(), reservation_id, guardian_id, caregiver_id, patient_name, patient_age,
+                        patient_gender, patient_condition, care_address, started_at, ended_at, service_type,
+                        service_requests, total_amount, status, created_at
+                    FROM p_reservations
+                    """);
+            statement.execute("ANALYZE p_reservations");
+            statement.execute("ANALYZE p_reservation_history");
+        }
+    }
+
+    @Test
+    void guardianReservationsByPeriod_shouldUseIndex() throws SQLException {
+        assertIndexScan("""
+                SELECT * FROM p_reservations
+                WHERE guardian_id = md5('g1')::uuid
+                  AND started_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2025-02-01'
+                """, "idx_reservations_guardian_started");
+    }
+
+    @Test
+    void caregiverReservationsByPeriod_shouldUseIndex() throws SQLException {
+        assertIndexScan("""
+                SELECT * FROM p_reservations
+                WHERE caregiver_id = md5('c1')::uuid
+                  AND started_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2025-02-01'
+                """, "idx_reservations_caregiver_started");
+    }
+
+    @Test
+    void reservationsByStatus_shouldUseIndex() throws SQLException {
+        assertIndexScan("""
+                SELECT * FROM p_reservations
+                WHERE status = 'REJECTED'
+                ORDER BY created_at DESC
+                LIMIT 10
+                """, "idx_reservations_status_created");
+    }
+
+    @Test
+    void endedReservationsByStatus_shouldUseIndex() throws SQLException {
+        assertIndexScan("""
+                SELECT * FROM p_reservations
+                WHERE status = 'REJECTED' AND ended_at < TIMESTAMP '2025-01-10'
+                ORDER BY ended_at
+                LIMIT 200
+                """, "idx_reservations_status_ended");
+    }
+
+    @Test
+    void patientNameSearch_shouldUseTrigramIndex() throws SQLException {
+        assertIndexScan("""
+                SELECT * FROM p_reservations
+                WHERE lower(patient_name) LIKE '%환자1234%' ESCAPE '!'
+                  AND status = 'COMPLETED'
+                """, "idx_reservations_patient_name_trgm");
+    }
+
+    // 이력은 월 파티션 테이블이므로 해당 월 파티션의 인덱스(상위 인덱스에서 자동 생성)만 읽는지 확인한다
+    @Test
+    void historyByReservation_shouldUseIndex() throws SQLException {
+        assertPartitionIndexScan("""
+                SELECT * FROM p_reservation_history
+                WHERE reservation_id = md5('r1')::uuid
+                  AND created_at >= TIMESTAMP '2024-12-01'
+                ORDER BY created_at
+                """, "p_reservation_history_y2024m12", "p_reservation_history_y2024m12_reservation_id_created_at_idx");
+    }
+
+    @Test
+    void historyByGuardianAndPeriod_shouldUseIndex() throws SQLException {
+        assertPartitionIndexScan("""
+                SELECT * FROM p_reservation_history
+                WHERE guardian_id = md5('g1')::uuid
+                  AND created_at BETWEEN TIMESTAMP '2024-12-01' AND TIMESTAMP '2024-12-31'
+                """, "p_reservation_history_y2024m12", "p_reservation_history_y2024m12_guardian_id_created_at_idx");
+    }
+
+    @Test
+    void historyByCaregiverAndPeriod_shouldUseIndex() throws SQLException {
+        assertPartitionIndexScan("""
+                SELECT * FROM p_reservation_history
+                WHERE caregiver_id = md5('c1')::uuid
+                  AND created_at BETWEEN TIMESTAMP '2024-12-01' AND TIMESTAMP '2024-12-31'
+                """, "p_reservation_history_y2024m12", "p_reservation_history_y2024m12_caregiver_id_created_at_idx");
+    }
+
+    @Test
+    void historyByPeriod_shouldPruneOtherPartitions() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM p_reservation_history
+                WHERE guardian_id = md5('g1')::uuid
+                  AND created_at BETWEEN TIMESTAMP '2024-12-01' AND TIMESTAMP '2024-12-31'
+                """);
+        assertTrue(!plan.contains("p_reservation_history_default"),
+                () -> "기간 밖 파티션을 읽음:\n" + plan);
+    }
+
+    private void assertIndexScan(String query, String indexName) throws SQLException {
+        String plan = explain(query);
+        assertTrue(plan.contains(indexName) && !plan.contains("Seq Scan"),
+                () -> "예상 인덱스(" + indexName + ")를 사용하지 않음:\n" + plan);
+    }
+
+    private void assertPartitionIndexScan(String query, String partition, String indexName) throws SQLException {
+        String plan = explain(query);
+        assertTrue(plan.contains(indexName) && !plan.contains("Seq Scan on " + partition),
+                () -> "파티션(" + partition + ")에서 예상 인덱스(" + indexName + ")를 사용하지 않음:\n" + plan);
+    }
+
+    private String explain(String query) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
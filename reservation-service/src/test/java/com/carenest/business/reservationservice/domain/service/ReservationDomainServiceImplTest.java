@@ -0,0 +1,54 @@
+package com.carenest.business.reservationservice.domain.service;
+
+import com.carenest.business.reservationservice.domain.model.Gender;
+import com.carenest.business.reservationservice.domain.model.Reservation;
+import com.carenest.business.reservationservice.domain.model.ServiceType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationDomainServiceImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    // 금액 검증은 저장소/이벤트를 사용하지 않는다
+    private final ReservationDomainService domainService = new ReservationDomainServiceImpl(null, null, null, null);
+
+    @Test
+    void validateTotalAmount_shouldChargeRoundedUpHours() {
+        // 4시간 30분 → 5시간
+        Reservation reservation = reservation(ServiceType.HOUR, BASE.plusHours(4).plusMinutes(30), "75000", null);
+
+        assertTrue(domainService.validateTotalAmount(reservation, 15000, 200000));
+        assertFalse(domainService.validateTotalAmount(reservation, 14000, 200000));
+    }
+
+    @Test
+    void validateTotalAmount_shouldChargeRoundedUpDaysWithServiceFee() {
+        // 30시간 → 2일, 수수료 포함
+        Reservation reservation = reservation(ServiceType.DAY, BASE.plusHours(30), "410000", "10000");
+
+        assertTrue(domainService.validateTotalAmount(reservation, 15000, 200000));
+        assertFalse(domainService.validateTotalAmount(reservation, 15000, 150000));
+    }
+
+    @Test
+    void validateTotalAmount_shouldSkipWhenPriceNotSet() {
+        Reservation reservation = reservation(ServiceType.DAY, BASE.plusHours(24), "1", null);
+
+        assertTrue(domainService.validateTotalAmount(reservation, 15000, null));
+    }
+
+    private Reservation reservation(ServiceType serviceType, LocalDateTime endedAt, String totalAmount, String serviceFee) {
+        return new Reservation(
+                UUID.randomUUID(), "보호자", UUID.randomUUID(), "간병인",
+                "환자", 70, Gender.MALE, "상태", "주소",
+                BASE, endedAt, serviceType, "요청",
+                new BigDecimal(totalAmount), serviceFee == null ? null : new BigDecimal(serviceFee)
+        );
+    }
+}
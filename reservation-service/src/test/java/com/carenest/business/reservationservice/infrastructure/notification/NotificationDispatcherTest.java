@@ -0,0 +1,70 @@
+package com.carenest.business.reservationservice.infrastructure.notification;
+
+import com.carenest.business.common.event.notification.NotificationEvent;
+import com.carenest.business.reservationservice.infrastructure.kafka.KafkaTopic;
+import com.carenest.business.reservationservice.infrastructure.outbox.OutboxEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private final OutboxEventPublisher outboxEventPublisher = mock(OutboxEventPublisher.class);
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(outboxEventPublisher);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(dispatcher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_shouldCoalesceIntoOutboxBeforeCommit() {
+        UUID guardian = UUID.randomUUID();
+        UUID caregiver = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        dispatcher.dispatch("RESERVATION_CANCELLED", "취소되었습니다", guardian);
+        dispatcher.dispatch("RESERVATION_CANCELLED", "취소되었습니다", caregiver, guardian);
+        dispatcher.dispatch("PAYMENT_SUCCESS", "결제되었습니다", guardian);
+        verifyNoInteractions(outboxEventPublisher);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        ArgumentCaptor<Collection<NotificationEvent>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventPublisher).appendAll(eq(KafkaTopic.NOTIFICATION_EVENT.getTopicName()), captor.capture(), any());
+        List<NotificationEvent> events = new ArrayList<>(captor.getValue());
+        assertEquals(2, events.size());
+        assertEquals(List.of(guardian, caregiver), events.get(0).getReceiverIds());
+        assertEquals(List.of(guardian), events.get(1).getReceiverIds());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_shouldWriteImmediatelyWithoutTransaction() {
+        UUID guardian = UUID.randomUUID();
+
+        dispatcher.dispatch("PAYMENT_SUCCESS", "결제되었습니다", guardian, null);
+
+        verify(outboxEventPublisher).appendAll(eq(KafkaTopic.NOTIFICATION_EVENT.getTopicName()),
+                any(Collection.class), any());
+    }
+}
@@ -0,0 +1,140 @@
+package com.carenest.business.reservationservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final String TOPIC = "reservation-events";
+    private static final String VALID_TYPE = "java.util.LinkedHashMap";
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, kafkaTemplate, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(relay, "partitions", 1);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "sendTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(relay, "maxAttempts", 5);
+    }
+
+    @Test
+    void relay_shouldParkUnreadableEventAndHoldLaterEventsOfSameKey() {
+        OutboxEvent unreadable = event("k", "com.carenest.NotExists");
+        OutboxEvent laterOfSameKey = event("k", VALID_TYPE);
+        OutboxEvent otherKey = event("j", VALID_TYPE);
+        given(unreadable, laterOfSameKey, otherKey);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(succeeded());
+
+        relay.relay();
+
+        assertEquals(List.of("j"), sentKeys());
+        assertNotNull(unreadable.getParkedAt());
+        assertNull(laterOfSameKey.getPublishedAt());
+        assertEquals(0, laterOfSameKey.getAttempts());
+        assertNotNull(otherKey.getPublishedAt());
+    }
+
+    @Test
+    void relay_shouldNotSendLaterEventsOfKeyAfterSendFailure() {
+        OutboxEvent failing = event("k", VALID_TYPE);
+        OutboxEvent laterOfSameKey = event("k", VALID_TYPE);
+        given(failing, laterOfSameKey);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        assertEquals(1, failing.getAttempts());
+        assertNull(failing.getParkedAt());
+        assertNull(laterOfSameKey.getPublishedAt());
+        assertEquals(0, laterOfSameKey.getAttempts());
+    }
+
+    @Test
+    void relay_shouldParkEventAfterMaxAttempts() {
+        ReflectionTestUtils.setField(relay, "maxAttempts", 1);
+        OutboxEvent failing = event("k", VALID_TYPE);
+        given(failing);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        assertNotNull(failing.getParkedAt());
+    }
+
+    @Test
+    void relay_shouldSendEventsOfSameKeyOneAtATimeInOrder() {
+        OutboxEvent first = event("k", VALID_TYPE);
+        OutboxEvent second = event("k", VALID_TYPE);
+        given(first, second);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(succeeded());
+
+        relay.relay();
+
+        assertEquals(List.of("k", "k"), sentKeys());
+        assertNotNull(first.getPublishedAt());
+        assertNotNull(second.getPublishedAt());
+        // 키마다 한 건씩 보내고 결과를 확인하므로 같은 키 두 건이면 두 차례로 나뉜다
+        verify(kafkaTemplate, times(2)).flush();
+    }
+
+    @Test
+    void relay_shouldSkipPartitionLockedByAnotherInstance() {
+        ReflectionTestUtils.setField(relay, "partitions", 2);
+        when(outboxEventRepository.tryAdvisoryXactLock(anyInt(), eq(0))).thenReturn(false);
+        when(outboxEventRepository.tryAdvisoryXactLock(anyInt(), eq(1))).thenReturn(true);
+        when(outboxEventRepository.findPendingForUpdate(anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+
+        relay.relay();
+
+        verify(outboxEventRepository, never()).findPendingForUpdate(eq(0), anyInt(), anyInt());
+        verify(outboxEventRepository).findPendingForUpdate(eq(1), eq(2), anyInt());
+    }
+
+    private void given(OutboxEvent... events) {
+        when(outboxEventRepository.tryAdvisoryXactLock(anyInt(), anyInt())).thenReturn(true);
+        when(outboxEventRepository.findPendingForUpdate(anyInt(), anyInt(), anyInt())).thenReturn(List.of(events));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> sentKeys() {
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, atLeast(0)).send(captor.capture());
+        return captor.getAllValues().stream().map(ProducerRecord::key).toList();
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> succeeded() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static OutboxEvent event(String key, String payloadType) {
+        return new OutboxEvent(UUID.randomUUID(), TOPIC, key, payloadType, "{}");
+    }
+}
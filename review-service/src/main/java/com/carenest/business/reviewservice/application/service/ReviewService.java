@@ -80,7 +80,8 @@ public class ReviewService {
                 .average()
                 .orElse(0.0);
 
-        caregiverRatingProducer.sendReviewUpdateEvent(caregiverId, average);
+        // 간병인 서비스의 인기 순위에서 동점 정렬 기준으로 쓰이도록 리뷰 수도 함께 보낸다
+        caregiverRatingProducer.sendReviewUpdateEvent(caregiverId, average, (long) reviews.size());
     }
 
     // 리뷰 단일 조회
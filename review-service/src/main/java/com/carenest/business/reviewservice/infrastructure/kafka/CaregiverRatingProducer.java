@@ -21,11 +21,12 @@ public class CaregiverRatingProducer {
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
 
-    public void sendReviewUpdateEvent(UUID caregiverId, Double rating){
+    public void sendReviewUpdateEvent(UUID caregiverId, Double rating, Long reviewCount){
 
         CaregiverRatingEvent message = CaregiverRatingEvent.builder()
             .caregiverId(caregiverId)
             .rating(rating)
+            .reviewCount(reviewCount)
             .build();
 
 